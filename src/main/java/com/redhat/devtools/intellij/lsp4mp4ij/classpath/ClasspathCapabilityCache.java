@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project cache which answers "is the Java type X on the classpath of this module" for the Java participants
+ * (diagnostics, code lens, hover, definition, etc) which are enabled only if an annotation / a type exists in the
+ * classpath of the module (ex : <code>org.eclipse.microprofile.faulttolerance.Fallback</code>).
+ *
+ * <ul>
+ * <li>a type found in a JAR dependency is cached until the libraries of the project change.</li>
+ * <li>a type found in a Java source file and a type which is not found are cached until the Java structure of the
+ * project changes (a class is created, deleted, renamed, etc). The update of a method body or of a non Java file
+ * keeps them.</li>
+ * </ul>
+ */
+public final class ClasspathCapabilityCache implements ClasspathResourceChangedManager.Listener {
+
+	public static ClasspathCapabilityCache getInstance(@NotNull Project project) {
+		return project.getService(ClasspathCapabilityCache.class);
+	}
+
+	private enum Capability {
+		BINARY_TYPE,
+		SOURCE_TYPE,
+		NO_TYPE
+	}
+
+	private record CachedCapability(Capability capability, long javaStructureModificationCount) {
+	}
+
+	private final Map<String /* module name */, Map<String /* type name */, CachedCapability>> capabilities = new ConcurrentHashMap<>();
+
+	private final Project project;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private ClasspathCapabilityCache(Project project) {
+		this.project = project;
+		project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+				.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+	}
+
+	/**
+	 * Returns true if the given Java type is on the classpath of the given module and false otherwise.
+	 *
+	 * @param javaProject the module.
+	 * @param typeName    the Java type name (ex : <code>org.eclipse.microprofile.faulttolerance.Fallback</code>).
+	 * @return true if the given Java type is on the classpath of the given module and false otherwise.
+	 */
+	public boolean hasType(@NotNull Module javaProject, @NotNull String typeName) {
+		Map<String, CachedCapability> moduleCapabilities = capabilities.computeIfAbsent(javaProject.getName(),
+				k -> new ConcurrentHashMap<>());
+		long javaStructureModificationCount = getJavaStructureModificationCount();
+		CachedCapability cached = moduleCapabilities.get(typeName);
+		if (cached != null && (cached.capability() == Capability.BINARY_TYPE
+				|| cached.javaStructureModificationCount() == javaStructureModificationCount)) {
+			hitCount.incrementAndGet();
+			return cached.capability() != Capability.NO_TYPE;
+		}
+		missCount.incrementAndGet();
+		PsiClass type = PsiTypeUtils.findType(javaProject, typeName);
+		Capability capability;
+		if (type == null) {
+			capability = Capability.NO_TYPE;
+		} else {
+			capability = type instanceof PsiCompiledElement ? Capability.BINARY_TYPE : Capability.SOURCE_TYPE;
+		}
+		moduleCapabilities.put(typeName, new CachedCapability(capability, javaStructureModificationCount));
+		return capability != Capability.NO_TYPE;
+	}
+
+	/**
+	 * Returns the number of capabilities which have been returned from the cache.
+	 *
+	 * @return the number of capabilities which have been returned from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of capabilities which have been computed because they were not cached.
+	 *
+	 * @return the number of capabilities which have been computed because they were not cached.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public void librariesChanged() {
+		// Some JARs have been added, removed or updated, the classpath of the modules can have changed
+		capabilities.clear();
+	}
+
+	@Override
+	public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+		// Do nothing: a Java file which declares (or doesn't declare anymore) a type changes the Java structure
+		// modification count which invalidates the source and missing types in hasType.
+	}
+
+	private long getJavaStructureModificationCount() {
+		return PsiModificationTracker.getInstance(project).getJavaStructureModificationTracker().getModificationCount();
+	}
+}
@@ -17,6 +17,7 @@ import com.intellij.util.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.isMatchAnnotation;
@@ -24,6 +25,15 @@ import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUt
 /**
  * Abstract class for properties provider based on annotation search.
  *
+ * <p>
+ * When properties are collected by the {@link PropertiesManager}, the annotations of the Java search matches are
+ * resolved once and dispatched to the providers by annotation name (see {@link AnnotationPropertiesProviderDispatcher}),
+ * so {@link #processAnnotation(PsiModifierListOwner, PsiAnnotation, String, SearchContext)} is called directly.
+ * A provider which overrides {@link #collectProperties(PsiModifierListOwner, SearchContext)} or
+ * {@link #processAnnotation(PsiModifierListOwner, SearchContext)} is not dispatched, it is called with
+ * {@link #collectProperties(PsiModifierListOwner, SearchContext)}.
+ * </p>
+ *
  * @see <a href="https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/core/AbstractAnnotationTypeReferencePropertiesProvider.java">https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/core/AbstractAnnotationTypeReferencePropertiesProvider.java</a>
  */
 public abstract class AbstractAnnotationTypeReferencePropertiesProvider extends AbstractPropertiesProvider {
@@ -53,7 +63,7 @@ public abstract class AbstractAnnotationTypeReferencePropertiesProvider extends
 	}
 
 	protected void processAnnotation(PsiModifierListOwner psiElement, SearchContext context) {
-		try {
+		processSafely(psiElement, () -> {
 			String[] names = getAnnotationNames();
 			PsiAnnotation[] annotations = psiElement.getAnnotations();
 			for (PsiAnnotation annotation : annotations) {
@@ -65,6 +75,38 @@ public abstract class AbstractAnnotationTypeReferencePropertiesProvider extends
 					}
 				}
 			}
+		});
+	}
+
+	/**
+	 * Process the given annotations of the Java element which have been matched with the annotation names of this
+	 * provider by the {@link PropertiesManager} dispatcher.
+	 *
+	 * @param psiElement      the Java element.
+	 * @param annotations     the annotations of the Java element which match an annotation name of this provider.
+	 * @param annotationNames the matched annotation names.
+	 * @param context         the search context.
+	 */
+	void processAnnotations(PsiModifierListOwner psiElement, List<PsiAnnotation> annotations, List<String> annotationNames,
+			SearchContext context) {
+		processSafely(psiElement, () -> {
+			for (int i = 0; i < annotations.size(); i++) {
+				context.getMonitor().checkCanceled();
+				processAnnotation(psiElement, annotations.get(i), annotationNames.get(i), context);
+			}
+		});
+	}
+
+	/**
+	 * Run the given processor of the annotations of the given Java element and log the errors (the cancellation
+	 * errors are thrown).
+	 *
+	 * @param psiElement the Java element.
+	 * @param processor  the processor of the annotations of the Java element.
+	 */
+	private static void processSafely(PsiModifierListOwner psiElement, Runnable processor) {
+		try {
+			processor.run();
 		} catch (ProcessCanceledException e) {
 			//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
 			//TODO delete block when minimum required version is 2024.2
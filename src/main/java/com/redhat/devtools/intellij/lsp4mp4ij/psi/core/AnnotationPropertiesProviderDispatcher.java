@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiModifierListOwner;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatcher of the Java search matches to the properties providers.
+ *
+ * <p>
+ * The annotations of a match are resolved once and each annotation is routed with a hash lookup on its qualified name
+ * to the {@link AbstractAnnotationTypeReferencePropertiesProvider} which are registered for this name, instead of
+ * letting each provider resolve and compare all the annotations of the match. The other providers, and the annotation
+ * providers which override the collect of the properties of a match, are called with
+ * {@link IPropertiesProvider#collectProperties(PsiModifierListOwner, SearchContext)}.
+ * </p>
+ */
+class AnnotationPropertiesProviderDispatcher {
+
+    /**
+     * Annotation name of an annotation properties provider.
+     */
+    private static class Route {
+
+        private final int providerIndex;
+
+        private final String annotationName;
+
+        private Route(int providerIndex, String annotationName) {
+            this.providerIndex = providerIndex;
+            this.annotationName = annotationName;
+        }
+    }
+
+    /**
+     * Annotations of a Java search match which are processed by the annotation properties providers.
+     */
+    static class ResolvedAnnotations {
+
+        private final List<PsiAnnotation>[] annotations;
+
+        private final List<String>[] annotationNames;
+
+        @SuppressWarnings("unchecked")
+        private ResolvedAnnotations(int providerCount) {
+            this.annotations = new List[providerCount];
+            this.annotationNames = new List[providerCount];
+        }
+
+        private void add(int providerIndex, PsiAnnotation annotation, String annotationName) {
+            if (annotations[providerIndex] == null) {
+                annotations[providerIndex] = new ArrayList<>();
+                annotationNames[providerIndex] = new ArrayList<>();
+            } else if (annotations[providerIndex].get(annotations[providerIndex].size() - 1) == annotation) {
+                // The provider processes an annotation only with its first matching name
+                return;
+            }
+            annotations[providerIndex].add(annotation);
+            annotationNames[providerIndex].add(annotationName);
+        }
+    }
+
+    private final List<IPropertiesProvider> providers;
+
+    private final boolean[] dispatched;
+
+    private final Map<String, List<Route>> routesByQualifiedName = new HashMap<>();
+
+    private final Map<String, List<Route>> routesBySimpleName = new HashMap<>();
+
+    AnnotationPropertiesProviderDispatcher(@NotNull List<IPropertiesProvider> providers) {
+        this.providers = providers;
+        this.dispatched = new boolean[providers.size()];
+        for (int providerIndex = 0; providerIndex < providers.size(); providerIndex++) {
+            if (providers.get(providerIndex) instanceof AbstractAnnotationTypeReferencePropertiesProvider provider
+                    && !overridesCollect(provider.getClass())) {
+                dispatched[providerIndex] = true;
+                String[] names = provider.getAnnotationNames();
+                if (names == null) {
+                    continue;
+                }
+                for (String annotationName : names) {
+                    Route route = new Route(providerIndex, annotationName);
+                    routesByQualifiedName.computeIfAbsent(annotationName, k -> new ArrayList<>()).add(route);
+                    routesBySimpleName.computeIfAbsent(getSimpleName(annotationName), k -> new ArrayList<>()).add(route);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolve the annotations of the given Java search match and returns them grouped by annotation properties provider.
+     *
+     * @param psiMember the Java search match.
+     * @return the annotations of the given Java search match grouped by annotation properties provider.
+     */
+    @NotNull ResolvedAnnotations resolveAnnotations(@NotNull PsiModifierListOwner psiMember) {
+        ResolvedAnnotations resolved = new ResolvedAnnotations(providers.size());
+        if (routesByQualifiedName.isEmpty()) {
+            return resolved;
+        }
+        for (PsiAnnotation annotation : psiMember.getAnnotations()) {
+            // Fast path: the annotation is resolved only if its short name is the name of a registered annotation
+            PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            String shortName = reference != null ? reference.getReferenceName() : null;
+            if (shortName == null || !routesBySimpleName.containsKey(shortName)) {
+                continue;
+            }
+            String qualifiedName = annotation.getQualifiedName();
+            if (qualifiedName == null) {
+                continue;
+            }
+            List<Route> routes = routesByQualifiedName.get(qualifiedName);
+            if (routes == null && qualifiedName.indexOf('.') == -1) {
+                // The annotation cannot be resolved (ex : missing import), match it with its simple name
+                routes = routesBySimpleName.get(qualifiedName);
+            }
+            if (routes != null) {
+                for (Route route : routes) {
+                    resolved.add(route.providerIndex, annotation, route.annotationName);
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Collect the properties of the given Java search match with the provider of the given index.
+     *
+     * @param providerIndex the provider index.
+     * @param psiMember     the Java search match.
+     * @param annotations   the annotations of the Java search match resolved with {@link #resolveAnnotations(PsiModifierListOwner)}.
+     * @param context       the search context.
+     */
+    void collectProperties(int providerIndex, @NotNull PsiModifierListOwner psiMember,
+                           @NotNull ResolvedAnnotations annotations, @NotNull SearchContext context) {
+        IPropertiesProvider provider = providers.get(providerIndex);
+        if (dispatched[providerIndex]) {
+            AbstractAnnotationTypeReferencePropertiesProvider annotationProvider = (AbstractAnnotationTypeReferencePropertiesProvider) provider;
+            List<PsiAnnotation> providerAnnotations = annotations.annotations[providerIndex];
+            if (providerAnnotations != null) {
+                annotationProvider.processAnnotations(psiMember, providerAnnotations,
+                        annotations.annotationNames[providerIndex], context);
+            }
+        } else {
+            provider.collectProperties(psiMember, context);
+        }
+    }
+
+    /**
+     * Returns true if the given annotation provider class overrides the collect of the properties of a match
+     * (collectProperties or processAnnotation for a match) and false otherwise.
+     */
+    private static boolean overridesCollect(Class<?> providerClass) {
+        for (Class<?> clazz = providerClass; clazz != AbstractAnnotationTypeReferencePropertiesProvider.class; clazz = clazz.getSuperclass()) {
+            for (String methodName : new String[]{"collectProperties", "processAnnotation"}) {
+                try {
+                    clazz.getDeclaredMethod(methodName, PsiModifierListOwner.class, SearchContext.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // The method is not overridden by this class
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String getSimpleName(String annotationName) {
+        int index = annotationName.lastIndexOf('.');
+        return index != -1 ? annotationName.substring(index + 1) : annotationName;
+    }
+}
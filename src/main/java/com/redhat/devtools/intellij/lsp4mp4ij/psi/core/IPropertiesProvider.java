@@ -10,8 +10,11 @@
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.openapi.extensions.ExtensionPointName;
+import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.util.Query;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 
 /**
  * Properties provider API.
@@ -51,4 +54,57 @@ public interface IPropertiesProvider {
 	 * @param context the search context.
 	 */
 	void collectProperties(PsiModifierListOwner match, SearchContext context);
+
+	/**
+	 * Returns true if {@link #collectProperties(PsiModifierListOwner, SearchContext)} can be called concurrently
+	 * for several Java search matches and false otherwise.
+	 *
+	 * <p>
+	 * It is the case when the collected properties only depend on the given match (not on the matches collected
+	 * before) and when the search context is only read (the state initialized in
+	 * {@link #beginSearch(SearchContext)} must not be updated).
+	 * </p>
+	 *
+	 * @return true if {@link #collectProperties(PsiModifierListOwner, SearchContext)} can be called concurrently
+	 * for several Java search matches and false otherwise.
+	 */
+	default boolean isConcurrentCollectSupported() {
+		return false;
+	}
+
+	/**
+	 * Returns true if the properties collected from a Java search match of a JAR can depend on the other JARs of the
+	 * classpath of the module (ex : a type resolved in the classpath of the module) and false if they only depend on
+	 * the JAR.
+	 *
+	 * <p>
+	 * The properties collected from a JAR are cached by the JAR content, and with the classpath of the module too
+	 * for the providers which are classpath dependent.
+	 * </p>
+	 *
+	 * @return true if the properties collected from a Java search match of a JAR can depend on the other JARs of the
+	 * classpath of the module and false otherwise.
+	 */
+	default boolean isClasspathDependent() {
+		return false;
+	}
+
+	/**
+	 * Returns the documentation of the property declared by the given field or
+	 * method and null if this provider doesn't manage it.
+	 *
+	 * <p>
+	 * This method is called when the properties have been collected without
+	 * documentation (see {@link SearchContext#isLazyDocumentation()}) and when the
+	 * documentation must be resolved from the property source.
+	 * </p>
+	 *
+	 * @param member         the field or method which declares the property.
+	 * @param documentFormat the document format.
+	 * @param utils          the PSI utilities.
+	 * @return the documentation of the property and null otherwise.
+	 */
+	default String getPropertyDocumentation(PsiMember member, DocumentFormat documentFormat, IPsiUtils utils) {
+		return null;
+	}
 }
@@ -12,6 +12,7 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
@@ -19,17 +20,25 @@ import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
+import com.intellij.util.ExceptionUtil;
 import com.intellij.util.UniqueResultsQuery;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.LibraryPropertiesCache;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollectorRecorder;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.SourcePropertiesCache;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertyProviderExtensionPointBean;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import com.redhat.devtools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4mp.commons.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +46,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +71,19 @@ public class PropertiesManager {
 
     private static final PropertiesManager INSTANCE = new PropertiesManager();
 
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final ExecutorService COLLECT_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("MicroProfile properties collector", PARALLELISM);
+
+    /**
+     * Number of Java search matches processed by a batch when the properties are collected in parallel.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private volatile boolean parallelCollect = true;
+
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
+
     public static PropertiesManager getInstance() {
         return INSTANCE;
     }
@@ -94,20 +123,57 @@ public class PropertiesManager {
                 + "'");
         long startTime = System.currentTimeMillis();
         boolean excludeTestCode = classpathKind == ClasspathKind.SRC;
+        boolean lazyDocumentation = UserDefinedMicroProfileSettings.getInstance(module.getProject()).isLazyPropertyDocumentationEnabled();
+        // The cached properties depend on the documentation which has been collected
+        String documentationKey = lazyDocumentation ? documentFormat + "#lazy" : String.valueOf(documentFormat);
         PropertiesCollector collector = new PropertiesCollector(info, scopes);
         SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST);
-        SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat, monitor);
-        Query<PsiModifierListOwner> query = createSearchQuery(context, monitor);
-        if (query != null) {
-            try {
-                beginSearch(context, monitor);
-                for (PsiModifierListOwner psiMember : query.findAll()) {
-                    // Check if the operation has been cancelled
-                    monitor.checkCanceled();
-                    collectProperties(psiMember, context, monitor);
+        if (isIncrementalSearch(module, scopes)) {
+            collectSourcePropertiesIncrementally(module, scope, collector, scopes, classpathKind, utils, documentFormat,
+                    lazyDocumentation, documentationKey, monitor);
+        } else {
+            // The properties of the JARs which have already been searched are loaded from the cache
+            LibraryPropertiesCache.Search librarySearch = null;
+            IPropertiesCollector contextCollector = collector;
+            if (scopes.contains(MicroProfilePropertiesScope.dependencies) && scope instanceof GlobalSearchScope) {
+                librarySearch = LibraryPropertiesCache.getInstance().beginSearch(module, documentationKey, scopes);
+                librarySearch.setTarget(collector);
+                scope = librarySearch.restrict((GlobalSearchScope) scope);
+                contextCollector = librarySearch.getCollector();
+            }
+            SearchContext context = new SearchContext(module, scope, contextCollector, utils, documentFormat,
+                    lazyDocumentation, monitor);
+            Query<PsiModifierListOwner> query = createSearchQuery(context, monitor);
+            if (query != null) {
+                try {
+                    beginSearch(context, monitor);
+                    LibraryPropertiesCache.Search search = librarySearch;
+                    collectProperties(query, context, search == null ? MatchHandler.ALL : new MatchHandler() {
+                        @Override
+                        public boolean accept(PsiModifierListOwner match) {
+                            // When the properties of the JAR of the match are cached, the match is ignored
+                            return !search.isCached(match);
+                        }
+
+                        @Override
+                        public void beginMatch(PsiModifierListOwner match) {
+                            search.setCurrentMatch(match);
+                        }
+
+                        @Override
+                        public void beginProvider(IPropertiesProvider provider) {
+                            search.setCurrentProvider(provider);
+                        }
+                    }, monitor);
+                    if (librarySearch != null) {
+                        librarySearch.mergeTo(collector);
+                    }
+                } finally {
+                    endSearch(context, monitor);
+                }
+                if (librarySearch != null) {
+                    librarySearch.endSearch();
                 }
-            } finally {
-                endSearch(context, monitor);
             }
         }
         LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
@@ -120,6 +186,66 @@ public class PropertiesManager {
         return info;
     }
 
+    /**
+     * Returns true if the properties of the given scopes can be collected with the Java source files contributions
+     * cache and false otherwise.
+     *
+     * <p>
+     * The cache is updated with the Java files changes tracked by {@link ClasspathResourceChangedManager}, so it
+     * can be used only when this manager is listening.
+     * </p>
+     */
+    private static boolean isIncrementalSearch(@NotNull Module module, List<MicroProfilePropertiesScope> scopes) {
+        return MicroProfilePropertiesScope.isOnlySources(scopes)
+                && module.getProject().getServiceIfCreated(ClasspathResourceChangedManager.class) != null;
+    }
+
+    /**
+     * Collect the properties of the Java source files of the given module by searching only the Java files which
+     * have changed since the last search and by reusing the cached properties of the other files.
+     */
+    private void collectSourcePropertiesIncrementally(@NotNull Module module, SearchScope scope, PropertiesCollector collector,
+                                                      List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind,
+                                                      IPsiUtils utils, DocumentFormat documentFormat,
+                                                      boolean lazyDocumentation, String documentationKey,
+                                                      ProgressIndicator monitor) {
+        SourcePropertiesCache cache = PsiMicroProfileProjectManager.getInstance(module.getProject())
+                .getMicroProfileProject(module)
+                .getSourcePropertiesCache();
+        String contextKey = classpathKind.name() + '#' + documentationKey;
+        SourcePropertiesCache.Update update = cache.beginUpdate(contextKey, scopes, module.getProject());
+        if (!update.isFullUpdate()) {
+            scope = scope.intersectWith(GlobalSearchScope.filesScope(module.getProject(), update.getChangedFiles()));
+        }
+        SearchContext context = new SearchContext(module, scope, update.getCollector(), utils, documentFormat,
+                lazyDocumentation, monitor);
+        try {
+            beginSearch(context, monitor);
+            Query<PsiModifierListOwner> query = update.hasNothingToSearch() ? null : createSearchQuery(context, monitor);
+            if (query != null) {
+                collectProperties(query, context, new MatchHandler() {
+                    @Override
+                    public boolean accept(PsiModifierListOwner match) {
+                        return true;
+                    }
+
+                    @Override
+                    public void beginMatch(PsiModifierListOwner match) {
+                        update.setCurrentMatch(match);
+                    }
+                }, monitor);
+            }
+            update.mergeTo(collector);
+        } finally {
+            endSearch(context, monitor);
+        }
+        cache.endUpdate(update);
+        if (!update.isFullUpdate()) {
+            LOGGER.info("Searched MicroProfile properties in " + update.getChangedFiles().size()
+                    + " changed Java file(s) for '" + module.getName() + "'.");
+        }
+    }
+
     private void beginSearch(SearchContext context, ProgressIndicator monitor) {
         for (IPropertiesProvider provider : getPropertiesProviders()) {
             monitor.checkCanceled();
@@ -134,13 +260,225 @@ public class PropertiesManager {
         }
     }
 
-    private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
+    /**
+     * Handler of the Java search matches whose properties are collected.
+     */
+    private interface MatchHandler {
+
+        /**
+         * Handler which collects the properties of all the matches.
+         */
+        MatchHandler ALL = new MatchHandler() {
+            @Override
+            public boolean accept(PsiModifierListOwner match) {
+                return true;
+            }
+
+            @Override
+            public void beginMatch(PsiModifierListOwner match) {
+            }
+        };
+
+        /**
+         * Returns true if the properties of the given match must be collected and false if the match must be ignored.
+         * This method must not have side effects.
+         *
+         * @param match the Java search match.
+         * @return true if the properties of the given match must be collected and false otherwise.
+         */
+        boolean accept(PsiModifierListOwner match);
+
+        /**
+         * Called once before the properties of the given accepted match are collected in the search context.
+         *
+         * @param match the Java search match.
+         */
+        void beginMatch(PsiModifierListOwner match);
+
+        /**
+         * Called before the given provider collects the properties of the current match in the search context.
+         *
+         * @param provider the properties provider.
+         */
+        default void beginProvider(IPropertiesProvider provider) {
+        }
+    }
+
+    /**
+     * Collect the properties of the Java search matches of the given query.
+     *
+     * @param query        the Java search query.
+     * @param context      the search context.
+     * @param matchHandler the handler which filters the matches and which is notified before collecting the properties of a match.
+     * @param monitor      the progress monitor.
+     */
+    private void collectProperties(Query<PsiModifierListOwner> query, SearchContext context,
+                                   MatchHandler matchHandler, ProgressIndicator monitor) {
+        List<IPropertiesProvider> providers = getPropertiesProviders();
+        AnnotationPropertiesProviderDispatcher dispatcher = new AnnotationPropertiesProviderDispatcher(providers);
+        if (!isParallelCollect(providers)) {
+            for (PsiModifierListOwner psiMember : query.findAll()) {
+                // Check if the operation has been cancelled
+                monitor.checkCanceled();
+                if (matchHandler.accept(psiMember)) {
+                    matchHandler.beginMatch(psiMember);
+                    collectProperties(psiMember, context, matchHandler, providers, dispatcher, monitor);
+                }
+            }
+            return;
+        }
+        List<PsiModifierListOwner> matches = new ArrayList<>();
+        for (PsiModifierListOwner psiMember : query.findAll()) {
             monitor.checkCanceled();
-            provider.collectProperties(psiMember, context);
+            if (matchHandler.accept(psiMember)) {
+                matches.add(psiMember);
+            }
+        }
+        int batchSize = this.batchSize;
+        if (matches.size() <= batchSize) {
+            for (PsiModifierListOwner psiMember : matches) {
+                monitor.checkCanceled();
+                matchHandler.beginMatch(psiMember);
+                collectProperties(psiMember, context, matchHandler, providers, dispatcher, monitor);
+            }
+            return;
+        }
+        collectPropertiesInParallel(matches, batchSize, context, matchHandler, providers, dispatcher, monitor);
+    }
+
+    private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, MatchHandler matchHandler,
+                                   List<IPropertiesProvider> providers, AnnotationPropertiesProviderDispatcher dispatcher,
+                                   ProgressIndicator monitor) {
+        // The annotations of the match are resolved once for all the annotation properties providers
+        AnnotationPropertiesProviderDispatcher.ResolvedAnnotations annotations = dispatcher.resolveAnnotations(psiMember);
+        for (int providerIndex = 0; providerIndex < providers.size(); providerIndex++) {
+            monitor.checkCanceled();
+            matchHandler.beginProvider(providers.get(providerIndex));
+            dispatcher.collectProperties(providerIndex, psiMember, annotations, context);
+        }
+    }
+
+    private boolean isParallelCollect(List<IPropertiesProvider> providers) {
+        return parallelCollect && providers.stream().anyMatch(IPropertiesProvider::isConcurrentCollectSupported);
+    }
+
+    /**
+     * Collect the properties of the given Java search matches by calling the providers which support it
+     * (see {@link IPropertiesProvider#isConcurrentCollectSupported()}) in parallel for batches of matches.
+     *
+     * <p>
+     * Each batch is processed in a non-blocking read action with its own collector which records the collected
+     * properties. The records are then replayed in the search collector in the order of the matches and of the providers,
+     * (the other providers are called at this step), so the result is the same as the serial collect.
+     * </p>
+     */
+    private void collectPropertiesInParallel(List<PsiModifierListOwner> matches, int batchSize, SearchContext context,
+                                             MatchHandler matchHandler, List<IPropertiesProvider> providers,
+                                             AnnotationPropertiesProviderDispatcher dispatcher, ProgressIndicator monitor) {
+        int batchCount = (matches.size() + batchSize - 1) / batchSize;
+        PropertiesCollectorRecorder[] recorders = new PropertiesCollectorRecorder[batchCount];
+        Queue<Integer> pendingBatches = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < batchCount; i++) {
+            pendingBatches.add(i);
+        }
+        CountDownLatch processedBatches = new CountDownLatch(batchCount);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        Runnable batchesProcessor = () -> {
+            Integer batch;
+            while (!stopped.get() && !monitor.isCanceled() && (batch = pendingBatches.poll()) != null) {
+                try {
+                    recorders[batch] = collectBatchProperties(matches, batch, batchSize, context, providers, dispatcher);
+                    processedBatches.countDown();
+                } catch (ProcessCanceledException e) {
+                    // The read action has been canceled (ex : a write action is pending), the batch will be processed again
+                    pendingBatches.add(batch);
+                    throw e;
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                    processedBatches.countDown();
+                }
+            }
+        };
+        int workers = Math.min(batchCount - 1, PARALLELISM);
+        for (int i = 0; i < workers; i++) {
+            COLLECT_EXECUTOR.execute(() -> ReadAction.nonBlocking(() -> {
+                batchesProcessor.run();
+                return null;
+            }).executeSynchronously());
+        }
+        try {
+            // The search thread holds the read lock: it processes batches too and the batches of the workers which
+            // cannot acquire the read lock (or which have been canceled) to avoid waiting for them.
+            do {
+                monitor.checkCanceled();
+                batchesProcessor.run();
+            } while (!processedBatches.await(10, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException(e);
+        } finally {
+            stopped.set(true);
+        }
+        if (error.get() != null) {
+            ExceptionUtil.rethrowUnchecked(error.get());
+            throw new RuntimeException(error.get());
+        }
+        // Replay the collected properties in the order of the serial collect
+        for (int matchIndex = 0; matchIndex < matches.size(); matchIndex++) {
+            PsiModifierListOwner psiMember = matches.get(matchIndex);
+            matchHandler.beginMatch(psiMember);
+            PropertiesCollectorRecorder recorder = recorders[matchIndex / batchSize];
+            AnnotationPropertiesProviderDispatcher.ResolvedAnnotations annotations = null;
+            for (int providerIndex = 0; providerIndex < providers.size(); providerIndex++) {
+                monitor.checkCanceled();
+                IPropertiesProvider provider = providers.get(providerIndex);
+                matchHandler.beginProvider(provider);
+                if (provider.isConcurrentCollectSupported()) {
+                    recorder.replay(matchIndex, providerIndex, context.getCollector());
+                } else {
+                    if (annotations == null) {
+                        annotations = dispatcher.resolveAnnotations(psiMember);
+                    }
+                    dispatcher.collectProperties(providerIndex, psiMember, annotations, context);
+                }
+            }
         }
     }
 
+    private static PropertiesCollectorRecorder collectBatchProperties(List<PsiModifierListOwner> matches, int batch, int batchSize,
+                                                                      SearchContext context, List<IPropertiesProvider> providers,
+                                                                      AnnotationPropertiesProviderDispatcher dispatcher) {
+        PropertiesCollectorRecorder recorder = new PropertiesCollectorRecorder();
+        SearchContext batchContext = new SearchContext(context, recorder);
+        int end = Math.min(matches.size(), (batch + 1) * batchSize);
+        for (int matchIndex = batch * batchSize; matchIndex < end; matchIndex++) {
+            PsiModifierListOwner psiMember = matches.get(matchIndex);
+            AnnotationPropertiesProviderDispatcher.ResolvedAnnotations annotations = dispatcher.resolveAnnotations(psiMember);
+            for (int providerIndex = 0; providerIndex < providers.size(); providerIndex++) {
+                IPropertiesProvider provider = providers.get(providerIndex);
+                if (provider.isConcurrentCollectSupported()) {
+                    context.getMonitor().checkCanceled();
+                    recorder.startSegment(matchIndex, providerIndex);
+                    dispatcher.collectProperties(providerIndex, psiMember, annotations, batchContext);
+                }
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * Enable / disable the parallel collect of properties.
+     *
+     * @param parallelCollect true if the properties providers must be called in parallel for batches of Java search matches.
+     * @param batchSize       the number of Java search matches processed by a batch.
+     */
+    @TestOnly
+    void setParallelCollect(boolean parallelCollect, int batchSize) {
+        this.parallelCollect = parallelCollect;
+        this.batchSize = batchSize;
+    }
+
     private static MicroProfileProjectInfo createInfo(Module module, ClasspathKind classpathKind) {
         MicroProfileProjectInfo info = new MicroProfileProjectInfo();
         info.setProjectURI(PsiUtilsLSImpl.getProjectURI(module));
@@ -236,6 +574,75 @@ public class PropertiesManager {
         return null;
     }
 
+    // ---------------------------------- Properties documentation
+
+    public String getPropertyDocumentation(MicroProfilePropertyDocumentationParams params, IPsiUtils utils) {
+        try {
+            VirtualFile file = utils.findFile(params.getUri());
+            if (file == null) {
+                throw new UnsupportedOperationException(String.format("Cannot find IFile for '%s'", params.getUri()));
+            }
+            Module module = utils.getModule(file);
+            if (module == null) {
+                return null;
+            }
+            return getPropertyDocumentation(module, params.getSourceType(), params.getSourceField(),
+                    params.getSourceMethod(), params.getDocumentFormat(), utils);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the documentation of the property declared by the given source and null otherwise.
+     *
+     * <p>
+     * The documentation is resolved by the properties providers (ex : from the
+     * <code>META-INF/quarkus-javadoc.properties</code> of a Quarkus extension) or from the Javadoc of the
+     * source method, and cached until the Java sources or the libraries of the module change.
+     * </p>
+     *
+     * @param module         the Java project
+     * @param sourceType     the source type (class or interface)
+     * @param sourceField    the source field and null otherwise.
+     * @param sourceMethod   the source method and null otherwise.
+     * @param documentFormat the document format.
+     * @param utils          the PSI utilities.
+     * @return the documentation of the property declared by the given source and null otherwise.
+     */
+    public String getPropertyDocumentation(Module module, String sourceType, String sourceField, String sourceMethod,
+                                           DocumentFormat documentFormat, IPsiUtils utils) {
+        if (sourceType == null) {
+            return null;
+        }
+        return PsiMicroProfileProjectManager.getInstance(module.getProject())
+                .getMicroProfileProject(module)
+                .getPropertyDocumentationCache()
+                .getDocumentation(sourceType, sourceField, sourceMethod, documentFormat, () -> ReadAction
+                        .compute(() -> loadPropertyDocumentation(module, sourceType, sourceField, sourceMethod,
+                                documentFormat, utils)));
+    }
+
+    private String loadPropertyDocumentation(Module module, String sourceType, String sourceField,
+                                             String sourceMethod, DocumentFormat documentFormat, IPsiUtils utils) {
+        PsiMember fieldOrMethod = findDeclaredProperty(module, sourceType, sourceField, sourceMethod, utils);
+        if (fieldOrMethod == null) {
+            return null;
+        }
+        for (IPropertiesProvider provider : getPropertiesProviders()) {
+            String documentation = provider.getPropertyDocumentation(fieldOrMethod, documentFormat, utils);
+            if (documentation != null) {
+                return documentation;
+            }
+        }
+        if (fieldOrMethod instanceof PsiMethod method) {
+            // Read the Javadoc from the sources of a compiled method when they are available
+            return utils.getJavadoc(method.getNavigationElement() instanceof PsiMethod sourceMethod ? sourceMethod : method,
+                    documentFormat);
+        }
+        return null;
+    }
+
     /**
      * Returns the Java field from the given property source
      *
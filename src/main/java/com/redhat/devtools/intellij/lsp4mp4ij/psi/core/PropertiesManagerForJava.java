@@ -11,13 +11,18 @@
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.lang.jvm.JvmParameter;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.ExceptionUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.IJavaCodeLensParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.completion.IJavaCompletionParticipant;
@@ -42,8 +47,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +71,10 @@ public class PropertiesManagerForJava {
 
     private static final PropertiesManagerForJava INSTANCE = new PropertiesManagerForJava();
 
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final ExecutorService DIAGNOSTICS_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("MicroProfile Java diagnostics", PARALLELISM);
+
     public static PropertiesManagerForJava getInstance() {
         return INSTANCE;
     }
@@ -308,19 +325,90 @@ public class PropertiesManagerForJava {
      * @return diagnostics for the given uris list.
      */
     public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+        return diagnostics(params, utils, new EmptyProgressIndicator());
+    }
+
+    /**
+     * Returns diagnostics for the given uris list.
+     *
+     * <p>
+     * When several uris are given, the Java files are validated in parallel, each Java file in its own
+     * non-blocking read action which is canceled when the given progress monitor is canceled.
+     * </p>
+     *
+     * <p>
+     * The diagnostics of all the Java files are returned at once: the MicroProfile language server publishes the
+     * diagnostics of the 'microprofile/java/diagnostics' response itself, so publishing the diagnostics of each Java
+     * file from the client as soon as it is validated would conflict with the publish of the language server.
+     * </p>
+     *
+     * @param params  the diagnostics parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor
+     * @return diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils,
+                                                      ProgressIndicator monitor) {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
-        for (String uri : uris) {
-            List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
-        }
-        return publishDiagnostics;
+        MicroProfileJavaDiagnosticsSettings settings = params.getSettings();
+        PublishDiagnosticsParams[] publishDiagnostics = new PublishDiagnosticsParams[uris.size()];
+        Queue<Integer> pendingUris = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < uris.size(); i++) {
+            pendingUris.add(i);
+        }
+        CountDownLatch processedUris = new CountDownLatch(uris.size());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        Runnable urisProcessor = () -> {
+            Integer index;
+            while (!stopped.get() && !monitor.isCanceled() && (index = pendingUris.poll()) != null) {
+                try {
+                    String uri = uris.get(index);
+                    List<Diagnostic> diagnostics = new ArrayList<>();
+                    collectDiagnostics(uri, utils, documentFormat, settings, diagnostics);
+                    publishDiagnostics[index] = new PublishDiagnosticsParams(uri, diagnostics);
+                    processedUris.countDown();
+                } catch (ProcessCanceledException e) {
+                    // The read action has been canceled (ex : a write action is pending), the Java file will be validated again
+                    pendingUris.add(index);
+                    throw e;
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                    processedUris.countDown();
+                }
+            }
+        };
+        int workers = Math.min(uris.size() - 1, PARALLELISM);
+        for (int i = 0; i < workers; i++) {
+            // The read actions of the workers are canceled with the request (ex : coalesced by a new request)
+            DIAGNOSTICS_EXECUTOR.execute(() -> ReadAction.nonBlocking(() -> {
+                urisProcessor.run();
+                return null;
+            }).wrapProgress(monitor).executeSynchronously());
+        }
+        try {
+            // The current thread holds the read lock: it validates Java files too and the Java files of the workers which
+            // cannot acquire the read lock (or which have been canceled) to avoid waiting for them.
+            do {
+                monitor.checkCanceled();
+                urisProcessor.run();
+            } while (!processedUris.await(10, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException(e);
+        } finally {
+            // Stop the pending validations when the request is canceled (ex : coalesced by a new request)
+            stopped.set(true);
+        }
+        if (error.get() != null) {
+            ExceptionUtil.rethrowUnchecked(error.get());
+            throw new RuntimeException(error.get());
+        }
+        return Arrays.asList(publishDiagnostics);
     }
 
     private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
@@ -12,6 +12,7 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.psi.PsiMember;
 import com.intellij.psi.search.SearchScope;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
@@ -34,6 +35,8 @@ public class SearchContext {
 
     private final DocumentFormat documentFormat;
 
+    private final boolean lazyDocumentation;
+
     private final Map<String, Object> cache;
 
     private final SearchScope scope;
@@ -42,15 +45,34 @@ public class SearchContext {
 
     public SearchContext(Module module, SearchScope scope, IPropertiesCollector collector, IPsiUtils utils,
                          DocumentFormat documentFormat, @NotNull ProgressIndicator monitor) {
+        this(module, scope, collector, utils, documentFormat, false, monitor);
+    }
+
+    public SearchContext(Module module, SearchScope scope, IPropertiesCollector collector, IPsiUtils utils,
+                         DocumentFormat documentFormat, boolean lazyDocumentation, @NotNull ProgressIndicator monitor) {
         this.module = module;
         this.scope = scope;
         this.collector = collector;
         this.utils = utils;
         this.documentFormat = documentFormat;
+        this.lazyDocumentation = lazyDocumentation;
         this.monitor = monitor;
         cache = new HashMap<>();
     }
 
+    /**
+     * Search context which shares the state of the given context and which collects properties with the given collector
+     * (used to collect properties of Java search matches in parallel).
+     *
+     * @param context   the search context.
+     * @param collector the properties collector.
+     */
+    SearchContext(@NotNull SearchContext context, IPropertiesCollector collector) {
+        this(context.module, context.scope, collector, context.utils, context.documentFormat, context.lazyDocumentation,
+                context.monitor);
+        cache.putAll(context.cache);
+    }
+
     public void put(String key, Object value) {
         cache.put(key, value);
     }
@@ -79,6 +101,20 @@ public class SearchContext {
         return documentFormat;
     }
 
+    /**
+     * Returns true if the properties must be collected without documentation and false otherwise.
+     *
+     * <p>
+     * In this case, the documentation is resolved on demand with
+     * {@link IPropertiesProvider#getPropertyDocumentation(PsiMember, DocumentFormat, IPsiUtils)}.
+     * </p>
+     *
+     * @return true if the properties must be collected without documentation and false otherwise.
+     */
+    public boolean isLazyDocumentation() {
+        return lazyDocumentation;
+    }
+
     @NotNull
     public ProgressIndicator getMonitor() {
         return monitor;
@@ -29,7 +29,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Java diagnostics context for a given compilation unit.
@@ -43,6 +45,7 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
     private final @NotNull List<Diagnostic> diagnostics;
     private final DocumentFormat documentFormat;
     private final @NotNull MicroProfileJavaDiagnosticsSettings settings;
+    private final @NotNull Map<String, Boolean> propertyDependencies = new HashMap<>();
 
     public JavaDiagnosticsContext(String uri,
                                   PsiFile typeRoot,
@@ -145,4 +148,29 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
     public @NotNull List<Diagnostic> getDiagnostics() {
         return diagnostics;
     }
+
+    /**
+     * Returns true if the given property is assigned a value in a config file (application.properties, etc)
+     * of the module and false otherwise.
+     * <p>
+     * The property is recorded as a dependency of the diagnostics of the Java file, to validate again the Java
+     * file only when a config file change updates this property.
+     *
+     * @param property the property name.
+     * @return true if the given property is assigned a value in a config file of the module and false otherwise.
+     */
+    public boolean hasProperty(@NotNull String property) {
+        boolean hasProperty = getMicroProfileProject().hasProperty(property);
+        propertyDependencies.put(property, hasProperty);
+        return hasProperty;
+    }
+
+    /**
+     * Returns the properties (and if they are assigned a value) used to compute the diagnostics of the Java file.
+     *
+     * @return the properties (and if they are assigned a value) used to compute the diagnostics of the Java file.
+     */
+    public @NotNull Map<String, Boolean> getPropertyDependencies() {
+        return propertyDependencies;
+    }
 }
@@ -120,7 +120,7 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 	public boolean isAdaptedForHover(JavaHoverContext context) {
 		// Definition is done only if the annotation is on the classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, annotationName) != null;
+		return PsiTypeUtils.hasType(javaProject, annotationName);
 	}
 
 	@Override
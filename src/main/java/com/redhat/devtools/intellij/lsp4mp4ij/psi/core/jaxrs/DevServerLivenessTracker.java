@@ -0,0 +1,220 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.messages.Topic;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project service which tracks if the dev server of a module (ex : Quarkus dev mode) is listening on its HTTP port.
+ *
+ * <p>
+ * The port is probed on a background scheduler with a backoff (the delay between two probes is doubled while the
+ * state of the server doesn't change), so the JAX-RS URL code lenses read the last known state without blocking.
+ * When the state of a server changes, the {@link #TOPIC} listeners are notified (ex : to refresh the code lenses).
+ * </p>
+ */
+public final class DevServerLivenessTracker implements Disposable {
+
+	public static final Topic<DevServerLivenessTracker.Listener> TOPIC = Topic.create(DevServerLivenessTracker.class.getName(), DevServerLivenessTracker.Listener.class);
+
+	private static final String LOCALHOST = "localhost";
+
+	private static final int PING_TIMEOUT = 2000;
+
+	private static final long MIN_PROBE_DELAY = 1000;
+
+	private static final long MAX_PROBE_DELAY = 30000;
+
+	// A server which is not used by a code lens during this time is not probed anymore
+	private static final long UNUSED_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+	public interface Listener {
+
+		/**
+		 * Called when the dev server of the given module starts or stops to listen on the given port.
+		 *
+		 * @param module    the module.
+		 * @param port      the HTTP port of the dev server.
+		 * @param available true if the dev server is listening on the given port and false otherwise.
+		 */
+		void serverAvailabilityChanged(@NotNull Module module, int port, boolean available);
+	}
+
+	public static DevServerLivenessTracker getInstance(@NotNull Project project) {
+		return project.getService(DevServerLivenessTracker.class);
+	}
+
+	/**
+	 * Liveness of the dev server of a module for a given port.
+	 */
+	private class TrackedServer {
+
+		private final Module module;
+
+		private final int port;
+
+		private volatile boolean available;
+
+		private volatile long lastAccess = System.currentTimeMillis();
+
+		private long probeDelay = MIN_PROBE_DELAY;
+
+		private ScheduledFuture<?> nextProbe;
+
+		// Incremented each time a probe is scheduled, only the last scheduled probe schedules the next probe
+		private long probeId;
+
+		private TrackedServer(Module module, int port) {
+			this.module = module;
+			this.port = port;
+		}
+
+		private synchronized void scheduleProbe(long delay) {
+			if (nextProbe != null) {
+				nextProbe.cancel(false);
+			}
+			long id = ++probeId;
+			nextProbe = scheduler.schedule(() -> probe(id), delay, TimeUnit.MILLISECONDS);
+		}
+
+		private synchronized void cancel() {
+			if (nextProbe != null) {
+				nextProbe.cancel(false);
+				nextProbe = null;
+			}
+		}
+
+		private synchronized boolean isLastScheduledProbe(long id) {
+			return id == probeId;
+		}
+
+		private void probe(long id) {
+			if (disposed || module.isDisposed()
+					|| System.currentTimeMillis() - lastAccess > UNUSED_TIMEOUT) {
+				servers.remove(getKey(module, port), this);
+				return;
+			}
+			if (!isLastScheduledProbe(id)) {
+				// Another probe has been scheduled (ex : by serverStateChanged), it will probe the port
+				return;
+			}
+			boolean newAvailable = isServerAvailable(LOCALHOST, port, PING_TIMEOUT);
+			boolean changed = newAvailable != available;
+			available = newAvailable;
+			synchronized (this) {
+				// A probe scheduled while this probe was running (ex : by serverStateChanged) schedules the next probe
+				if (!disposed && isLastScheduledProbe(id)) {
+					// Probe quickly after a change and slow down while the state doesn't change
+					probeDelay = changed ? MIN_PROBE_DELAY : Math.min(probeDelay * 2, MAX_PROBE_DELAY);
+					scheduleProbe(probeDelay);
+				}
+			}
+			if (changed) {
+				project.getMessageBus().syncPublisher(TOPIC).serverAvailabilityChanged(module, port, newAvailable);
+			}
+		}
+	}
+
+	private final Project project;
+
+	private final ScheduledExecutorService scheduler = AppExecutorUtil.getAppScheduledExecutorService();
+
+	private final Map<String /* module name#port */, TrackedServer> servers = new ConcurrentHashMap<>();
+
+	private volatile boolean disposed;
+
+	private DevServerLivenessTracker(Project project) {
+		this.project = project;
+	}
+
+	/**
+	 * Returns the last known state of the dev server of the given module for the given port, without blocking.
+	 *
+	 * <p>
+	 * The first call for a module and a port starts to probe the port and returns false, the {@link #TOPIC} listeners
+	 * are notified if the probe finds that the dev server is listening.
+	 * </p>
+	 *
+	 * @param module the module.
+	 * @param port   the HTTP port of the dev server.
+	 * @return true if the dev server of the given module is listening on the given port and false otherwise.
+	 */
+	public boolean isServerAvailable(@NotNull Module module, int port) {
+		String key = getKey(module, port);
+		TrackedServer server = servers.get(key);
+		if (server == null) {
+			TrackedServer newServer = new TrackedServer(module, port);
+			server = servers.putIfAbsent(key, newServer);
+			if (server == null) {
+				server = newServer;
+				server.scheduleProbe(0);
+			}
+		}
+		server.lastAccess = System.currentTimeMillis();
+		return server.available;
+	}
+
+	/**
+	 * Probe again immediately the ports of the dev server of the given module (ex : when the dev mode is launched or
+	 * stopped from the IDE).
+	 *
+	 * @param module the module.
+	 */
+	public void serverStateChanged(@NotNull Module module) {
+		for (TrackedServer server : servers.values()) {
+			if (server.module.equals(module)) {
+				synchronized (server) {
+					server.probeDelay = MIN_PROBE_DELAY;
+					server.scheduleProbe(0);
+				}
+			}
+		}
+	}
+
+	private static String getKey(Module module, int port) {
+		return module.getName() + "#" + port;
+	}
+
+	private static boolean isServerAvailable(String host, int port, int timeout) {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void dispose() {
+		disposed = true;
+		for (TrackedServer server : servers.values()) {
+			server.cancel();
+		}
+		servers.clear();
+	}
+}
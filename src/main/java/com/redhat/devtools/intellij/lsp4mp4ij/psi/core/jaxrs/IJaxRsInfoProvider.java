@@ -49,6 +49,26 @@ public interface IJaxRsInfoProvider {
 	 */
 	@NotNull Set<PsiClass> getAllJaxRsClasses(@NotNull Module javaProject, @NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor);
 
+	/**
+	 * Returns true if the given class belongs to the classes returned by {@link #getAllJaxRsClasses(Module, IPsiUtils, ProgressIndicator)}
+	 * and false otherwise.
+	 *
+	 * <p>
+	 * Used to update the JAX-RS classes of a project when a Java file changes without searching all the classes again,
+	 * the providers should override it with a check which doesn't search the whole project.
+	 * </p>
+	 *
+	 * @param type the class to check
+	 * @param javaProject the project to check for JAX-RS method information
+	 * @param utils the Psi utilities.
+	 * @param monitor the progress monitor
+	 * @return true if the given class belongs to the classes returned by {@link #getAllJaxRsClasses(Module, IPsiUtils, ProgressIndicator)}
+	 * and false otherwise
+	 */
+	default boolean isJaxRsClass(@NotNull PsiClass type, @NotNull Module javaProject, @NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		return getAllJaxRsClasses(javaProject, utils, monitor).contains(type);
+	}
+
 	/**
 	 * Returns a list of all the JAX-RS methods in the given type.
 	 *
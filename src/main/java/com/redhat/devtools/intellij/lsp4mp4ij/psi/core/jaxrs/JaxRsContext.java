@@ -14,19 +14,10 @@
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
 
 import com.intellij.openapi.module.Module;
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
-import com.intellij.util.Query;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
-
 /**
  * JAX-RS context.
  *
@@ -56,6 +47,15 @@ public class JaxRsContext {
 		this.javaProject = javaProject;
 	}
 
+	/**
+	 * Returns the module of the JAX-RS context.
+	 *
+	 * @return the module of the JAX-RS context.
+	 */
+	public Module getJavaProject() {
+		return javaProject;
+	}
+
 	public int getServerPort() {
 		return serverPort;
 	}
@@ -91,15 +91,7 @@ public class JaxRsContext {
 		if (applicationPathLoaded) {
 			return applicationPath;
 		}
-		PsiClass applicationPathType = PsiTypeUtils.findType(javaProject,
-				JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
-		if (applicationPathType == null) {
-			applicationPathType = PsiTypeUtils.findType(javaProject,
-					JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
-		}
-		if (applicationPathType != null) {
-			applicationPath = findApplicationPath(applicationPathType, javaProject);
-		}
+		applicationPath = JaxRsIndex.getInstance(javaProject.getProject()).getApplicationPath(javaProject);
 		applicationPathLoaded = true;
 		return applicationPath;
 	}
@@ -145,29 +137,4 @@ public class JaxRsContext {
 		return localBaseURL.toString();
 	}
 
-	/**
-	 * Use the java search engine to search the java project for the location and
-	 * value of the @ApplicationPath annotation, or null if not found
-	 *
-	 * @param annotationType the type representing the @ApplicationPath annotation
-	 * @param javaProject        the java project the code lens applies to
-	 * @return the value of the @ApplicationPath annotation, or null if not found
-	 */
-	private static String findApplicationPath(PsiClass annotationType, Module javaProject) {
-		AtomicReference<String> applicationPathRef = new AtomicReference<String>();
-
-		Query<PsiClass> pattern = AnnotatedElementsSearch.searchElements(annotationType, javaProject.getModuleWithDependenciesScope(),
-				PsiClass.class);
-        for (PsiClass match : pattern.findAll()) {
-            collectApplicationPath(match, applicationPathRef);
-        }
-		return applicationPathRef.get();
-	}
-
-	private static void collectApplicationPath(PsiClass type, AtomicReference<String> applicationPathRef) {
-		String applicationPathValue = getJaxRsApplicationPathValue(type);
-		if (applicationPathValue != null) {
-			applicationPathRef.set(applicationPathValue);
-		}
-	}
 }
@@ -0,0 +1,396 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.Query;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.java.JaxRsInfoProviderRegistry;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
+
+/**
+ * Project index of the JAX-RS resources of the modules, used by the JAX-RS URL code lenses and workspace symbols:
+ *
+ * <ul>
+ * <li>the value of the <code>@ApplicationPath</code> annotation of a module, searched once and searched again when a
+ * library changes or when a changed Java file declares (or declared) <code>@ApplicationPath</code>.</li>
+ * <li>the Java files which declare the JAX-RS classes of a module (JAX-RS, Renarde, etc, see
+ * {@link IJaxRsInfoProvider#getAllJaxRsClasses(Module, IPsiUtils, ProgressIndicator)}), scanned once and updated
+ * incrementally with the changed Java files (see {@link IJaxRsInfoProvider#isJaxRsClass(PsiClass, Module, IPsiUtils, ProgressIndicator)}).</li>
+ * <li>the JAX-RS methods of a Java file, collected again when the Java file is modified or when the base URL
+ * (port, root path, application path) changes. The Java methods are kept with smart pointers.</li>
+ * </ul>
+ *
+ * <p>
+ * The index is kept in memory and is not persisted: the scan of a module relies on the annotation searches of
+ * IntelliJ which use the persistent indexes of the IDE, and the JAX-RS methods depend on the base URL which comes
+ * from the config files of the module.
+ * </p>
+ */
+public final class JaxRsIndex implements ClasspathResourceChangedManager.Listener {
+
+	public static JaxRsIndex getInstance(@NotNull Project project) {
+		return project.getService(JaxRsIndex.class);
+	}
+
+	/**
+	 * JAX-RS method of a Java file which doesn't hold the Java method.
+	 */
+	private record ResourceMethod(String url, HttpMethod httpMethod, SmartPsiElementPointer<PsiMethod> javaMethod,
+			String documentUri) {
+	}
+
+	/**
+	 * JAX-RS methods of a Java file.
+	 */
+	private static class ResourceFile {
+
+		private final IJaxRsInfoProvider provider;
+
+		private final long modificationStamp;
+
+		private final String baseURL;
+
+		private final List<ResourceMethod> methods;
+
+		private ResourceFile(IJaxRsInfoProvider provider, long modificationStamp, String baseURL,
+				List<ResourceMethod> methods) {
+			this.provider = provider;
+			this.modificationStamp = modificationStamp;
+			this.baseURL = baseURL;
+			this.methods = methods;
+		}
+
+		/**
+		 * Returns the JAX-RS methods of the Java file and null if a Java method cannot be restored.
+		 */
+		private @Nullable List<JaxRsMethodInfo> getMethodInfos() {
+			List<JaxRsMethodInfo> methodInfos = new ArrayList<>(methods.size());
+			for (ResourceMethod method : methods) {
+				PsiMethod javaMethod = method.javaMethod().getElement();
+				if (javaMethod == null || !javaMethod.isValid()) {
+					return null;
+				}
+				methodInfos.add(new JaxRsMethodInfo(method.url(), method.httpMethod(), javaMethod, method.documentUri()));
+			}
+			return methodInfos;
+		}
+	}
+
+	/**
+	 * JAX-RS index of a module.
+	 */
+	private static class ModuleJaxRsIndex {
+
+		private volatile boolean applicationPathLoaded;
+
+		private volatile String applicationPath;
+
+		// URLs of the Java files which declare @ApplicationPath
+		private Set<String> applicationPathUrls = Collections.emptySet();
+
+		private final Set<String> applicationPathChangedSources = ConcurrentHashMap.newKeySet();
+
+		private final Map<String /* Java file URL */, ResourceFile> files = new ConcurrentHashMap<>();
+
+		// URLs of the Java files which declare JAX-RS methods, null if the module has not been scanned
+		private Set<String> resourceUrls;
+
+		private final Set<String> changedSources = ConcurrentHashMap.newKeySet();
+	}
+
+	private final Project project;
+
+	private final Map<String /* module name */, ModuleJaxRsIndex> indexes = new ConcurrentHashMap<>();
+
+	private JaxRsIndex(Project project) {
+		this.project = project;
+		project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+				.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+	}
+
+	private @NotNull ModuleJaxRsIndex getModuleIndex(@NotNull Module javaProject) {
+		return indexes.computeIfAbsent(javaProject.getName(), k -> new ModuleJaxRsIndex());
+	}
+
+	/**
+	 * Returns the value of the <code>@ApplicationPath</code> annotation declared in the given module and null
+	 * otherwise.
+	 *
+	 * @param javaProject the module.
+	 * @return the value of the <code>@ApplicationPath</code> annotation declared in the given module and null
+	 * otherwise.
+	 */
+	public @Nullable String getApplicationPath(@NotNull Module javaProject) {
+		ModuleJaxRsIndex index = getModuleIndex(javaProject);
+		synchronized (index) {
+			if (index.applicationPathLoaded) {
+				for (String url : index.applicationPathChangedSources) {
+					index.applicationPathChangedSources.remove(url);
+					if (index.applicationPathUrls.contains(url) || declaresApplicationPath(url)) {
+						// The changed Java file declares (or declared) @ApplicationPath
+						index.applicationPathLoaded = false;
+					}
+				}
+			}
+			if (!index.applicationPathLoaded) {
+				index.applicationPathChangedSources.clear();
+				loadApplicationPath(javaProject, index);
+				index.applicationPathLoaded = true;
+			}
+			return index.applicationPath;
+		}
+	}
+
+	/**
+	 * Returns the JAX-RS methods declared in the given Java file.
+	 *
+	 * @param typeRoot     the Java file.
+	 * @param provider     the JAX-RS info provider of the Java file.
+	 * @param jaxrsContext the JAX-RS context.
+	 * @param utils        the Psi utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS methods declared in the given Java file.
+	 */
+	public @NotNull List<JaxRsMethodInfo> getJaxRsMethodInfo(@NotNull PsiFile typeRoot, @NotNull IJaxRsInfoProvider provider,
+			@NotNull JaxRsContext jaxrsContext, @NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		VirtualFile file = typeRoot.getVirtualFile();
+		if (file == null) {
+			return provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		}
+		ModuleJaxRsIndex index = getModuleIndex(jaxrsContext.getJavaProject());
+		String baseURL = jaxrsContext.getLocalBaseURL();
+		long modificationStamp = typeRoot.getModificationStamp();
+		ResourceFile resourceFile = index.files.get(file.getUrl());
+		if (resourceFile != null && resourceFile.provider == provider
+				&& resourceFile.modificationStamp == modificationStamp && resourceFile.baseURL.equals(baseURL)) {
+			List<JaxRsMethodInfo> methodInfos = resourceFile.getMethodInfos();
+			if (methodInfos != null) {
+				return methodInfos;
+			}
+		}
+		List<JaxRsMethodInfo> methodInfos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		if (!monitor.isCanceled()) {
+			SmartPointerManager pointerManager = SmartPointerManager.getInstance(project);
+			List<ResourceMethod> methods = new ArrayList<>(methodInfos.size());
+			for (JaxRsMethodInfo methodInfo : methodInfos) {
+				methods.add(new ResourceMethod(methodInfo.getUrl(), methodInfo.getHttpMethod(),
+						pointerManager.createSmartPsiElementPointer(methodInfo.getJavaMethod()), methodInfo.getDocumentUri()));
+			}
+			index.files.put(file.getUrl(), new ResourceFile(provider, modificationStamp, baseURL, methods));
+		}
+		return methodInfos;
+	}
+
+	/**
+	 * Returns the JAX-RS methods declared in the Java files of the given module.
+	 *
+	 * @param jaxrsContext the JAX-RS context of the module.
+	 * @param utils        the Psi utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS methods declared in the Java files of the given module.
+	 */
+	public @NotNull List<JaxRsMethodInfo> getAllJaxRsMethodInfo(@NotNull JaxRsContext jaxrsContext,
+			@NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		Module javaProject = jaxrsContext.getJavaProject();
+		ModuleJaxRsIndex index = getModuleIndex(javaProject);
+		Set<String> resourceUrls;
+		synchronized (index) {
+			if (index.resourceUrls == null) {
+				// Scan all the JAX-RS resources of the module
+				index.changedSources.clear();
+				Set<String> scannedUrls = new LinkedHashSet<>();
+				for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
+					for (PsiClass type : provider.getAllJaxRsClasses(javaProject, utils, monitor)) {
+						VirtualFile file = type.getContainingFile() != null ? type.getContainingFile().getVirtualFile() : null;
+						if (file != null) {
+							scannedUrls.add(file.getUrl());
+						}
+					}
+					if (monitor.isCanceled()) {
+						return new ArrayList<>();
+					}
+				}
+				index.resourceUrls = scannedUrls;
+			} else {
+				// Update the JAX-RS resources with the changed Java files
+				for (String url : index.changedSources) {
+					index.changedSources.remove(url);
+					PsiFile typeRoot = findJavaFile(url);
+					// Same source of truth as the scan: IJaxRsInfoProvider#getAllJaxRsClasses
+					if (typeRoot != null && isJaxRsFile(typeRoot, javaProject, utils, monitor)) {
+						index.resourceUrls.add(url);
+					} else {
+						index.resourceUrls.remove(url);
+					}
+					if (monitor.isCanceled()) {
+						// The Java file must be processed again
+						index.changedSources.add(url);
+						return new ArrayList<>();
+					}
+				}
+			}
+			resourceUrls = new LinkedHashSet<>(index.resourceUrls);
+		}
+
+		List<JaxRsMethodInfo> methodInfos = new ArrayList<>();
+		for (String url : resourceUrls) {
+			PsiFile typeRoot = findJavaFile(url);
+			if (typeRoot != null) {
+				methodInfos.addAll(getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor));
+			}
+			if (monitor.isCanceled()) {
+				return new ArrayList<>();
+			}
+		}
+		return methodInfos;
+	}
+
+	private @NotNull List<JaxRsMethodInfo> getJaxRsMethodInfo(@NotNull PsiFile typeRoot, @NotNull JaxRsContext jaxrsContext,
+			@NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		IJaxRsInfoProvider provider = JaxRsInfoProviderRegistry.getInstance().getProviderForType(typeRoot,
+				jaxrsContext.getJavaProject(), monitor);
+		if (provider == null) {
+			return new ArrayList<>();
+		}
+		return getJaxRsMethodInfo(typeRoot, provider, jaxrsContext, utils, monitor);
+	}
+
+	/**
+	 * Returns true if the given Java file declares a class returned by
+	 * {@link IJaxRsInfoProvider#getAllJaxRsClasses(Module, IPsiUtils, ProgressIndicator)} and false otherwise.
+	 */
+	private static boolean isJaxRsFile(@NotNull PsiFile typeRoot, @NotNull Module javaProject, @NotNull IPsiUtils utils,
+			@NotNull ProgressIndicator monitor) {
+		for (PsiClass type : PsiTreeUtil.findChildrenOfType(typeRoot, PsiClass.class)) {
+			for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
+				if (provider.isJaxRsClass(type, javaProject, utils, monitor)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private @Nullable PsiFile findJavaFile(@NotNull String url) {
+		// The JAX-RS classes can be declared outside the module (ex : Renarde controllers are searched in all the project)
+		VirtualFile file = VirtualFileManager.getInstance().findFileByUrl(url);
+		if (file == null || !file.isValid()) {
+			return null;
+		}
+		return PsiManager.getInstance(project).findFile(file);
+	}
+
+	/**
+	 * Returns true if the given Java file declares a class annotated with @ApplicationPath and false otherwise.
+	 */
+	private boolean declaresApplicationPath(@NotNull String url) {
+		PsiFile typeRoot = findJavaFile(url);
+		if (typeRoot == null) {
+			return false;
+		}
+		for (PsiClass type : PsiTreeUtil.findChildrenOfType(typeRoot, PsiClass.class)) {
+			if (getJaxRsApplicationPathValue(type) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Use the java search engine to search the java project for the location and
+	 * value of the @ApplicationPath annotation, and update the given index with
+	 * the value (null if not found) and the Java files of the annotation.
+	 *
+	 * @param javaProject the java project
+	 * @param index       the JAX-RS index of the java project
+	 */
+	private static void loadApplicationPath(@NotNull Module javaProject, @NotNull ModuleJaxRsIndex index) {
+		PsiClass applicationPathType = PsiTypeUtils.findType(javaProject, JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
+		if (applicationPathType == null) {
+			applicationPathType = PsiTypeUtils.findType(javaProject, JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
+		}
+		String applicationPath = null;
+		Set<String> applicationPathUrls = new LinkedHashSet<>();
+		if (applicationPathType != null) {
+			Query<PsiClass> pattern = AnnotatedElementsSearch.searchElements(applicationPathType,
+					javaProject.getModuleWithDependenciesScope(), PsiClass.class);
+			for (PsiClass match : pattern.findAll()) {
+				String applicationPathValue = getJaxRsApplicationPathValue(match);
+				if (applicationPathValue != null) {
+					applicationPath = applicationPathValue;
+					VirtualFile file = match.getContainingFile() != null ? match.getContainingFile().getVirtualFile() : null;
+					if (file != null) {
+						applicationPathUrls.add(file.getUrl());
+					}
+				}
+			}
+		}
+		index.applicationPath = applicationPath;
+		index.applicationPathUrls = applicationPathUrls;
+	}
+
+	@Override
+	public void librariesChanged() {
+		indexes.clear();
+	}
+
+	@Override
+	public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+		for (Pair<VirtualFile, Module> source : sources) {
+			VirtualFile file = source.getFirst();
+			if (!"java".equals(file.getExtension())) {
+				// ex : microprofile-config.properties
+				continue;
+			}
+			String url = file.getUrl();
+			for (ModuleJaxRsIndex index : indexes.values()) {
+				// A changed Java file can declare (or not declare anymore) @ApplicationPath, it is checked
+				// the next time the application path is requested
+				index.applicationPathChangedSources.add(url);
+				index.changedSources.add(url);
+				index.files.remove(url);
+			}
+		}
+	}
+}
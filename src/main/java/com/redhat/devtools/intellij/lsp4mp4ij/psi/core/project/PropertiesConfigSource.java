@@ -21,7 +21,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * {@link Properties} config file implementation.
@@ -34,6 +33,10 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 
 	private transient PropertyValueExpander propertyValueExpander = null;
 
+	private transient Properties keysConfig = null;
+
+	private transient Set<String> keys = null;
+
 	public PropertiesConfigSource(String configFileName, String profile, int ordinal, Module javaProject) {
 		super(configFileName, profile, ordinal, javaProject);
 	}
@@ -105,7 +108,12 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 		if (properties == null) {
 			return Collections.emptySet();
 		}
-		return properties.keySet().stream().map(key -> (String) key).collect(Collectors.toSet());
+		// Keep the same instance until the config is reloaded, see ConfigSourceKeysIndex#isUpToDate
+		if (keys == null || keysConfig != properties) {
+			keys = Collections.unmodifiableSet(properties.stringPropertyNames());
+			keysConfig = properties;
+		}
+		return keys;
 	}
 
 }
@@ -13,25 +13,25 @@ import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.compiler.CompilerPaths;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcePropertiesProvider;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.PropertyDocumentationCache;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.SourcePropertiesCache;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcesSnapshot;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.qute.commons.config.PropertyConfig;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * JDT MicroProfile project.
@@ -45,12 +45,16 @@ public class PsiMicroProfileProject {
 
     private final Module javaProject;
     private List<IConfigSource> configSources;
-    private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-    private transient PropertyValueExpander propertyValueExpander = null;
+    private transient volatile ConfigSourcesSnapshot configSourcesSnapshot = null;
     private MicroProfileProjectRuntime projectRuntime;
+    private final SourcePropertiesCache sourcePropertiesCache;
+    private final PropertyDocumentationCache propertyDocumentationCache;
+    private final SimpleModificationTracker configSourcesModificationTracker = new SimpleModificationTracker();
 
     public PsiMicroProfileProject(Module javaProject) {
         this.javaProject = javaProject;
+        this.sourcePropertiesCache = new SourcePropertiesCache();
+        this.propertyDocumentationCache = new PropertyDocumentationCache();
     }
 
     /**
@@ -69,26 +73,8 @@ public class PsiMicroProfileProject {
      * defined in this project
      */
     public String getProperty(String propertyKey, String defaultValue) {
-
-        if (aggregatedPropertiesProvider == null) {
-            aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-        }
-
-        String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
-        if (unresolved == null) {
-            return defaultValue;
-        } else if (unresolved.contains("${")) {
-            if (propertyValueExpander == null) {
-                propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-            }
-            String expandedValue = propertyValueExpander.getValue(propertyKey);
-            if (expandedValue == null) {
-                return defaultValue;
-            }
-            return expandedValue;
-        } else {
-            return unresolved;
-        }
+        String value = getConfigSourcesSnapshot().getValue(propertyKey);
+        return value != null ? value : defaultValue;
     }
 
     /**
@@ -162,32 +148,7 @@ public class PsiMicroProfileProject {
      * defined in this project.
      */
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-        // Use a map to override property values
-        // eg. if application.yaml defines a value for a property it should override the
-        // value defined in application.properties
-        Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-        // Go backwards so that application.properties replaces
-        // microprofile-config.properties, etc.
-        List<IConfigSource> configSources = getConfigSources();
-        for (int i = configSources.size() - 1; i >= 0; i--) {
-            IConfigSource configSource = configSources.get(i);
-            List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-                    .getPropertyInformations(propertyKey);
-            if (propertyInformations != null) {
-                for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-                    propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-                }
-            }
-        }
-        return propertyToInfoMap.values().stream() //
-                .sorted((a, b) -> {
-                    return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-                }) //
-                .map(info -> {
-                    String resolved = this.getProperty(info.getPropertyNameWithProfile());
-                    return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-                            info.getSourceConfigFileURI(), info.getConfigFileName());
-                }).collect(Collectors.toList());
+        return getConfigSourcesSnapshot().getPropertyInformations(propertyKey);
     }
 
     public List<IConfigSource> getConfigSources() {
@@ -223,8 +184,38 @@ public class PsiMicroProfileProject {
             // The config source file doesn't exist, evict the full cache
             configSources = null;
         }
-        propertyValueExpander = null;
-        aggregatedPropertiesProvider = null;
+        configSourcesSnapshot = null;
+        configSourcesModificationTracker.incModificationCount();
+        // Some properties providers use config properties (ex : quarkus.arc.config-properties-default-naming-strategy)
+        sourcePropertiesCache.evict();
+    }
+
+    /**
+     * Returns the modification tracker of the config sources, incremented each time a config source file
+     * (application.properties, application.yaml, etc) is updated.
+     *
+     * @return the modification tracker of the config sources.
+     */
+    public ModificationTracker getConfigSourcesModificationTracker() {
+        return configSourcesModificationTracker;
+    }
+
+    /**
+     * Returns the cache of the MicroProfile properties contributed by the Java source files of the project.
+     *
+     * @return the cache of the MicroProfile properties contributed by the Java source files of the project.
+     */
+    public SourcePropertiesCache getSourcePropertiesCache() {
+        return sourcePropertiesCache;
+    }
+
+    /**
+     * Returns the cache of the documentation of the MicroProfile properties resolved on demand.
+     *
+     * @return the cache of the documentation of the MicroProfile properties resolved on demand.
+     */
+    public PropertyDocumentationCache getPropertyDocumentationCache() {
+        return propertyDocumentationCache;
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
@@ -278,38 +269,6 @@ public class PsiMicroProfileProject {
         return false;
     }
 
-    private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-        List<IConfigSource> configSources = getConfigSources();
-        if (configSources.size() == 0) {
-            // Return an empty IConfigSourcePropertiesProvider
-            return new IConfigSourcePropertiesProvider() {
-
-                @Override
-                public Set<String> keys() {
-                    return Collections.emptySet();
-                }
-
-                @Override
-                public boolean hasKey(String key) {
-                    return false;
-                }
-
-                @Override
-                public String getValue(String key) {
-                    return null;
-                }
-
-            };
-        }
-        IConfigSourcePropertiesProvider provider = new ConfigSourcePropertiesProvider(
-                configSources.get(configSources.size() - 1));
-        for (int i = configSources.size() - 2; i >= 0; i--) {
-            provider = ConfigSourcePropertiesProviderUtils
-                    .layer(new ConfigSourcePropertiesProvider(configSources.get(i)), provider);
-        }
-        return provider;
-    }
-
     public MicroProfileProjectRuntime getProjectRuntime() {
         if (projectRuntime == null) {
             try {
@@ -367,19 +326,42 @@ public class PsiMicroProfileProject {
         if (starIndex == -1) {
             return Set.of();
         }
-        Set<String> matchingSegments = new HashSet<>();
         String prefix = pattern.substring(0, starIndex);
         String suffix = pattern.substring(starIndex + 1);
-        for (IConfigSource configSource : this.getConfigSources()) {
-            Set<String> keys = configSource.getAllKeys();
-            for (String key : keys) {
-                if (key.startsWith(prefix) && key.endsWith(suffix)) {
-                    String segment = key.substring(prefix.length(), key.length() - suffix.length());
-                    matchingSegments.add(segment);
-                }
-            }
+        return getConfigSourcesSnapshot().getKeysIndex().getMatchingSegments(prefix, suffix);
+    }
+
+    /**
+     * Returns the sorted property keys which start with the given prefix.
+     *
+     * <p>
+     * Keys are returned with their profile (ex : {@code %dev.quarkus.http.port}),
+     * so the keys of a given profile can be retrieved by using the profile in the
+     * prefix (ex : {@code %dev.quarkus.http.}).
+     * </p>
+     *
+     * @param prefix the property key prefix
+     * @return the sorted property keys which start with the given prefix.
+     */
+    public @NotNull List<String> getKeysWithPrefix(String prefix) {
+        return getConfigSourcesSnapshot().getKeysIndex().getKeysWithPrefix(prefix);
+    }
+
+    /**
+     * Returns the snapshot of the resolved properties of the config sources. The
+     * snapshot is created again when the config sources cache is evicted or when a
+     * config source has been reloaded.
+     *
+     * @return the snapshot of the resolved properties of the config sources.
+     */
+    private ConfigSourcesSnapshot getConfigSourcesSnapshot() {
+        List<IConfigSource> configSources = getConfigSources();
+        ConfigSourcesSnapshot snapshot = configSourcesSnapshot;
+        if (snapshot == null || !snapshot.isUpToDate(configSources)) {
+            snapshot = new ConfigSourcesSnapshot(configSources);
+            configSourcesSnapshot = snapshot;
         }
-        return matchingSegments;
+        return snapshot;
     }
 
 }
\ No newline at end of file
@@ -52,14 +52,28 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 
 		@Override
 		public void librariesChanged() {
-			// Do nothing
+			// Types coming from the libraries can change the properties contributed by the Java source files
+			for (Module module : ModuleManager.getInstance(project).getModules()) {
+				PsiMicroProfileProject mpProject = getMicroProfileProject(module, false);
+				if (mpProject != null) {
+					mpProject.getSourcePropertiesCache().evict();
+					mpProject.getPropertyDocumentationCache().evict();
+				}
+			}
 		}
 
 		@Override
 		public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
 			for (var pair : sources) {
 				VirtualFile file = pair.getFirst();
-				if (isConfigSource(file)) {
+				if (isJavaFile(file)) {
+					// A Java file has been updated, its contributed properties must be collected again
+					PsiMicroProfileProject mpProject = getMicroProfileProject(pair.getSecond(), false);
+					if (mpProject != null) {
+						mpProject.getSourcePropertiesCache().sourceFileChanged(file);
+						mpProject.getPropertyDocumentationCache().evict();
+					}
+				} else if (isConfigSource(file)) {
 					// A microprofile config file properties file source has been updated, evict the cache of the properties
 					Module javaProject = pair.getSecond();
 					PsiMicroProfileProject mpProject = getMicroProfileProject(javaProject, false);
@@ -21,6 +21,7 @@ import com.intellij.psi.util.ClassUtil;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiTypesUtil;
 import com.intellij.psi.util.PsiUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathCapabilityCache;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -130,6 +131,22 @@ public class PsiTypeUtils {
                 GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
     }
 
+    /**
+     * Returns true if the given Java type is on the classpath of the given module and false otherwise.
+     *
+     * <p>
+     * The result is cached per module with {@link ClasspathCapabilityCache}, this method should be used instead of
+     * <code>findType(module, name) != null</code> to check if a participant is adapted for a module.
+     * </p>
+     *
+     * @param module the module.
+     * @param name   the Java type name.
+     * @return true if the given Java type is on the classpath of the given module and false otherwise.
+     */
+    public static boolean hasType(Module module, String name) {
+        return ClasspathCapabilityCache.getInstance(module.getProject()).hasType(module, name);
+    }
+
     public static String getSourceField(PsiMember psiMember) {
         return psiMember.getName();
     }
@@ -20,8 +20,6 @@ import com.intellij.psi.util.TypeConversionUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.config.properties.MicroProfileConfigPropertyProvider;
@@ -79,7 +77,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
         Module javaProject = context.getJavaProject();
-        return PsiTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
+        return PsiTypeUtils.hasType(javaProject, CONFIG_PROPERTY_ANNOTATION);
     }
 
     private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
@@ -267,10 +265,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
     }
 
     private static boolean doesPropertyHaveValue(String property, JavaDiagnosticsContext context) {
-        Module javaProject = context.getJavaProject();
-        PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(javaProject.getProject())
-                .getMicroProfileProject(javaProject);
-        return mpProject.hasProperty(property);
+        return context.hasProperty(property);
     }
 
     public static void setDataForUnassigned(String name, Diagnostic diagnostic) {
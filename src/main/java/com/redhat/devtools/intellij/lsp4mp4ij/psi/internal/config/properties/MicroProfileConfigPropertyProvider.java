@@ -52,6 +52,17 @@ public class MicroProfileConfigPropertyProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isConcurrentCollectSupported() {
+		return true;
+	}
+
+	@Override
+	public boolean isClasspathDependent() {
+		// The type of the property is resolved in the classpath of the module
+		return true;
+	}
+
 	@Override
 	protected void processAnnotation(PsiModifierListOwner javaElement, PsiAnnotation configPropertyAnnotation,
 									 String annotationName, SearchContext context) {
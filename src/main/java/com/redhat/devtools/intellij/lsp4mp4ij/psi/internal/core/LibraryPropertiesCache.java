@@ -0,0 +1,603 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.search.DelegatingGlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Application cache of the MicroProfile properties / hints contributed by the classpath JARs.
+ *
+ * <p>
+ * The properties collected from a JAR are stored on disk (in the IDE system directory), keyed by the JAR size,
+ * content hash, the document format and the version of the properties providers. The properties of the Quarkus
+ * extensions JARs are collected only once with PSI, and reused by all the modules which use the same JAR and after an
+ * IDE restart.
+ * </p>
+ *
+ * <p>
+ * The properties collected from a JAR by the providers which depend on the classpath
+ * (see {@link IPropertiesProvider#isClasspathDependent()}) are stored in a separate part of the JAR, whose key contains
+ * the classpath of the module too.
+ * </p>
+ *
+ * <p>
+ * The cached properties are stored as JSON and a new instance is created each time they are read, so the properties
+ * updated by a search are never shared with the cache. The least recently used cache files are deleted when the cache
+ * exceeds {@link #MAX_CACHED_FILES} files, and the cache files of the previous versions of the cache format are deleted.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * <code>
+ * LibraryPropertiesCache.Search search = LibraryPropertiesCache.getInstance().beginSearch(module, contextKey, scopes);
+ * search.setTarget(collector);
+ * // search with search.restrict(scope) and collect properties with search.getCollector() (see Search#isCached and Search#setCurrentMatch)
+ * search.mergeTo(collector);
+ * search.endSearch();
+ * </code>
+ * </p>
+ */
+public final class LibraryPropertiesCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LibraryPropertiesCache.class);
+
+	private static final String PLUGIN_ID = "com.redhat.devtools.intellij.quarkus";
+
+	/**
+	 * Version of the cache format, must be increased when the format of the cached files changes.
+	 */
+	private static final int CACHE_VERSION = 3;
+
+	private static final String CACHE_FILE_EXTENSION = ".json";
+
+	/**
+	 * Maximum number of cached JARs kept in memory.
+	 */
+	private static final int MAX_CACHED_ENTRIES = 512;
+
+	/**
+	 * Maximum number of cache files kept on disk.
+	 */
+	static final int MAX_CACHED_FILES = 2048;
+
+	public static LibraryPropertiesCache getInstance() {
+		return ApplicationManager.getApplication().getService(LibraryPropertiesCache.class);
+	}
+
+	private final Map<String, JsonElement> cache;
+
+	private final Map<String, String> contentHashes;
+
+	private final Path cacheDir;
+
+	private final boolean persistent;
+
+	private String providersVersion;
+
+	public LibraryPropertiesCache() {
+		this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, JsonElement> eldest) {
+				return size() > MAX_CACHED_ENTRIES;
+			}
+		});
+		this.contentHashes = new ConcurrentHashMap<>();
+		Path rootDir = Paths.get(PathManager.getSystemPath(), "quarkus", "config-metadata");
+		this.cacheDir = rootDir.resolve("v" + CACHE_VERSION);
+		// Tests must not use properties stored by a previous run with another version of the providers
+		this.persistent = !ApplicationManager.getApplication().isUnitTestMode();
+		if (persistent) {
+			ApplicationManager.getApplication().executeOnPooledThread(() -> deletePreviousVersions(rootDir));
+		}
+	}
+
+	/**
+	 * Search of the properties of the classpath of a module.
+	 */
+	public class Search {
+
+		private final String contextKey;
+
+		private final String classpathKey;
+
+		private final Map<VirtualFile, List<ConfigurationMetadata>> cachedJars;
+
+		private final Map<JarPart, PropertiesCollector> collectedJars;
+
+		private final Map<JarPart, ConfigurationMetadata> collectedMetadata;
+
+		private final Map<JarPart, JsonElement> collectedSnapshots;
+
+		private final PropertiesCollectorRouter collector;
+
+		private final List<MicroProfilePropertiesScope> scopes;
+
+		private IPropertiesCollector target;
+
+		private VirtualFile currentJar;
+
+		private Search(String contextKey, @Nullable String classpathKey, Map<VirtualFile, List<ConfigurationMetadata>> cachedJars,
+					   List<MicroProfilePropertiesScope> scopes) {
+			this.contextKey = contextKey;
+			this.classpathKey = classpathKey;
+			this.cachedJars = cachedJars;
+			this.scopes = scopes;
+			this.collectedJars = new LinkedHashMap<>();
+			this.collectedMetadata = new LinkedHashMap<>();
+			this.collectedSnapshots = new LinkedHashMap<>();
+			this.collector = new PropertiesCollectorRouter();
+		}
+
+		/**
+		 * Returns the given scope without the JARs whose properties are cached.
+		 *
+		 * @param scope the search scope.
+		 * @return the given scope without the JARs whose properties are cached.
+		 */
+		public GlobalSearchScope restrict(@NotNull GlobalSearchScope scope) {
+			if (cachedJars.isEmpty()) {
+				return scope;
+			}
+			return new DelegatingGlobalSearchScope(scope, cachedJars.keySet()) {
+				@Override
+				public boolean contains(@NotNull VirtualFile file) {
+					return super.contains(file) && !cachedJars.containsKey(getJarFile(file));
+				}
+			};
+		}
+
+		/**
+		 * Returns the collector to use in the search context.
+		 *
+		 * @return the collector to use in the search context.
+		 */
+		public IPropertiesCollector getCollector() {
+			return collector;
+		}
+
+		/**
+		 * Set the collector which collects the properties of the Java search matches which don't come from a JAR
+		 * (ex : source files).
+		 *
+		 * @param target the collector.
+		 */
+		public void setTarget(@NotNull IPropertiesCollector target) {
+			this.target = target;
+			collector.setDelegate(target);
+		}
+
+		/**
+		 * Returns true if the properties of the JAR of the given match are cached (the match must be ignored) and false otherwise.
+		 *
+		 * @param match the Java search match.
+		 * @return true if the properties of the JAR of the given match are cached and false otherwise.
+		 */
+		public boolean isCached(@NotNull PsiModifierListOwner match) {
+			VirtualFile jarFile = getJarFile(match);
+			return jarFile != null && cachedJars.containsKey(jarFile);
+		}
+
+		/**
+		 * Route the properties which will be collected to the collector of the JAR of the given match.
+		 *
+		 * @param match the Java search match whose JAR properties are not cached (see {@link #isCached(PsiModifierListOwner)}).
+		 */
+		public void setCurrentMatch(@NotNull PsiModifierListOwner match) {
+			currentJar = getJarFile(match);
+			collector.setDelegate(currentJar != null ? getJarCollector(new JarPart(currentJar, false)) : target);
+		}
+
+		/**
+		 * Route the properties which will be collected by the given provider for the current match to the part of the
+		 * JAR which depends on the classpath when the provider is classpath dependent
+		 * (see {@link IPropertiesProvider#isClasspathDependent()}).
+		 *
+		 * @param provider the properties provider which collects the properties of the current match.
+		 */
+		public void setCurrentProvider(@NotNull IPropertiesProvider provider) {
+			if (currentJar != null) {
+				boolean classpathDependent = classpathKey != null && provider.isClasspathDependent();
+				collector.setDelegate(getJarCollector(new JarPart(currentJar, classpathDependent)));
+			}
+		}
+
+		private PropertiesCollector getJarCollector(JarPart part) {
+			PropertiesCollector jarCollector = collectedJars.get(part);
+			if (jarCollector == null) {
+				ConfigurationMetadata metadata = new ConfigurationMetadata();
+				jarCollector = new PropertiesCollector(metadata, scopes);
+				collectedJars.put(part, jarCollector);
+				collectedMetadata.put(part, metadata);
+			}
+			return jarCollector;
+		}
+
+		/**
+		 * Add the cached and collected properties of the JARs to the given collector and route the properties which
+		 * will be collected (ex : by {@link IPropertiesProvider#endSearch}) to the given collector.
+		 *
+		 * @param target the collector to fill.
+		 */
+		public void mergeTo(@NotNull PropertiesCollector target) {
+			for (List<ConfigurationMetadata> parts : cachedJars.values()) {
+				for (ConfigurationMetadata metadata : parts) {
+					target.addContribution(metadata);
+				}
+			}
+			// Store a snapshot of the collected properties before they are shared with the collector
+			takeSnapshots();
+			for (ConfigurationMetadata metadata : collectedMetadata.values()) {
+				target.addContribution(metadata);
+			}
+			collector.setDelegate(target);
+		}
+
+		/**
+		 * Store the properties collected from the JARs.
+		 */
+		public void endSearch() {
+			if (collectedMetadata.isEmpty()) {
+				return;
+			}
+			takeSnapshots();
+			Map<String, JsonElement> toStore = new HashMap<>();
+			Set<VirtualFile> jarFiles = new LinkedHashSet<>();
+			for (JarPart part : collectedSnapshots.keySet()) {
+				jarFiles.add(part.jarFile());
+			}
+			for (VirtualFile jarFile : jarFiles) {
+				// A JAR without properties is stored too, to avoid searching it again
+				storePart(new JarPart(jarFile, false), contextKey, toStore);
+				if (classpathKey != null) {
+					storePart(new JarPart(jarFile, true), contextKey + '|' + classpathKey, toStore);
+				}
+			}
+			cache.putAll(toStore);
+			if (persistent) {
+				ApplicationManager.getApplication().executeOnPooledThread(() -> {
+					for (Map.Entry<String, JsonElement> entry : toStore.entrySet()) {
+						save(entry.getKey(), entry.getValue());
+					}
+					prune();
+				});
+			}
+		}
+
+		private void storePart(JarPart part, String partKey, Map<String, JsonElement> toStore) {
+			String key = getKey(part.jarFile(), partKey);
+			if (key != null) {
+				JsonElement snapshot = collectedSnapshots.get(part);
+				toStore.put(key, snapshot != null ? snapshot : createGson().toJsonTree(new ConfigurationMetadata()));
+			}
+		}
+
+		private void takeSnapshots() {
+			if (collectedSnapshots.isEmpty()) {
+				Gson gson = createGson();
+				for (Map.Entry<JarPart, ConfigurationMetadata> entry : collectedMetadata.entrySet()) {
+					collectedSnapshots.put(entry.getKey(), gson.toJsonTree(entry.getValue()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Part of the properties of a JAR: the properties which only depend on the JAR content or the properties collected
+	 * by the providers which depend on the classpath.
+	 */
+	private record JarPart(VirtualFile jarFile, boolean classpathDependent) {
+	}
+
+	/**
+	 * Begin the search of the properties of the classpath of the given module by loading the cached
+	 * properties of the JARs of the classpath.
+	 *
+	 * @param module     the module.
+	 * @param contextKey the key of the search context (ex : the document format).
+	 * @param scopes     the search scopes.
+	 * @return the search.
+	 */
+	public Search beginSearch(@NotNull Module module, @NotNull String contextKey, @NotNull List<MicroProfilePropertiesScope> scopes) {
+		VirtualFile[] roots = OrderEnumerator.orderEntries(module)
+				.librariesOnly()
+				.recursively()
+				.classes()
+				.getRoots();
+		Set<VirtualFile> jarFiles = new LinkedHashSet<>();
+		for (VirtualFile root : roots) {
+			VirtualFile jarFile = getJarFile(root);
+			if (jarFile != null) {
+				jarFiles.add(jarFile);
+			}
+		}
+		// The properties collected by the classpath dependent providers are cached with the classpath in their key
+		boolean hasClasspathDependentProviders = IPropertiesProvider.EP_NAME.getExtensionList().stream()
+				.anyMatch(IPropertiesProvider::isClasspathDependent);
+		String classpathKey = hasClasspathDependentProviders ? getClasspathKey(jarFiles) : null;
+		Map<VirtualFile, List<ConfigurationMetadata>> cachedJars = new LinkedHashMap<>();
+		for (VirtualFile jarFile : jarFiles) {
+			ConfigurationMetadata metadata = get(jarFile, contextKey);
+			if (metadata == null) {
+				continue;
+			}
+			if (classpathKey == null) {
+				cachedJars.put(jarFile, List.of(metadata));
+				continue;
+			}
+			ConfigurationMetadata classpathMetadata = get(jarFile, contextKey + '|' + classpathKey);
+			if (classpathMetadata != null) {
+				cachedJars.put(jarFile, List.of(metadata, classpathMetadata));
+			}
+		}
+		return new Search(contextKey, classpathKey, cachedJars, scopes);
+	}
+
+	/**
+	 * Returns a key of the classpath computed from the size and the content hash of the given JARs (the content hashes
+	 * are computed once per JAR file version, see {@link #getContentHash(File, long)}).
+	 */
+	private String getClasspathKey(@NotNull Set<VirtualFile> jarFiles) {
+		CRC32 crc = new CRC32();
+		for (VirtualFile jarFile : jarFiles) {
+			File file = new File(jarFile.getPath());
+			long length = file.length();
+			crc.update((length + "|" + getContentHash(file, length) + ';').getBytes(StandardCharsets.UTF_8));
+		}
+		return Long.toHexString(crc.getValue());
+	}
+
+	/**
+	 * Clear the properties cached in memory.
+	 */
+	@TestOnly
+	public void clear() {
+		cache.clear();
+	}
+
+	@Nullable
+	private ConfigurationMetadata get(@NotNull VirtualFile jarFile, @NotNull String contextKey) {
+		String key = getKey(jarFile, contextKey);
+		if (key == null) {
+			return null;
+		}
+		JsonElement json = cache.get(key);
+		if (json == null && persistent) {
+			json = load(key);
+			if (json != null) {
+				cache.put(key, json);
+			}
+		}
+		// Create a new instance to avoid updating the cached properties with the properties of a search
+		return json != null ? createGson().fromJson(json, ConfigurationMetadata.class) : null;
+	}
+
+	/**
+	 * Returns the cache key of the given JAR or null if the JAR cannot be read. The key doesn't depend on the JAR path,
+	 * so the properties of a JAR are shared by all the modules (and projects) which use the same JAR.
+	 */
+	@Nullable
+	private String getKey(@NotNull VirtualFile jarFile, @NotNull String contextKey) {
+		File file = new File(jarFile.getPath());
+		long length = file.length();
+		String contentHash = getContentHash(file, length);
+		if (contentHash == null) {
+			return null;
+		}
+		String key = length + "|" + contentHash + '|' + contextKey + '|' + getProvidersVersion();
+		return Integer.toHexString(key.hashCode()) + '-' + contentHash;
+	}
+
+	/**
+	 * Returns a hash of the content of the given JAR computed from the names and CRC of its entries (stored in the
+	 * central directory of the JAR, so the JAR content doesn't need to be decompressed).
+	 */
+	@Nullable
+	private String getContentHash(@NotNull File file, long length) {
+		String fileKey = file.getPath() + '|' + length + '|' + file.lastModified();
+		String hash = contentHashes.get(fileKey);
+		if (hash == null) {
+			CRC32 crc = new CRC32();
+			try (ZipFile zipFile = new ZipFile(file)) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					crc.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+					long entryCrc = entry.getCrc();
+					for (int i = 0; i < 8; i++) {
+						crc.update((int) (entryCrc >>> (i * 8)));
+					}
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Cannot compute the content hash of '" + file + "'", e);
+				return null;
+			}
+			hash = Long.toHexString(crc.getValue());
+			contentHashes.put(fileKey, hash);
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the version of the properties providers: when the plugin or the list of the providers (coming from
+	 * other plugins) change, the cached properties are collected again.
+	 */
+	private String getProvidersVersion() {
+		if (providersVersion == null) {
+			IdeaPluginDescriptor plugin = PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID));
+			String pluginVersion = plugin != null ? plugin.getVersion() : "";
+			String providers = IPropertiesProvider.EP_NAME.getExtensionList().stream()
+					.map(provider -> provider.getClass().getName())
+					.sorted()
+					.collect(Collectors.joining(","));
+			providersVersion = CACHE_VERSION + "-" + pluginVersion + "-" + Integer.toHexString(providers.hashCode());
+		}
+		return providersVersion;
+	}
+
+	@Nullable
+	private JsonElement load(@NotNull String key) {
+		Path file = cacheDir.resolve(key + CACHE_FILE_EXTENSION);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			JsonElement json = JsonParser.parseReader(reader);
+			// Mark the cache file as recently used
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return json;
+		} catch (Exception e) {
+			LOGGER.warn("Cannot load cached MicroProfile properties from '" + file + "'", e);
+			return null;
+		}
+	}
+
+	private void save(@NotNull String key, @NotNull JsonElement metadata) {
+		Path file = cacheDir.resolve(key + CACHE_FILE_EXTENSION);
+		try {
+			Files.createDirectories(cacheDir);
+			Path tmpFile = Files.createTempFile(cacheDir, key, ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+				createGson().toJson(metadata, writer);
+			}
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			LOGGER.warn("Cannot store MicroProfile properties in '" + file + "'", e);
+		}
+	}
+
+	/**
+	 * Delete the least recently used cache files when the cache exceeds {@link #MAX_CACHED_FILES} files.
+	 */
+	private void prune() {
+		prune(cacheDir, MAX_CACHED_FILES);
+	}
+
+	static void prune(@NotNull Path cacheDir, int maxFiles) {
+		if (!Files.isDirectory(cacheDir)) {
+			return;
+		}
+		try (Stream<Path> files = Files.list(cacheDir)) {
+			List<Path> cacheFiles = files
+					.filter(file -> file.getFileName().toString().endsWith(CACHE_FILE_EXTENSION))
+					.sorted(Comparator.comparingLong(LibraryPropertiesCache::getLastModifiedTime).reversed())
+					.toList();
+			for (int i = maxFiles; i < cacheFiles.size(); i++) {
+				Files.deleteIfExists(cacheFiles.get(i));
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Cannot prune the MicroProfile properties cache '" + cacheDir + "'", e);
+		}
+	}
+
+	private static long getLastModifiedTime(@NotNull Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Delete the cache files stored with a previous version of the cache format.
+	 */
+	private void deletePreviousVersions(@NotNull Path rootDir) {
+		if (!Files.isDirectory(rootDir)) {
+			return;
+		}
+		try (Stream<Path> files = Files.list(rootDir)) {
+			for (Path file : files.filter(file -> !file.equals(cacheDir)).toList()) {
+				FileUtil.delete(file);
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Cannot delete the previous MicroProfile properties cache in '" + rootDir + "'", e);
+		}
+	}
+
+	/**
+	 * Returns the local JAR file of the given Java search match and null if the match doesn't come from a JAR.
+	 */
+	@Nullable
+	private static VirtualFile getJarFile(@NotNull PsiModifierListOwner match) {
+		PsiFile file = match.getContainingFile();
+		return file != null ? getJarFile(file.getVirtualFile()) : null;
+	}
+
+	/**
+	 * Returns the local JAR file of the given file (a JAR root or an entry of a JAR) and null otherwise.
+	 */
+	@Nullable
+	private static VirtualFile getJarFile(@Nullable VirtualFile file) {
+		if (file == null || !(file.getFileSystem() instanceof JarFileSystem)) {
+			return null;
+		}
+		return JarFileSystem.getInstance().getLocalByEntry(file);
+	}
+
+	private static Gson createGson() {
+		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+	}
+}
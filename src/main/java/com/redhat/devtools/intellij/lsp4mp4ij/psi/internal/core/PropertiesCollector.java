@@ -13,12 +13,15 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
@@ -46,6 +49,17 @@ public class PropertiesCollector implements IPropertiesCollector {
 	 */
 	private final Set<String> propertyKeys;
 
+	/**
+	 * Collected properties indexed by name, in the order of the properties list. It avoids searching the whole
+	 * properties list when static metadata are merged.
+	 */
+	private final Map<String, Deque<ItemMetadata>> propertiesIndex;
+
+	/**
+	 * Values of the collected hints indexed by value, per hint name.
+	 */
+	private final Map<String, ValuesIndex> valuesIndexes;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -54,6 +68,8 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
 		this.propertyKeys = new HashSet<>();
+		this.propertiesIndex = new HashMap<>();
+		this.valuesIndexes = new HashMap<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
@@ -61,6 +77,32 @@ public class PropertiesCollector implements IPropertiesCollector {
 	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
 			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
 			int phase) {
+		ItemMetadata property = createItemMetadata(name, type, description, sourceType, sourceField, sourceMethod,
+				defaultValue, extensionName, binary, phase);
+		addItemMetadata(property);
+		return property;
+	}
+
+	/**
+	 * Add the given property (created with {@link #createItemMetadata}) if it has not been already collected for
+	 * the same source member.
+	 *
+	 * @param property the property to add.
+	 */
+	void addItemMetadata(ItemMetadata property) {
+		// Avoid contributing the same property twice for the same source member. This happens when a config
+		// interface is annotated with both @ConfigRoot and @ConfigMapping (typical of build-time Quarkus
+		// extensions, e.g. SwaggerUiConfig): it is matched by several providers and would otherwise produce
+		// duplicate metadata, surfacing as multiple identical "Go to definition" targets.
+		if (propertyKeys.add(propertyKey(property.getName(), property.getSourceType(), property.getSourceField(),
+				property.getSourceMethod()))) {
+			addProperty(property);
+		}
+	}
+
+	static ItemMetadata createItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
 		ItemMetadata property = new ItemMetadata();
 		property.setName(name);
 		property.setType(type);
@@ -78,14 +120,6 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
-
-		// Avoid contributing the same property twice for the same source member. This happens when a config
-		// interface is annotated with both @ConfigRoot and @ConfigMapping (typical of build-time Quarkus
-		// extensions, e.g. SwaggerUiConfig): it is matched by several providers and would otherwise produce
-		// duplicate metadata, surfacing as multiple identical "Go to definition" targets.
-		if (propertyKeys.add(propertyKey(name, sourceType, sourceField, sourceMethod))) {
-			configuration.getProperties().add(property);
-		}
 		return property;
 	}
 
@@ -115,9 +149,11 @@ public class PropertiesCollector implements IPropertiesCollector {
 	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
 		List<ItemMetadata> properties = metadata.getProperties();
 		if (properties != null) {
+			Set<ItemMetadata> replacedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
 			for (ItemMetadata property: properties) {
-				merge(property, mergingStrategy);
+				merge(property, mergingStrategy, replacedProperties);
 			}
+			removeProperties(replacedProperties);
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -128,6 +164,12 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	public void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+		Set<ItemMetadata> replacedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
+		merge(property, mergingStrategy, replacedProperties);
+		removeProperties(replacedProperties);
+	}
+
+	private void merge(ItemMetadata property, MergingStrategy mergingStrategy, Set<ItemMetadata> replacedProperties) {
 		if (onlySources && (property.getSource() == null || !property.getSource())) {
 			// In the case of the scopes is only sources, the property which is a binary
 			// property must not be added.
@@ -138,7 +180,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 				mergeWithIgnoreIfExists(property);
 				break;
 			case REPLACE:
-				mergeWithReplace(property);
+				mergeWithReplace(property, replacedProperties);
 				break;
 			default:
 				addProperty(property);
@@ -147,30 +189,68 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (propertiesIndex.containsKey(property.getName())) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		Optional<ItemMetadata> configProperty = configProperties.stream()
-				.filter(cp -> cp.getName().equals(property.getName())).findFirst();
-		return configProperty;
-	}
-
-	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+	private void mergeWithReplace(ItemMetadata property, Set<ItemMetadata> replacedProperties) {
+		Deque<ItemMetadata> existingProperties = propertiesIndex.get(property.getName());
+		if (existingProperties != null) {
+			// The replaced property is removed from the properties list once the whole metadata is merged
+			replacedProperties.add(existingProperties.pollFirst());
+			if (existingProperties.isEmpty()) {
+				propertiesIndex.remove(property.getName());
+			}
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		propertiesIndex.computeIfAbsent(property.getName(), k -> new ArrayDeque<>(1)).addLast(property);
+	}
+
+	private void removeProperties(Set<ItemMetadata> properties) {
+		if (!properties.isEmpty()) {
+			configuration.getProperties().removeIf(properties::contains);
+		}
+	}
+
+	/**
+	 * Add the properties and hints collected by another collector (ex : the contribution of a given Java file).
+	 * Properties are added as is and hints are merged with the existing hints.
+	 *
+	 * @param metadata the collected properties and hints.
+	 */
+	void addContribution(ConfigurationMetadata metadata) {
+		if (metadata.getProperties() != null) {
+			for (ItemMetadata property : metadata.getProperties()) {
+				addProperty(property);
+			}
+		}
+		if (metadata.getHints() != null) {
+			for (ItemHint itemHint : metadata.getHints()) {
+				ItemHint existingItemHint = getExistingItemHint(itemHint.getName());
+				if (existingItemHint != null) {
+					// The same hint (ex : an enum used by several config classes) can be contributed by several files
+					merge(itemHint.getValues(), existingItemHint, MergingStrategy.IGNORE_IF_EXISTS);
+				} else {
+					// Copy the hint to avoid updating the contribution with the next merges
+					ItemHint copy = new ItemHint();
+					copy.setName(itemHint.getName());
+					copy.setDescription(itemHint.getDescription());
+					copy.setSourceType(itemHint.getSourceType());
+					copy.setSource(itemHint.getSource());
+					copy.setValues(itemHint.getValues() != null ? new ArrayList<>(itemHint.getValues()) : new ArrayList<>());
+					if (itemHint.getProviders() != null) {
+						copy.setProviders(new ArrayList<>(itemHint.getProviders()));
+					}
+					addItemHint(copy);
+				}
+			}
+		}
 	}
 
 	// --------------- ItemHint merge
@@ -186,35 +266,99 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
-	private static void merge(List<ValueHint> from, ItemHint to, MergingStrategy mergingStrategy) {
+	private void merge(List<ValueHint> from, ItemHint to, MergingStrategy mergingStrategy) {
 		if (from == null || from.isEmpty()) {
 			return;
 		}
 		if (to.getValues() == null) {
 			to.setValues(new ArrayList<>());
 		}
+		ValuesIndex index = getValuesIndex(to);
+		Set<ValueHint> replacedValues = Collections.newSetFromMap(new IdentityHashMap<>());
 		for (ValueHint fromValue : from) {
 			switch (mergingStrategy) {
 				case IGNORE_IF_EXISTS:
-					if (!getExistingValue(fromValue.getValue(), to.getValues()).isPresent()) {
-						to.getValues().add(fromValue);
+					if (!index.contains(fromValue.getValue())) {
+						index.add(fromValue);
 					}
 					break;
 				case REPLACE:
-					Optional<ValueHint> existingValue = getExistingValue(fromValue.getValue(), to.getValues());
-					if (existingValue.isPresent()) {
-						to.getValues().remove(existingValue.get());
+					ValueHint existingValue = index.remove(fromValue.getValue());
+					if (existingValue != null) {
+						replacedValues.add(existingValue);
 					}
-					to.getValues().add(fromValue);
+					index.add(fromValue);
 					break;
 				default:
-					to.getValues().add(fromValue);
+					index.add(fromValue);
 			}
 		}
+		if (!replacedValues.isEmpty()) {
+			to.getValues().removeIf(replacedValues::contains);
+			index.indexedSize = to.getValues().size();
+		}
+	}
+
+	private ValuesIndex getValuesIndex(ItemHint hint) {
+		ValuesIndex index = valuesIndexes.get(hint.getName());
+		if (index == null || index.values != hint.getValues() || index.indexedSize > hint.getValues().size()) {
+			// The values list has been replaced (or reduced) outside the collector, index it again
+			index = new ValuesIndex(hint.getValues());
+			valuesIndexes.put(hint.getName(), index);
+		}
+		// Index the values added outside the collector (ex : by a provider with getItemHint(name).getValues().add(value))
+		index.update();
+		return index;
 	}
 
-	private static Optional<ValueHint> getExistingValue(String name, List<ValueHint> values) {
-		return values.stream().filter(cp -> cp.getValue().equals(name)).findFirst();
+	/**
+	 * Values of a hint indexed by value, in the order of the values list.
+	 */
+	private static class ValuesIndex {
+
+		private final List<ValueHint> values;
+
+		private final Map<String, Deque<ValueHint>> valuesByName;
+
+		private int indexedSize;
+
+		ValuesIndex(List<ValueHint> values) {
+			this.values = values;
+			this.valuesByName = new HashMap<>();
+		}
+
+		void update() {
+			for (int i = indexedSize; i < values.size(); i++) {
+				index(values.get(i));
+			}
+			indexedSize = values.size();
+		}
+
+		boolean contains(String value) {
+			return valuesByName.containsKey(value);
+		}
+
+		void add(ValueHint value) {
+			values.add(value);
+			index(value);
+			indexedSize = values.size();
+		}
+
+		ValueHint remove(String value) {
+			Deque<ValueHint> existingValues = valuesByName.get(value);
+			if (existingValues == null) {
+				return null;
+			}
+			ValueHint existingValue = existingValues.pollFirst();
+			if (existingValues.isEmpty()) {
+				valuesByName.remove(value);
+			}
+			return existingValue;
+		}
+
+		private void index(ValueHint value) {
+			valuesByName.computeIfAbsent(value.getValue(), k -> new ArrayDeque<>(1)).addLast(value);
+		}
 	}
 
 	private ItemHint getExistingItemHint(String hint) {
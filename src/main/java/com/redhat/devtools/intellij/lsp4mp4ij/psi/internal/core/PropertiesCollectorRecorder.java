@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thread-confined collector which records the properties / hints collected by the properties providers for a
+ * batch of Java search matches, to replay them later in the search collector.
+ *
+ * <p>
+ * The records are grouped by segment (a match and a provider), and segments are replayed in the order of the
+ * serial search, so that the replayed properties / hints are the same as if they were collected directly in the
+ * search collector:
+ * <code>
+ * // in a worker thread
+ * recorder.startSegment(matchIndex, providerIndex);
+ * provider.collectProperties(match, contextWithRecorder);
+ * // in the search thread, for each match and provider in the search order
+ * recorder.replay(matchIndex, providerIndex, context.getCollector());
+ * </code>
+ * </p>
+ */
+public class PropertiesCollectorRecorder implements IPropertiesCollector {
+
+	private final List<Segment> segments;
+
+	/**
+	 * Hints created in the current segment.
+	 */
+	private final Map<String, ItemHint> hints;
+
+	/**
+	 * Hints which have been checked with {@link #hasItemHint(String)} in the current segment and which don't exist.
+	 */
+	private final Set<String> checkedHints;
+
+	private int matchIndex;
+
+	private int providerIndex;
+
+	private Segment current;
+
+	private int replayIndex;
+
+	public PropertiesCollectorRecorder() {
+		this.segments = new ArrayList<>();
+		this.hints = new HashMap<>();
+		this.checkedHints = new HashSet<>();
+	}
+
+	/**
+	 * Records of a given match and a given provider.
+	 */
+	private static class Segment {
+
+		private final int matchIndex;
+
+		private final int providerIndex;
+
+		private final List<Object> records;
+
+		Segment(int matchIndex, int providerIndex) {
+			this.matchIndex = matchIndex;
+			this.providerIndex = providerIndex;
+			this.records = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * A hint created by a provider.
+	 */
+	private static class HintRecord {
+
+		private final ItemHint hint;
+
+		/**
+		 * true if the provider has checked that the hint doesn't exist before creating it
+		 * (see {@link com.redhat.devtools.intellij.lsp4mp4ij.psi.core.AbstractPropertiesProvider#updateHint}).
+		 */
+		private final boolean checked;
+
+		HintRecord(ItemHint hint, boolean checked) {
+			this.hint = hint;
+			this.checked = checked;
+		}
+	}
+
+	/**
+	 * A merge of metadata done by a provider.
+	 */
+	private static class MergeRecord {
+
+		private final ConfigurationMetadata metadata;
+
+		private final MergingStrategy mergingStrategy;
+
+		MergeRecord(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+			this.metadata = metadata;
+			this.mergingStrategy = mergingStrategy;
+		}
+	}
+
+	/**
+	 * Start the records of the given match and provider. The segments must be started in the search order.
+	 *
+	 * @param matchIndex    the index of the Java search match.
+	 * @param providerIndex the index of the properties provider.
+	 */
+	public void startSegment(int matchIndex, int providerIndex) {
+		this.matchIndex = matchIndex;
+		this.providerIndex = providerIndex;
+		this.current = null;
+		this.hints.clear();
+		this.checkedHints.clear();
+	}
+
+	@Override
+	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
+		ItemMetadata property = PropertiesCollector.createItemMetadata(name, type, description, sourceType,
+				sourceField, sourceMethod, defaultValue, extensionName, binary, phase);
+		record(property);
+		return property;
+	}
+
+	@Override
+	public boolean hasItemHint(String hint) {
+		if (hints.containsKey(hint)) {
+			return true;
+		}
+		// The hint could exist in the search collector, it is checked again when it is replayed
+		checkedHints.add(hint);
+		return false;
+	}
+
+	@Override
+	public ItemHint getItemHint(String hint) {
+		ItemHint itemHint = hints.get(hint);
+		if (itemHint != null) {
+			return itemHint;
+		}
+		itemHint = new ItemHint();
+		itemHint.setName(hint);
+		itemHint.setValues(new ArrayList<>());
+		hints.put(hint, itemHint);
+		record(new HintRecord(itemHint, checkedHints.remove(hint)));
+		return itemHint;
+	}
+
+	@Override
+	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+		record(new MergeRecord(metadata, mergingStrategy));
+	}
+
+	private void record(Object record) {
+		if (current == null) {
+			current = new Segment(matchIndex, providerIndex);
+			segments.add(current);
+		}
+		current.records.add(record);
+	}
+
+	/**
+	 * Replay the records of the given match and provider in the given collector. The segments must be replayed
+	 * in the search order.
+	 *
+	 * @param matchIndex    the index of the Java search match.
+	 * @param providerIndex the index of the properties provider.
+	 * @param target        the search collector.
+	 */
+	public void replay(int matchIndex, int providerIndex, @NotNull IPropertiesCollector target) {
+		if (replayIndex >= segments.size()) {
+			return;
+		}
+		Segment segment = segments.get(replayIndex);
+		if (segment.matchIndex != matchIndex || segment.providerIndex != providerIndex) {
+			// Nothing has been collected for the given match and provider
+			return;
+		}
+		replayIndex++;
+		IPropertiesCollector collector = getCollector(target);
+		for (Object record : segment.records) {
+			if (record instanceof ItemMetadata property) {
+				replay(property, collector);
+			} else if (record instanceof HintRecord hintRecord) {
+				replay(hintRecord, collector);
+			} else if (record instanceof MergeRecord mergeRecord) {
+				collector.merge(mergeRecord.metadata, mergeRecord.mergingStrategy);
+			}
+		}
+	}
+
+	private static void replay(ItemMetadata property, IPropertiesCollector collector) {
+		if (collector instanceof PropertiesCollector propertiesCollector) {
+			// Add the recorded instance which could have been updated by the provider after its creation
+			propertiesCollector.addItemMetadata(property);
+		} else {
+			collector.addItemMetadata(property.getName(), property.getType(), property.getDescription(),
+					property.getSourceType(), property.getSourceField(), property.getSourceMethod(),
+					property.getDefaultValue(), property.getExtensionName(), !Boolean.TRUE.equals(property.getSource()),
+					property.getPhase());
+		}
+	}
+
+	private static void replay(HintRecord record, IPropertiesCollector collector) {
+		ItemHint recordedHint = record.hint;
+		if (record.checked && collector.hasItemHint(recordedHint.getName())) {
+			// The provider would have not updated the hint, because it already exists
+			return;
+		}
+		ItemHint itemHint = collector.getItemHint(recordedHint.getName());
+		if (recordedHint.getDescription() != null) {
+			itemHint.setDescription(recordedHint.getDescription());
+		}
+		if (recordedHint.getSourceType() != null) {
+			itemHint.setSourceType(recordedHint.getSourceType());
+		}
+		if (recordedHint.getSource() != null) {
+			itemHint.setSource(recordedHint.getSource());
+		}
+		if (recordedHint.getValues() != null && !recordedHint.getValues().isEmpty()) {
+			if (itemHint.getValues() == null) {
+				itemHint.setValues(new ArrayList<>());
+			}
+			itemHint.getValues().addAll(recordedHint.getValues());
+		}
+		if (recordedHint.getProviders() != null) {
+			if (itemHint.getProviders() == null) {
+				itemHint.setProviders(new ArrayList<>());
+			}
+			itemHint.getProviders().addAll(recordedHint.getProviders());
+		}
+	}
+
+	private static IPropertiesCollector getCollector(IPropertiesCollector collector) {
+		while (collector instanceof PropertiesCollectorRouter router) {
+			collector = router.getDelegate();
+		}
+		return collector;
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Collector which delegates to the collector of the Java search match which is currently processed
+ * (ex : the collector of a Java file or of a JAR).
+ */
+class PropertiesCollectorRouter implements IPropertiesCollector {
+
+	private IPropertiesCollector delegate;
+
+	PropertiesCollectorRouter() {
+		// Properties collected before the first match (ex : in beginSearch) are ignored
+		this.delegate = new PropertiesCollector(new ConfigurationMetadata(), MicroProfilePropertiesScope.ONLY_SOURCES);
+	}
+
+	void setDelegate(IPropertiesCollector delegate) {
+		this.delegate = delegate;
+	}
+
+	IPropertiesCollector getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
+		return delegate.addItemMetadata(name, type, description, sourceType, sourceField, sourceMethod,
+				defaultValue, extensionName, binary, phase);
+	}
+
+	@Override
+	public boolean hasItemHint(String hint) {
+		return delegate.hasItemHint(hint);
+	}
+
+	@Override
+	public ItemHint getItemHint(String hint) {
+		return delegate.getItemHint(hint);
+	}
+
+	@Override
+	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+		delegate.merge(metadata, mergingStrategy);
+	}
+}
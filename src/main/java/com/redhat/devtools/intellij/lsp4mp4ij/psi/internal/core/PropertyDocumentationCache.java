@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the documentation of the MicroProfile properties of a module, resolved on demand with
+ * <code>microprofile/propertyDocumentation</code> when the properties are collected without documentation.
+ *
+ * <p>
+ * The documentation is stored per property source (type, field, method) and document format. The cache must be
+ * evicted when the Java sources or the libraries of the module change.
+ * </p>
+ */
+public class PropertyDocumentationCache {
+
+    // ConcurrentHashMap doesn't support null values
+    private static final String NO_DOCUMENTATION = "";
+
+    private final Map<String, String> documentations = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached documentation of the given property source and load it with the given loader otherwise.
+     *
+     * @param sourceType     the source type.
+     * @param sourceField    the source field and null otherwise.
+     * @param sourceMethod   the source method and null otherwise.
+     * @param documentFormat the document format.
+     * @param loader         the documentation loader.
+     * @return the documentation of the given property source and null otherwise.
+     */
+    public @Nullable String getDocumentation(@NotNull String sourceType, @Nullable String sourceField,
+                                             @Nullable String sourceMethod, @Nullable DocumentFormat documentFormat,
+                                             @NotNull Supplier<String> loader) {
+        String key = documentFormat + "#" + sourceType + "#" + sourceField + "#" + sourceMethod;
+        String documentation = documentations.get(key);
+        if (documentation == null) {
+            documentation = loader.get();
+            if (documentation == null) {
+                documentation = NO_DOCUMENTATION;
+            }
+            documentations.put(key, documentation);
+        }
+        return documentation.isEmpty() ? null : documentation;
+    }
+
+    /**
+     * Evict the cache.
+     */
+    public void evict() {
+        documentations.clear();
+    }
+}
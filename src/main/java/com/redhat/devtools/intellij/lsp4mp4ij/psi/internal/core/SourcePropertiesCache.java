@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of the MicroProfile properties / hints contributed by the Java source files of a module.
+ *
+ * <p>
+ * Contributions are stored per Java file. When some Java files have changed, only those files (and the files
+ * whose contributions reference a class declared in a changed file, like a config mapping using a nested group
+ * declared in another file) are searched again and their contributions are patched into the cached ones.
+ * </p>
+ *
+ * <p>
+ * The cache is filled / updated with:
+ * <code>
+ * Update update = cache.beginUpdate(key, project);
+ * // search with update.getChangedFiles() (or the full scope if update.isFullUpdate())
+ * // and collect properties with update.getCollector() (see Update#setCurrentMatch)
+ * cache.endUpdate(update);
+ * </code>
+ * </p>
+ */
+public class SourcePropertiesCache {
+
+    private static final String NO_FILE = "";
+
+    private final Map<String, FileContribution> contributions;
+
+    private final Map<String, Long> changedFiles;
+
+    private long modificationCount;
+
+    private long evictionCount;
+
+    private String contextKey;
+
+    public SourcePropertiesCache() {
+        this.contributions = new LinkedHashMap<>();
+        this.changedFiles = new HashMap<>();
+    }
+
+    /**
+     * Properties, hints contributed by a given Java file.
+     */
+    private static class FileContribution {
+
+        private final ConfigurationMetadata metadata;
+
+        private final PropertiesCollector collector;
+
+        private final Set<String> declaredTypes;
+
+        private Set<String> referencedTypes;
+
+        FileContribution(Set<String> declaredTypes, List<MicroProfilePropertiesScope> scopes) {
+            this.metadata = new ConfigurationMetadata();
+            this.collector = new PropertiesCollector(metadata, scopes);
+            this.declaredTypes = declaredTypes;
+        }
+
+        Set<String> getReferencedTypes() {
+            if (referencedTypes == null) {
+                Set<String> types = new HashSet<>();
+                for (ItemMetadata property : metadata.getProperties()) {
+                    if (property.getSourceType() != null) {
+                        types.add(property.getSourceType());
+                    }
+                }
+                for (ItemHint hint : metadata.getHints()) {
+                    if (hint.getSourceType() != null) {
+                        types.add(hint.getSourceType());
+                    }
+                }
+                referencedTypes = types;
+            }
+            return referencedTypes;
+        }
+    }
+
+    /**
+     * Update of the cache for a given search.
+     */
+    public class Update {
+
+        private final boolean fullUpdate;
+
+        private final Set<VirtualFile> changedFiles;
+
+        private final Set<String> changedFileUrls;
+
+        private final Map<String, Long> changedFilesSnapshot;
+
+        private final long evictionCountSnapshot;
+
+        private final String contextKey;
+
+        private final Map<String, FileContribution> newContributions;
+
+        private final Map<String, FileContribution> baseContributions;
+
+        private final PropertiesCollectorRouter collector;
+
+        private final List<MicroProfilePropertiesScope> scopes;
+
+        private final PsiManager psiManager;
+
+        private Update(boolean fullUpdate, Set<VirtualFile> changedFiles, Set<String> changedFileUrls,
+                       Map<String, FileContribution> baseContributions, String contextKey,
+                       List<MicroProfilePropertiesScope> scopes, PsiManager psiManager) {
+            this.fullUpdate = fullUpdate;
+            this.changedFiles = changedFiles;
+            this.changedFileUrls = changedFileUrls;
+            this.changedFilesSnapshot = new HashMap<>(SourcePropertiesCache.this.changedFiles);
+            this.evictionCountSnapshot = evictionCount;
+            this.contextKey = contextKey;
+            this.baseContributions = baseContributions;
+            this.scopes = scopes;
+            this.psiManager = psiManager;
+            this.newContributions = new LinkedHashMap<>();
+            this.collector = new PropertiesCollectorRouter();
+            // Java files which have changed must be stored even if they don't contribute to properties anymore,
+            // to be able to find their dependent files when they will change again.
+            for (VirtualFile file : changedFiles) {
+                getOrCreateContribution(file);
+            }
+        }
+
+        /**
+         * Returns true if the whole scope must be searched and false if only {@link #getChangedFiles()} must be searched.
+         *
+         * @return true if the whole scope must be searched and false if only {@link #getChangedFiles()} must be searched.
+         */
+        public boolean isFullUpdate() {
+            return fullUpdate;
+        }
+
+        /**
+         * Returns true if there is no file to search and false otherwise.
+         *
+         * @return true if there is no file to search and false otherwise.
+         */
+        public boolean hasNothingToSearch() {
+            return !fullUpdate && changedFiles.isEmpty();
+        }
+
+        /**
+         * Returns the existing Java files which must be searched again.
+         *
+         * @return the existing Java files which must be searched again.
+         */
+        public Set<VirtualFile> getChangedFiles() {
+            return changedFiles;
+        }
+
+        /**
+         * Returns the collector to use in the search context.
+         *
+         * @return the collector to use in the search context.
+         */
+        public IPropertiesCollector getCollector() {
+            return collector;
+        }
+
+        /**
+         * Route the properties which will be collected to the contribution of the file of the given match.
+         *
+         * @param match the Java search match.
+         */
+        public void setCurrentMatch(@NotNull PsiModifierListOwner match) {
+            PsiFile file = match.getContainingFile();
+            collector.setDelegate(getOrCreateContribution(file != null ? file.getVirtualFile() : null).collector);
+        }
+
+        /**
+         * Merge the cached contributions with the contributions of the changed files to the given collector
+         * and route the properties which will be collected (ex : by {@link com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider#endSearch})
+         * to the given collector.
+         *
+         * @param target the collector to fill.
+         */
+        public void mergeTo(@NotNull PropertiesCollector target) {
+            Map<String, FileContribution> all = new LinkedHashMap<>(baseContributions);
+            all.putAll(newContributions);
+            for (FileContribution contribution : all.values()) {
+                target.addContribution(contribution.metadata);
+            }
+            collector.setDelegate(target);
+        }
+
+        private FileContribution getOrCreateContribution(@Nullable VirtualFile file) {
+            String url = file != null ? file.getUrl() : NO_FILE;
+            return newContributions.computeIfAbsent(url, k -> new FileContribution(getDeclaredTypes(file, psiManager), scopes));
+        }
+    }
+
+    /**
+     * Mark the given Java file as changed.
+     *
+     * @param file the Java file which has been created, updated or deleted.
+     */
+    public synchronized void sourceFileChanged(@NotNull VirtualFile file) {
+        changedFiles.put(file.getUrl(), ++modificationCount);
+    }
+
+    /**
+     * Evict the whole cache (ex : when libraries or config sources have changed).
+     */
+    public synchronized void evict() {
+        evictionCount++;
+        contextKey = null;
+        contributions.clear();
+        changedFiles.clear();
+    }
+
+    /**
+     * Begin an update of the cache. This method must be called in a read action.
+     *
+     * @param contextKey the key of the search context (classpath kind, document format, etc). When the key is
+     *                   different from the key of the cached contributions, a full update is done.
+     * @param scopes     the search scopes.
+     * @param project    the project.
+     * @return the update.
+     */
+    public synchronized Update beginUpdate(@NotNull String contextKey, @NotNull List<MicroProfilePropertiesScope> scopes, @NotNull Project project) {
+        PsiManager psiManager = PsiManager.getInstance(project);
+        if (!contextKey.equals(this.contextKey)) {
+            return new Update(true, Collections.emptySet(), Collections.emptySet(), Collections.emptyMap(), contextKey, scopes, psiManager);
+        }
+        Set<String> changedUrls = new HashSet<>(changedFiles.keySet());
+        if (!changedUrls.isEmpty()) {
+            // Collect the types declared in the changed files to search the files which depend on them.
+            VirtualFileManager vfsManager = VirtualFileManager.getInstance();
+            Set<String> changedTypes = new HashSet<>();
+            for (String url : changedUrls) {
+                VirtualFile file = vfsManager.findFileByUrl(url);
+                FileContribution existing = contributions.get(url);
+                if (existing == null && (file == null || !file.isValid())) {
+                    // A Java file which is unknown has been deleted, the types that it declared are unknown.
+                    return new Update(true, Collections.emptySet(), Collections.emptySet(), Collections.emptyMap(), contextKey, scopes, psiManager);
+                }
+                if (existing != null) {
+                    changedTypes.addAll(existing.declaredTypes);
+                }
+                changedTypes.addAll(getDeclaredTypes(file, psiManager));
+            }
+            if (!changedTypes.isEmpty()) {
+                for (Map.Entry<String, FileContribution> entry : contributions.entrySet()) {
+                    if (!Collections.disjoint(entry.getValue().getReferencedTypes(), changedTypes)) {
+                        changedUrls.add(entry.getKey());
+                    }
+                }
+            }
+        }
+        Set<VirtualFile> files = new HashSet<>();
+        VirtualFileManager vfsManager = VirtualFileManager.getInstance();
+        for (String url : changedUrls) {
+            VirtualFile file = vfsManager.findFileByUrl(url);
+            if (file != null && file.isValid()) {
+                files.add(file);
+            }
+        }
+        Map<String, FileContribution> base = new LinkedHashMap<>(contributions);
+        base.keySet().removeAll(changedUrls);
+        return new Update(false, files, changedUrls, base, contextKey, scopes, psiManager);
+    }
+
+    /**
+     * End the given update by storing the collected contributions in the cache.
+     *
+     * @param update the update.
+     */
+    public synchronized void endUpdate(@NotNull Update update) {
+        if (update.evictionCountSnapshot != evictionCount) {
+            // The cache has been evicted during the search, the contributions could be obsolete.
+            return;
+        }
+        if (update.fullUpdate) {
+            contributions.clear();
+            contextKey = update.contextKey;
+        } else {
+            contributions.keySet().removeAll(update.changedFileUrls);
+        }
+        contributions.putAll(update.newContributions);
+        // Forget the changed files which have not been changed again during the search
+        for (Map.Entry<String, Long> entry : update.changedFilesSnapshot.entrySet()) {
+            changedFiles.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Set<String> getDeclaredTypes(@Nullable VirtualFile file, @NotNull PsiManager psiManager) {
+        if (file == null || !file.isValid() || file.isDirectory()) {
+            return Collections.emptySet();
+        }
+        Set<String> types = new HashSet<>();
+        PsiFile psiFile = psiManager.findFile(file);
+        if (psiFile != null) {
+            for (PsiClass psiClass : PsiTreeUtil.findChildrenOfType(psiFile, PsiClass.class)) {
+                String name = ClassUtil.getJVMClassName(psiClass);
+                if (name != null) {
+                    types.add(name);
+                }
+            }
+        }
+        return types;
+    }
+}
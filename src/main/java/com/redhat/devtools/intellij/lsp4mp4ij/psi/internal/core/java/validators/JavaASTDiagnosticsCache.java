@@ -0,0 +1,211 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Project cache of the diagnostics reported by the {@link JavaASTDiagnosticsParticipant} for a Java file.
+ *
+ * <p>
+ * The diagnostics of a Java file are reported again without visiting the AST of the Java file when:
+ * </p>
+ *
+ * <ul>
+ * <li>the Java file has not been modified.</li>
+ * <li>the JAR dependencies of the project have not changed.</li>
+ * <li>the Java structure of the project has not changed (ex : a class, a method signature, an annotation of another
+ * Java file). The update of a method body of another Java file keeps the diagnostics.</li>
+ * <li>the diagnostics settings and the document format are the same.</li>
+ * <li>the config files (application.properties, etc) have not changed, or they have changed but the properties used by
+ * the Java file (see {@link JavaDiagnosticsContext#hasProperty(String)}) are assigned the same way.</li>
+ * </ul>
+ */
+public final class JavaASTDiagnosticsCache implements ClasspathResourceChangedManager.Listener {
+
+	public static JavaASTDiagnosticsCache getInstance(@NotNull Project project) {
+		return project.getService(JavaASTDiagnosticsCache.class);
+	}
+
+	/**
+	 * Diagnostics of a Java file.
+	 */
+	private static class Entry {
+
+		private final long modificationStamp;
+
+		private final long classpathEpoch;
+
+		private final long javaStructureModificationCount;
+
+		private final List<Object> settingsKey;
+
+		private final Map<String, Boolean> propertyDependencies;
+
+		private final List<Diagnostic> diagnostics;
+
+		private volatile long configVersion;
+
+		private Entry(long modificationStamp, long classpathEpoch, long javaStructureModificationCount,
+				List<Object> settingsKey, long configVersion, Map<String, Boolean> propertyDependencies,
+				List<Diagnostic> diagnostics) {
+			this.modificationStamp = modificationStamp;
+			this.classpathEpoch = classpathEpoch;
+			this.javaStructureModificationCount = javaStructureModificationCount;
+			this.settingsKey = settingsKey;
+			this.configVersion = configVersion;
+			this.propertyDependencies = propertyDependencies;
+			this.diagnostics = diagnostics;
+		}
+
+		private boolean isPropertyDependenciesValid(PsiMicroProfileProject mpProject) {
+			for (Map.Entry<String, Boolean> dependency : propertyDependencies.entrySet()) {
+				if (mpProject.hasProperty(dependency.getKey()) != dependency.getValue()) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final Map<String /* Java file URL */, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Project project;
+
+	private final AtomicLong classpathEpoch = new AtomicLong();
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private JavaASTDiagnosticsCache(Project project) {
+		this.project = project;
+		project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+				.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+	}
+
+	/**
+	 * Add to the given context the diagnostics of the Java file from the cache, or the diagnostics reported by the
+	 * given validator if the cached diagnostics are not valid anymore.
+	 *
+	 * @param context   the Java diagnostics context.
+	 * @param validator the validator which reports the diagnostics of the Java file in the given context.
+	 */
+	public void collectDiagnostics(@NotNull JavaDiagnosticsContext context,
+			@NotNull Consumer<JavaDiagnosticsContext> validator) {
+		PsiFile typeRoot = context.getTypeRoot();
+		VirtualFile file = typeRoot.getVirtualFile();
+		if (file == null) {
+			validator.accept(context);
+			return;
+		}
+		long modificationStamp = typeRoot.getModificationStamp();
+		long epoch = classpathEpoch.get();
+		// The Java file can depend on the declarations of other Java files (ex : a REST client interface injected in
+		// the Java file), but not on their method bodies
+		long javaStructureModificationCount = PsiModificationTracker.getInstance(project)
+				.getJavaStructureModificationTracker().getModificationCount();
+		List<Object> settingsKey = getSettingsKey(context);
+		PsiMicroProfileProject mpProject = context.getMicroProfileProject();
+		long configVersion = mpProject.getConfigSourcesModificationTracker().getModificationCount();
+
+		Entry entry = entries.get(file.getUrl());
+		if (entry != null && entry.modificationStamp == modificationStamp && entry.classpathEpoch == epoch
+				&& entry.javaStructureModificationCount == javaStructureModificationCount
+				&& entry.settingsKey.equals(settingsKey)) {
+			if (entry.configVersion != configVersion && entry.isPropertyDependenciesValid(mpProject)) {
+				// The config files have changed, but not the properties used by the Java file
+				entry.configVersion = configVersion;
+			}
+			if (entry.configVersion == configVersion) {
+				hitCount.incrementAndGet();
+				context.getDiagnostics().addAll(entry.diagnostics);
+				return;
+			}
+		}
+
+		missCount.incrementAndGet();
+		List<Diagnostic> diagnostics = context.getDiagnostics();
+		int start = diagnostics.size();
+		validator.accept(context);
+		entries.put(file.getUrl(), new Entry(modificationStamp, epoch, javaStructureModificationCount, settingsKey, configVersion,
+				new HashMap<>(context.getPropertyDependencies()),
+				new ArrayList<>(diagnostics.subList(start, diagnostics.size()))));
+	}
+
+	private static List<Object> getSettingsKey(JavaDiagnosticsContext context) {
+		MicroProfileJavaDiagnosticsSettings settings = context.getSettings();
+		return Arrays.asList(context.getDocumentFormat(), settings.getPatterns(),
+				settings.getValidationValueSeverity(), settings.getMode());
+	}
+
+	/**
+	 * Returns the number of Java files whose diagnostics have been returned from the cache.
+	 *
+	 * @return the number of Java files whose diagnostics have been returned from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of Java files whose diagnostics have been computed because they were not cached.
+	 *
+	 * @return the number of Java files whose diagnostics have been computed because they were not cached.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public void librariesChanged() {
+		// Some JARs have been added, removed or updated, the Java types used by the validators can have changed
+		classpathEpoch.incrementAndGet();
+		entries.clear();
+	}
+
+	@Override
+	public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+		// A created, deleted or updated Java file which changes the diagnostics of another Java file changes the Java
+		// structure modification count, only the entries of the deleted Java files are removed here
+		for (Pair<VirtualFile, Module> source : sources) {
+			VirtualFile file = source.getFirst();
+			if (!file.isValid()) {
+				entries.remove(file.getUrl());
+			}
+		}
+	}
+}
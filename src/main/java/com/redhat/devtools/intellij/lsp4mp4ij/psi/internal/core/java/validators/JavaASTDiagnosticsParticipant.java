@@ -37,6 +37,13 @@ public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipan
 
 	@Override
 	public void collectDiagnostics(JavaDiagnosticsContext context) {
+		// The AST compilation unit is visited again only when the Java file, the classpath, the settings or
+		// the properties used by the Java file have changed.
+		JavaASTDiagnosticsCache.getInstance(context.getJavaProject().getProject())
+				.collectDiagnostics(context, JavaASTDiagnosticsParticipant::validate);
+	}
+
+	private static void validate(JavaDiagnosticsContext context) {
 		// Collect the list of JavaASTValidator which are adapted for the current AST
 		// compilation unit to validate.
 		Collection<JavaRecursiveElementVisitor> validators = JavaASTValidatorRegistry.getInstance().getValidators(context);
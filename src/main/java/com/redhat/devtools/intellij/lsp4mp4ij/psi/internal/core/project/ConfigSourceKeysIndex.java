@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.IConfigSource;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sorted index of the property keys of a list of config sources.
+ *
+ * <p>
+ * Keys are indexed as they are declared in the config sources, with their
+ * profile (ex : <code>%dev.quarkus.http.port</code>), so a profile can be
+ * queried by using it in the prefix. Prefix queries are served with a binary
+ * search, in O(log(n) + k) where k is the number of keys which start with the
+ * prefix.
+ * </p>
+ */
+public class ConfigSourceKeysIndex {
+
+	private final List<Set<String>> sourceKeys;
+
+	private final String[] sortedKeys;
+
+	public ConfigSourceKeysIndex(@NotNull List<IConfigSource> configSources) {
+		this.sourceKeys = new ArrayList<>(configSources.size());
+		List<String> keys = new ArrayList<>();
+		for (IConfigSource configSource : configSources) {
+			Set<String> allKeys = configSource.getAllKeys();
+			sourceKeys.add(allKeys);
+			keys.addAll(allKeys);
+		}
+		String[] sortedKeys = keys.toArray(new String[0]);
+		Arrays.sort(sortedKeys);
+		// Remove the keys declared in several config sources
+		int size = 0;
+		for (int i = 0; i < sortedKeys.length; i++) {
+			if (size == 0 || !sortedKeys[i].equals(sortedKeys[size - 1])) {
+				sortedKeys[size++] = sortedKeys[i];
+			}
+		}
+		this.sortedKeys = size == sortedKeys.length ? sortedKeys : Arrays.copyOf(sortedKeys, size);
+	}
+
+	/**
+	 * Returns true if the keys of the given config sources are the keys which have
+	 * been indexed and false otherwise (ex : a config source has been reloaded
+	 * because the config file of the output directory has changed).
+	 *
+	 * @param configSources the config sources.
+	 * @return true if the keys of the given config sources are the keys which have
+	 *         been indexed and false otherwise.
+	 */
+	public boolean isUpToDate(@NotNull List<IConfigSource> configSources) {
+		if (configSources.size() != sourceKeys.size()) {
+			return false;
+		}
+		for (int i = 0; i < configSources.size(); i++) {
+			if (configSources.get(i).getAllKeys() != sourceKeys.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the sorted keys which start with the given prefix.
+	 *
+	 * @param prefix the key prefix (ex : <code>quarkus.http.</code> or
+	 *               <code>%dev.quarkus.http.</code>).
+	 * @return the sorted keys which start with the given prefix.
+	 */
+	public @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+		int start = lowerBound(prefix);
+		int end = start;
+		while (end < sortedKeys.length && sortedKeys[end].startsWith(prefix)) {
+			end++;
+		}
+		if (start == end) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(sortedKeys).subList(start, end));
+	}
+
+	/**
+	 * Returns the segments between the given prefix and suffix of the keys which
+	 * start with the prefix and end with the suffix.
+	 *
+	 * @param prefix the key prefix.
+	 * @param suffix the key suffix.
+	 * @return the segments, in the order of the keys.
+	 */
+	public @NotNull Set<String> getMatchingSegments(@NotNull String prefix, @NotNull String suffix) {
+		Set<String> segments = new LinkedHashSet<>();
+		int minLength = prefix.length() + suffix.length();
+		for (int i = lowerBound(prefix); i < sortedKeys.length && sortedKeys[i].startsWith(prefix); i++) {
+			String key = sortedKeys[i];
+			if (key.length() >= minLength && key.endsWith(suffix)) {
+				segments.add(key.substring(prefix.length(), key.length() - suffix.length()));
+			}
+		}
+		return segments;
+	}
+
+	/**
+	 * Returns the index of the first key which is greater than or equal to the given
+	 * prefix.
+	 */
+	private int lowerBound(String prefix) {
+		int index = Arrays.binarySearch(sortedKeys, prefix);
+		return index >= 0 ? index : -(index + 1);
+	}
+
+}
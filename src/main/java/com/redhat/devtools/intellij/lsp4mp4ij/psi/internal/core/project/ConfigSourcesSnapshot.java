@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.IConfigSource;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
+import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable snapshot of the properties declared in the config sources of a
+ * project.
+ *
+ * <p>
+ * The values of all keys (with their profile, ex :
+ * <code>%dev.quarkus.http.port</code>) are resolved when the snapshot is
+ * created: the config sources are layered by ordinal and the property
+ * expressions are expanded. A lookup is then a single map access, instead of
+ * walking the config sources for each property.
+ * </p>
+ */
+public class ConfigSourcesSnapshot {
+
+	private final List<IConfigSource> configSources;
+
+	private final ConfigSourceKeysIndex keysIndex;
+
+	private final Map<String, String> resolvedValues;
+
+	private final Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+
+	/**
+	 * Create a snapshot of the given config sources.
+	 *
+	 * @param configSources the config sources sorted by ordinal, from the highest
+	 *                      to the lowest.
+	 */
+	public ConfigSourcesSnapshot(@NotNull List<IConfigSource> configSources) {
+		this.configSources = List.copyOf(configSources);
+		this.keysIndex = new ConfigSourceKeysIndex(this.configSources);
+		this.resolvedValues = resolveValues(keysIndex.getKeysWithPrefix(""),
+				createAggregatedPropertiesProvider(this.configSources));
+		this.propertyInformations = new ConcurrentHashMap<>();
+	}
+
+	private static Map<String, String> resolveValues(List<String> keys, IConfigSourcePropertiesProvider provider) {
+		Map<String, String> resolvedValues = new HashMap<>(keys.size());
+		PropertyValueExpander propertyValueExpander = null;
+		for (String key : keys) {
+			String value = provider.getValue(key);
+			if (value != null && value.contains("${")) {
+				if (propertyValueExpander == null) {
+					propertyValueExpander = new PropertyValueExpander(provider);
+				}
+				value = propertyValueExpander.getValue(key);
+			}
+			if (value != null) {
+				resolvedValues.put(key, value);
+			}
+		}
+		return resolvedValues;
+	}
+
+	private static IConfigSourcePropertiesProvider createAggregatedPropertiesProvider(
+			List<IConfigSource> configSources) {
+		if (configSources.isEmpty()) {
+			// Return an empty IConfigSourcePropertiesProvider
+			return new IConfigSourcePropertiesProvider() {
+
+				@Override
+				public Set<String> keys() {
+					return Collections.emptySet();
+				}
+
+				@Override
+				public boolean hasKey(String key) {
+					return false;
+				}
+
+				@Override
+				public String getValue(String key) {
+					return null;
+				}
+
+			};
+		}
+		IConfigSourcePropertiesProvider provider = new ConfigSourcePropertiesProvider(
+				configSources.get(configSources.size() - 1));
+		for (int i = configSources.size() - 2; i >= 0; i--) {
+			provider = ConfigSourcePropertiesProviderUtils.layer(new ConfigSourcePropertiesProvider(configSources.get(i)),
+					provider);
+		}
+		return provider;
+	}
+
+	/**
+	 * Returns true if the config sources have not been reloaded since this snapshot
+	 * has been created and false otherwise.
+	 *
+	 * @param configSources the config sources of the project.
+	 * @return true if the config sources have not been reloaded since this snapshot
+	 *         has been created and false otherwise.
+	 */
+	public boolean isUpToDate(@NotNull List<IConfigSource> configSources) {
+		return keysIndex.isUpToDate(configSources);
+	}
+
+	/**
+	 * Returns the index of the property keys.
+	 *
+	 * @return the index of the property keys.
+	 */
+	public @NotNull ConfigSourceKeysIndex getKeysIndex() {
+		return keysIndex;
+	}
+
+	/**
+	 * Returns the resolved value of the given property and null if the property is
+	 * not defined or if its value cannot be expanded.
+	 *
+	 * @param propertyKey the property key with the profile included.
+	 * @return the resolved value of the given property and null if the property is
+	 *         not defined or if its value cannot be expanded.
+	 */
+	public @Nullable String getValue(String propertyKey) {
+		return resolvedValues.get(propertyKey);
+	}
+
+	/**
+	 * Returns a new list of all resolved values for the given property and its
+	 * profiles, sorted by property name with profile.
+	 *
+	 * @param propertyKey the property key without profile.
+	 * @return a new list of all resolved values for the given property and its
+	 *         profiles.
+	 */
+	public @NotNull List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+		return new ArrayList<>(propertyInformations.computeIfAbsent(propertyKey, this::loadPropertyInformations));
+	}
+
+	private List<MicroProfileConfigPropertyInformation> loadPropertyInformations(String propertyKey) {
+		// Use a map to override property values
+		// eg. if application.yaml defines a value for a property it should override the
+		// value defined in application.properties
+		Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
+		// Go backwards so that application.properties replaces
+		// microprofile-config.properties, etc.
+		for (int i = configSources.size() - 1; i >= 0; i--) {
+			IConfigSource configSource = configSources.get(i);
+			List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
+					.getPropertyInformations(propertyKey);
+			if (propertyInformations != null) {
+				for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
+					propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
+				}
+			}
+		}
+		return propertyToInfoMap.values().stream() //
+				.sorted((a, b) -> {
+					return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
+				}) //
+				.map(info -> {
+					String resolved = getValue(info.getPropertyNameWithProfile());
+					return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
+							info.getSourceConfigFileURI(), info.getConfigFileName());
+				}).toList();
+	}
+
+}
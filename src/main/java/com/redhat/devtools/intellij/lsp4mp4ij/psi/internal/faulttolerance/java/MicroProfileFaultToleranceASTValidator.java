@@ -90,9 +90,9 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		Module javaProject = context.getJavaProject();
-		boolean adapted = PsiTypeUtils.findType(javaProject, FALLBACK_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, ASYNCHRONOUS_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, RETRY_ANNOTATION) != null;
+		boolean adapted = PsiTypeUtils.hasType(javaProject, FALLBACK_ANNOTATION)
+				|| PsiTypeUtils.hasType(javaProject, ASYNCHRONOUS_ANNOTATION)
+				|| PsiTypeUtils.hasType(javaProject, RETRY_ANNOTATION);
 		if (adapted) {
 			addAllowedReturnTypeForAsynchronousAnnotation(javaProject, UNI_TYPE_UTILITY);
 		}
@@ -76,6 +76,12 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isClasspathDependent() {
+		// The annotations are resolved in the classpath of the module and their properties are collected only once per search
+		return true;
+	}
+
 	static class AnnotationInfo {
 
 		private final String name;
@@ -84,7 +90,8 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final List<AnnotationParameter> parameters;
 
-		public AnnotationInfo(PsiClass annotation, IPsiUtils utils, DocumentFormat documentFormat) {
+		public AnnotationInfo(PsiClass annotation, IPsiUtils utils, DocumentFormat documentFormat,
+				boolean lazyDocumentation) {
 			this.name = annotation.getQualifiedName();
 			this.simpleName = annotation.getName();
 			this.parameters = new ArrayList<>();
@@ -101,8 +108,8 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 						PsiClass returnType = findType(method.getManager(), methodResultTypeName);
 						String type = getPropertyType(returnType, methodResultTypeName);
 
-						// description
-						String description = utils.getJavadoc(method, documentFormat);
+						// description (resolved on demand from the source method when documentation is lazy)
+						String description = lazyDocumentation ? null : utils.getJavadoc(method, documentFormat);
 
 						// Method source
 						String sourceType = getSourceType(method);
@@ -195,17 +202,20 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final DocumentFormat documentFormat;
 
+		private final boolean lazyDocumentation;
+
 		private final Map<String, AnnotationInfo> cache;
 
 		private final Set<String> processedAnnotations;
 
 		public MicroProfileFaultToleranceContext(Module javaProject, IPsiUtils utils,
-				DocumentFormat documentFormat) {
+				DocumentFormat documentFormat, boolean lazyDocumentation) {
 			this.cache = new HashMap<>();
 			this.processedAnnotations = new HashSet<>();
 			this.javaProject = javaProject;
 			this.utils = utils;
 			this.documentFormat = documentFormat;
+			this.lazyDocumentation = lazyDocumentation;
 		}
 
 		public AnnotationInfo getAnnotationInfo(String annotation) {
@@ -227,7 +237,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 			if (classFile != null && classFile instanceof PsiClass) {
 					annotation = (PsiClass) classFile;
 			}
-			AnnotationInfo info = new AnnotationInfo(annotation, utils, documentFormat);
+			AnnotationInfo info = new AnnotationInfo(annotation, utils, documentFormat, lazyDocumentation);
 			cache.put(info.getName(), info);
 			return info;
 		}
@@ -400,7 +410,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 				.get(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY);
 		if (mpftContext == null) {
 			mpftContext = new MicroProfileFaultToleranceContext(context.getJavaProject(), context.getUtils(),
-					context.getDocumentFormat());
+					context.getDocumentFormat(), context.isLazyDocumentation());
 			context.put(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY, mpftContext);
 		}
 		return mpftContext;
@@ -57,7 +57,7 @@ public class MicroProfileGraphQLASTValidator extends JavaASTValidator {
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
         Module javaProject = context.getJavaProject();
-        if (PsiTypeUtils.findType(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION) == null) {
+        if (!PsiTypeUtils.hasType(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION)) {
             return false;
         }
         // void GraphQL operations are allowed in Quarkus 3.1 and higher
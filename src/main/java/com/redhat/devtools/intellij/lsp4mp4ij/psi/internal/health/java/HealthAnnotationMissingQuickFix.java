@@ -55,14 +55,14 @@ public class HealthAnnotationMissingQuickFix extends InsertAnnotationMissingQuic
 		String[] annotations = getAnnotations();
 		if (generateOnlyOneCodeAction) {
 			for (String annotation : annotations) {
-				if (PsiTypeUtils.findType(context.getJavaProject(), annotation) == null) {
+				if (!PsiTypeUtils.hasType(context.getJavaProject(), annotation)) {
 					return;
 				}
 			}
 			insertAnnotation(diagnostic, context, codeActions, getAnnotations());
 		} else {
 			for (String annotation : annotations) {
-				if (PsiTypeUtils.findType(context.getJavaProject(), annotation) != null) {
+				if (PsiTypeUtils.hasType(context.getJavaProject(), annotation)) {
 					insertAnnotation(diagnostic, context, codeActions, annotation);
 				}
 			}
@@ -65,7 +65,7 @@ public class MicroProfileHealthDiagnosticsParticipant implements IJavaDiagnostic
 		// Collection of diagnostics for MicroProfile Health is done only if
 		// microprofile-health is on the classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, HEALTH_CHECK_INTERFACE) != null;
+		return PsiTypeUtils.hasType(javaProject, HEALTH_CHECK_INTERFACE);
 	}
 
 	@Override
@@ -17,6 +17,7 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.psi.search.searches.AnnotatedElementsSearch;
@@ -40,6 +41,7 @@ import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstan
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsPathValue;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.isJaxRsRequestMethod;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.hasAnnotation;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.hasAnyAnnotation;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils.overlaps;
 
 
@@ -52,8 +54,8 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 
 	@Override
 	public boolean canProvideJaxRsMethodInfoForClass(@NotNull PsiFile typeRoot, Module javaProject, ProgressIndicator monitor) {
-		return PsiTypeUtils.findType(javaProject, JAVAX_WS_RS_PATH_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, JAKARTA_WS_RS_PATH_ANNOTATION) != null;
+		return PsiTypeUtils.hasType(javaProject, JAVAX_WS_RS_PATH_ANNOTATION)
+				|| PsiTypeUtils.hasType(javaProject, JAKARTA_WS_RS_PATH_ANNOTATION);
 	}
 
 	@Override
@@ -109,6 +111,22 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 		return Collections.emptySet();
 	}
 
+	@Override
+	public boolean isJaxRsClass(@NotNull PsiClass type, @NotNull Module javaProject, @NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		// Same rule as getAllJaxRsClasses: a class of the module which declares a method annotated with an HTTP method annotation
+		PsiFile file = type.getContainingFile();
+		VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+		if (virtualFile == null || !javaProject.getModuleScope(false).contains(virtualFile)) {
+			return false;
+		}
+		for (PsiMethod method : type.getMethods()) {
+			if (hasAnyAnnotation(method, JaxRsConstants.HTTP_METHOD_ANNOTATIONS)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public List<JaxRsMethodInfo> getJaxRsMethodInfo(PsiFile typeRoot, JaxRsContext jaxrsContext, IPsiUtils utils,
 													ProgressIndicator monitor) {
@@ -21,9 +21,11 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.IJavaCodeLensParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.DevServerLivenessTracker;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.HttpMethod;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.IJaxRsInfoProvider;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsIndex;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import org.eclipse.lsp4j.CodeLens;
@@ -50,10 +52,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 	private static final Logger LOGGER = Logger.getLogger(JaxRsCodeLensParticipant.class.getName());
 
-	private static final String LOCALHOST = "localhost";
-
-	private static final int PING_TIMEOUT = 2000;
-
 	private static final String JAX_RS_INFO_PROVIDER = IJaxRsInfoProvider.class.getName();
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context, ProgressIndicator monitor) {
@@ -83,7 +81,7 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		IPsiUtils utils = context.getUtils();
 
 		if (context.getParams().isCheckServerAvailable()
-				&& !isServerAvailable(LOCALHOST, jaxrsContext.getServerPort(), PING_TIMEOUT)) {
+				&& !isServerAvailable(context.getJavaProject(), jaxrsContext.getServerPort())) {
 			return Collections.emptyList();
 		}
 
@@ -91,7 +89,8 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		if (provider == null) {
 			return Collections.emptyList();
 		}
-		List<JaxRsMethodInfo> infos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		List<JaxRsMethodInfo> infos = JaxRsIndex.getInstance(typeRoot.getProject())
+				.getJaxRsMethodInfo(typeRoot, provider, jaxrsContext, utils, monitor);
 
 		MicroProfileJavaCodeLensParams params = context.getParams();
 		return infos.stream() //
@@ -139,19 +138,11 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		return HttpMethod.GET.equals(httpMethod);
 	}
 
-	private static boolean isServerAvailable(String host, int port, int timeout) {
-		/*try (Socket socket = new Socket()) {
-			socket.connect(new InetSocketAddress(host, port), timeout);
-			return true;
-		} catch (IOException e) {
-			return false;
-		}*/
-		// As IJ InlayHints cannot be computed in async mode with a CompletableFuture
-		// we consider that the server is every time available
-		// We do that because the check with Socket takes some times and freeze the Java Editor
-		// as soon as the user type something in the Java Editor.
-		// By returning true, the URL codelens will be displayed even if the server is not started.
-		return true;
+	private static boolean isServerAvailable(Module javaProject, int port) {
+		// The port is probed in background by the liveness tracker to avoid freezing the Java editor
+		// (IJ InlayHints cannot be computed in async mode with a CompletableFuture), the code lenses are refreshed
+		// when the dev server starts or stops.
+		return DevServerLivenessTracker.getInstance(javaProject.getProject()).isServerAvailable(javaProject, port);
 	}
 
 }
@@ -16,10 +16,9 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.java;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.util.TextRange;
-import com.intellij.psi.PsiClass;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.IJaxRsInfoProvider;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsIndex;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import org.eclipse.lsp4j.Location;
@@ -29,11 +28,7 @@ import org.eclipse.lsp4j.SymbolKind;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,20 +46,12 @@ public class JaxRsWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsPar
 		}
 
 		JaxRsContext jaxrsContext = new JaxRsContext(project);
-		Set<PsiClass> jaxrsTypes = getAllJaxRsTypes(project, utils, monitor);
+		// The JAX-RS resources of the module are indexed and updated with the changed Java files
+		List<JaxRsMethodInfo> methodsInfo = JaxRsIndex.getInstance(project.getProject())
+				.getAllJaxRsMethodInfo(jaxrsContext, utils, monitor);
 		if (monitor.isCanceled()) {
 			return;
 		}
-		List<JaxRsMethodInfo> methodsInfo = new ArrayList<>();
-		for (PsiClass typeRoot : jaxrsTypes) {
-			IJaxRsInfoProvider provider = getProviderForType(typeRoot, project, monitor);
-			if (provider != null) {
-				methodsInfo.addAll(provider.getJaxRsMethodInfo(typeRoot.getContainingFile(), jaxrsContext, utils, monitor));
-			}
-			if (monitor.isCanceled()) {
-				return;
-			}
-		}
 
 		methodsInfo.forEach(methodInfo -> {
 			try {
@@ -75,38 +62,6 @@ public class JaxRsWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsPar
 		});
 	}
 
-	/**
-	 * Returns the provider that can provide JAX-RS method info for the given class,
-	 * or null if no provider can provide info.
-	 *
-	 * @param typeRoot the class to collect JAX-RS method info for
-	 * @param project the Module project
-	 * @param monitor the progress monitor
-	 * @return the provider that can provide JAX-RS method info for the given class,
-	 *         or null if no provider can provide info
-	 */
-	private static IJaxRsInfoProvider getProviderForType(PsiClass typeRoot, Module project,  ProgressIndicator monitor) {
-		for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
-			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot.getContainingFile(), project, monitor)) {
-				return provider;
-			}
-		}
-		LOGGER.severe("Attempted to collect JAX-RS info for " + typeRoot.getQualifiedName()
-				+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
-		return null;
-	}
-
-	private static Set<PsiClass> getAllJaxRsTypes(Module javaProject, IPsiUtils utils, ProgressIndicator monitor) {
-		Set<PsiClass> jaxrsTypes = new HashSet<>();
-		for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
-			jaxrsTypes.addAll(provider.getAllJaxRsClasses(javaProject, utils,monitor));
-			if (monitor.isCanceled()) {
-				return Collections.emptySet();
-			}
-		}
-		return jaxrsTypes;
-	}
-
 	private static SymbolInformation createSymbol(JaxRsMethodInfo methodInfo, IPsiUtils utils) throws MalformedURLException {
 		TextRange sourceRange = methodInfo.getJavaMethod().getNameIdentifier().getTextRange();
 		Range r = utils.toRange(methodInfo.getJavaMethod(), sourceRange.getStartOffset(), sourceRange.getLength());
@@ -43,6 +43,6 @@ public class JBossLogManagerPropertyProvider extends AbstractStaticPropertiesPro
 	protected boolean isAdaptedFor(SearchContext context) {
 		// Check if JBoss LogManager exists in classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, JBOSS_LOGMANAGER_LEVEL_CLASS) != null;
+		return PsiTypeUtils.hasType(javaProject, JBOSS_LOGMANAGER_LEVEL_CLASS);
 	}
 }
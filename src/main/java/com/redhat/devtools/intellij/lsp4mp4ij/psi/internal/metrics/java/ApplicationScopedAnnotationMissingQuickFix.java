@@ -109,7 +109,7 @@ public class ApplicationScopedAnnotationMissingQuickFix implements IJavaCodeActi
 
 	private String getAddAnnotation(JavaCodeActionContext context) {
 		for (String annotation : ADD_ANNOTATIONS) {
-			if (PsiTypeUtils.findType(context.getJavaProject(), annotation) != null) {
+			if (PsiTypeUtils.hasType(context.getJavaProject(), annotation)) {
 				return annotation;
 			}
 		}
@@ -59,8 +59,8 @@ public class MicroProfileReactiveMessagingASTValidator extends JavaASTValidator
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
         Module javaProject = context.getJavaProject();
-        boolean adapted = PsiTypeUtils.findType(javaProject, INCOMING_ANNOTATION) != null
-                || PsiTypeUtils.findType(javaProject, OUTGOING_ANNOTATION) != null;
+        boolean adapted = PsiTypeUtils.hasType(javaProject, INCOMING_ANNOTATION)
+                || PsiTypeUtils.hasType(javaProject, OUTGOING_ANNOTATION);
         return adapted;
     }
 
@@ -55,7 +55,7 @@ public class InjectAndRestClientAnnotationMissingQuickFix extends InsertAnnotati
 		String[] annotations = getAnnotations();
 		String injectAnnotation = null;
 		for (String annotation : annotations) {
-			if (PsiTypeUtils.findType(context.getJavaProject(), annotation) != null && injectAnnotation == null
+			if (PsiTypeUtils.hasType(context.getJavaProject(), annotation) && injectAnnotation == null
 					&& (annotation.equals(MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION)
 					|| annotation.equals(MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION))) {
 				injectAnnotation = annotation;
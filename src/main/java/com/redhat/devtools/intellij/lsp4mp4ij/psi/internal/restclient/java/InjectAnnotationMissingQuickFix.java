@@ -51,7 +51,7 @@ public class InjectAnnotationMissingQuickFix extends InsertAnnotationMissingQuic
 	protected void insertAnnotations(Diagnostic diagnostic, JavaCodeActionContext context, List<CodeAction> codeActions) {
 		String[] annotations = getAnnotations();
 		for (String annotation : annotations) {
-			if (PsiTypeUtils.findType(context.getJavaProject(), annotation) != null) {
+			if (PsiTypeUtils.hasType(context.getJavaProject(), annotation)) {
 				insertAnnotation(diagnostic, context, codeActions, annotation);
 				return;
 			}
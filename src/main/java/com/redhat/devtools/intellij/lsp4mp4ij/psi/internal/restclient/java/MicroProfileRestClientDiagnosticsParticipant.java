@@ -81,7 +81,7 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 		// Collection of diagnostics for MicroProfile RestClient is done only if
 		// microprofile-rest-client is on the classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, REST_CLIENT_ANNOTATION) != null;
+		return PsiTypeUtils.hasType(javaProject, REST_CLIENT_ANNOTATION);
 	}
 
 	@Override
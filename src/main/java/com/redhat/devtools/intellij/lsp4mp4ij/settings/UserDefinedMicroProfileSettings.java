@@ -102,6 +102,20 @@ public class UserDefinedMicroProfileSettings implements PersistentStateComponent
         myState.myInlayHintEnabled = inlayHintEnabled;
     }
 
+    /**
+     * Returns true if the properties are collected without documentation, the documentation being resolved on demand
+     * with <code>microprofile/propertyDocumentation</code>, and false otherwise.
+     *
+     * @return true if the documentation of the properties is resolved on demand and false otherwise.
+     */
+    public boolean isLazyPropertyDocumentationEnabled() {
+        return myState.myLazyPropertyDocumentationEnabled;
+    }
+
+    public void setLazyPropertyDocumentationEnabled(boolean lazyPropertyDocumentationEnabled) {
+        myState.myLazyPropertyDocumentationEnabled = lazyPropertyDocumentationEnabled;
+    }
+
     public boolean isInlayHintConvertersEnabled() {
         return myState.myInlayHintConvertersEnabled;
     }
@@ -238,6 +252,9 @@ public class UserDefinedMicroProfileSettings implements PersistentStateComponent
         @Tag("inlayHintEnabled")
         public boolean myInlayHintEnabled = true;
 
+        @Tag("lazyPropertyDocumentationEnabled")
+        public boolean myLazyPropertyDocumentationEnabled = false;
+
         @Tag("inlayHintConvertersEnabled")
         public boolean myInlayHintConvertersEnabled = false;
 
@@ -72,6 +72,7 @@ public class MicroProfilePropertiesConfigurable extends NamedConfigurable<UserDe
         myView.setInlayHintDefaultValuesEnabled(settings.isInlayHintDefaultValuesEnabled());
         myView.setInlayHintTypesEnabled(settings.isInlayHintTypesEnabled());
         myView.setInlayHintResolveExpressionsEnabled(settings.isInlayHintResolveExpressionsEnabled());
+        myView.setLazyPropertyDocumentationEnabled(settings.isLazyPropertyDocumentationEnabled());
     }
 
     @Override
@@ -82,7 +83,8 @@ public class MicroProfilePropertiesConfigurable extends NamedConfigurable<UserDe
                 myView.isInlayHintConvertersEnabled() == settings.isInlayHintConvertersEnabled() &&
                 myView.isInlayHintDefaultValuesEnabled() == settings.isInlayHintDefaultValuesEnabled() &&
                 myView.isInlayHintTypesEnabled() == settings.isInlayHintTypesEnabled() &&
-                myView.isInlayHintResolveExpressionsEnabled() == settings.isInlayHintResolveExpressionsEnabled());
+                myView.isInlayHintResolveExpressionsEnabled() == settings.isInlayHintResolveExpressionsEnabled() &&
+                myView.isLazyPropertyDocumentationEnabled() == settings.isLazyPropertyDocumentationEnabled());
     }
 
     @Override
@@ -94,6 +96,7 @@ public class MicroProfilePropertiesConfigurable extends NamedConfigurable<UserDe
         settings.setInlayHintDefaultValuesEnabled(myView.isInlayHintDefaultValuesEnabled());
         settings.setInlayHintTypesEnabled(myView.isInlayHintTypesEnabled());
         settings.setInlayHintResolveExpressionsEnabled(myView.isInlayHintResolveExpressionsEnabled());
+        settings.setLazyPropertyDocumentationEnabled(myView.isLazyPropertyDocumentationEnabled());
         settings.fireStateChanged();
     }
 }
@@ -36,6 +36,7 @@ public class MicroProfilePropertiesView implements Disposable {
     private final JBCheckBox inlayHintDefaultValueCheckBox = new JBCheckBox(MicroProfileBundle.message("microprofile.properties.inlayHint.defaultValues.enabled"));
     private final JBCheckBox inlayHintTypeCheckBox = new JBCheckBox(MicroProfileBundle.message("microprofile.properties.inlayHint.types.enabled"));
     private final JBCheckBox inlayHintResolveExpressionCheckBox = new JBCheckBox(MicroProfileBundle.message("microprofile.properties.inlayHint.resolveExpressions.enabled"));
+    private final JBCheckBox lazyDocumentationCheckBox = new JBCheckBox(MicroProfileBundle.message("microprofile.properties.lazyDocumentation.enabled"));
 
     public MicroProfilePropertiesView() {
         JComponent descriptionPanel = createDescription(null);
@@ -55,6 +56,7 @@ public class MicroProfilePropertiesView implements Disposable {
                 .addComponent(inlayHintDefaultValueCheckBox, 5)
                 .addComponent(inlayHintTypeCheckBox, 5)
                 .addComponent(inlayHintResolveExpressionCheckBox, 5)
+                .addComponent(lazyDocumentationCheckBox, 5)
                 .addComponentFillVertically(new JPanel(), 0)
                 .getPanel();
     }
@@ -122,6 +124,14 @@ public class MicroProfilePropertiesView implements Disposable {
         inlayHintResolveExpressionCheckBox.setSelected(inlayHint);
     }
 
+    public boolean isLazyPropertyDocumentationEnabled() {
+        return lazyDocumentationCheckBox.isSelected();
+    }
+
+    public void setLazyPropertyDocumentationEnabled(boolean lazyDocumentation) {
+        lazyDocumentationCheckBox.setSelected(lazyDocumentation);
+    }
+
     @Override
     public void dispose() {
 
@@ -130,6 +130,7 @@ public class QuarkusDeploymentSupport implements ClasspathResourceChangedManager
                     });
                     projectService.setHash(module, actualHash);
                     projectService.setVersion(module, QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_VERSION);
+                    toolDelegate.resolveDeploymentSourcesAsync(module);
                 }
             }
         }
@@ -213,6 +214,31 @@ public class QuarkusDeploymentSupport implements ClasspathResourceChangedManager
         });
     }
 
+    /**
+     * Add the given sources JARs to the Quarkus deployment library of the given module.
+     *
+     * @param module  the module.
+     * @param sources the sources JARs of the Quarkus deployment dependencies.
+     */
+    public void addDeploymentSources(@NotNull Module module, @NotNull List<VirtualFile> sources) {
+        if (sources.isEmpty() || module.isDisposed()) {
+            return;
+        }
+        ModuleRootModificationUtil.updateModel(module, model -> {
+            Library library = model.getModuleLibraryTable().getLibraryByName(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
+            if (library == null) {
+                return;
+            }
+            Library.ModifiableModel libraryModel = library.getModifiableModel();
+            for (VirtualFile rootFile : sources) {
+                libraryModel.addRoot(rootFile, OrderRootType.SOURCES);
+            }
+            ApplicationManager.getApplication().invokeAndWait(() -> {
+                WriteAction.run(libraryModel::commit);
+            });
+        });
+    }
+
     private static Integer computeHash(Module module) {
         ModuleRootManager manager = ModuleRootManager.getInstance(module);
         Set<String> files = manager.processOrder(new RootPolicy<Set<String>>() {
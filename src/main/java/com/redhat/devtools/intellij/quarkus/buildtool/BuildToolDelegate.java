@@ -91,7 +91,18 @@ public interface BuildToolDelegate {
                 || "quarkus-smallrye-openapi-deployment".equals(deploymentId.getArtifactId());
     }
 
+    /**
+     * Returns the deployment artifact id declared in the <code>META-INF/quarkus-extension.properties</code> of the
+     * given JAR or directory and null otherwise. The result is cached per file, see {@link QuarkusExtensionPropertiesCache}.
+     *
+     * @param file the JAR or the directory.
+     * @return the deployment artifact id and null otherwise.
+     */
     static String getDeploymentJarId(@NotNull File file) {
+        return QuarkusExtensionPropertiesCache.getInstance().getDeploymentJarId(file);
+    }
+
+    static String readDeploymentJarId(@NotNull File file) {
         String result = null;
         if (file.isDirectory()) {
             File quarkusFile = new File(file, QUARKUS_EXTENSION_PROPERTIES);
@@ -161,6 +172,17 @@ public interface BuildToolDelegate {
     List<VirtualFile>[] getDeploymentFiles(@NotNull Module module,
                                            @NotNull ProgressIndicator progressIndicator);
 
+    /**
+     * Resolve in background the sources JARs which have not been returned by the last call of
+     * {@link #getDeploymentFiles(Module, ProgressIndicator)}, to not delay the update of the classpath with the
+     * binary JARs. This method is called once the Quarkus deployment library has been added to the module.
+     *
+     * @param module the module to process
+     * @see com.redhat.devtools.intellij.quarkus.QuarkusDeploymentSupport#addDeploymentSources(Module, List)
+     */
+    default void resolveDeploymentSourcesAsync(@NotNull Module module) {
+    }
+
     /**
      * Returns the displayable string for the delegate.
      *
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.buildtool;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.RoamingType;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.components.StoragePathMacros;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_EXTENSION_PROPERTIES;
+
+/**
+ * Application cache of the deployment artifact id declared in the <code>META-INF/quarkus-extension.properties</code>
+ * of the classpath roots (JARs or directories).
+ *
+ * <p>
+ * A root is stored with the timestamp and the length of the file which has been read (the JAR or the
+ * <code>quarkus-extension.properties</code> of a directory), so the root is read again only when it has changed.
+ * Roots without deployment artifact are cached too. The cache is stored in the IDE system directory and
+ * reused after an IDE restart.
+ * </p>
+ *
+ * <p>
+ * As the cache is shared by all projects, a root is evicted when it doesn't exist anymore or when it has not been
+ * used by a classpath update since {@link #MAX_UNUSED_TIME} (ex : a dependency which has been upgraded or removed
+ * from a project).
+ * </p>
+ */
+@State(
+        name = "QuarkusExtensionPropertiesCache",
+        storages = @Storage(value = StoragePathMacros.CACHE_FILE, roamingType = RoamingType.DISABLED)
+)
+public final class QuarkusExtensionPropertiesCache implements PersistentStateComponent<QuarkusExtensionPropertiesCache.State> {
+
+    public static class State {
+        public Map<String, RootState> roots = new HashMap<>();
+    }
+
+    public static class RootState {
+        public long timestamp;
+        public long length;
+        public String deploymentId;
+        public long lastUsed;
+    }
+
+    /**
+     * Time after which a root which has not been used is evicted from the cache.
+     */
+    static final long MAX_UNUSED_TIME = TimeUnit.DAYS.toMillis(30);
+
+    public static QuarkusExtensionPropertiesCache getInstance() {
+        return ApplicationManager.getApplication().getService(QuarkusExtensionPropertiesCache.class);
+    }
+
+    private State state = new State();
+
+    @Override
+    public synchronized @NotNull State getState() {
+        prune(System.currentTimeMillis());
+        // Serialize a copy, the roots could be updated by another thread during the serialization
+        State copy = new State();
+        copy.roots = new HashMap<>(state.roots);
+        return copy;
+    }
+
+    @Override
+    public synchronized void loadState(@NotNull State state) {
+        long now = System.currentTimeMillis();
+        for (RootState rootState : state.roots.values()) {
+            if (rootState.lastUsed == 0L) {
+                // State stored before the last used time was tracked
+                rootState.lastUsed = now;
+            }
+        }
+        this.state = state;
+    }
+
+    /**
+     * Evict the roots which don't exist anymore or which have not been used since {@link #MAX_UNUSED_TIME}.
+     *
+     * @param now the current time.
+     */
+    synchronized void prune(long now) {
+        Iterator<Map.Entry<String, RootState>> it = state.roots.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, RootState> entry = it.next();
+            if (now - entry.getValue().lastUsed > MAX_UNUSED_TIME || !new File(entry.getKey()).exists()) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the deployment artifact id (ex : io.quarkus:quarkus-resteasy-deployment:3.0.0) declared in the
+     * <code>META-INF/quarkus-extension.properties</code> of the given root and null otherwise.
+     *
+     * @param root the JAR or the directory.
+     * @return the deployment artifact id declared in the given root and null otherwise.
+     */
+    public @Nullable String getDeploymentJarId(@NotNull File root) {
+        String path = root.getAbsolutePath();
+        File file = root.isDirectory() ? new File(root, QUARKUS_EXTENSION_PROPERTIES) : root;
+        long timestamp = file.lastModified();
+        long length = file.length();
+        synchronized (this) {
+            RootState rootState = state.roots.get(path);
+            if (rootState != null && rootState.timestamp == timestamp && rootState.length == length) {
+                rootState.lastUsed = System.currentTimeMillis();
+                return rootState.deploymentId;
+            }
+        }
+        String deploymentId = BuildToolDelegate.readDeploymentJarId(root);
+        if (timestamp == 0L && length == 0L && !root.exists()) {
+            // Don't cache a root which doesn't exist yet (ex : a JAR which is being downloaded)
+            return deploymentId;
+        }
+        RootState rootState = new RootState();
+        rootState.timestamp = timestamp;
+        rootState.length = length;
+        rootState.deploymentId = deploymentId;
+        rootState.lastUsed = System.currentTimeMillis();
+        synchronized (this) {
+            state.roots.put(path, rootState);
+        }
+        return deploymentId;
+    }
+}
@@ -16,13 +16,16 @@ import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.DumbAwareRunnable;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.concurrency.NonUrgentExecutor;
 import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.intellij.quarkus.QuarkusDeploymentSupport;
 import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
 import com.redhat.devtools.intellij.quarkus.buildtool.BuildToolDelegate;
 import com.redhat.devtools.intellij.quarkus.buildtool.ProjectImportListener;
@@ -51,6 +54,8 @@ import static org.jetbrains.idea.maven.project.MavenEmbeddersManager.FOR_DEPENDE
 public class MavenToolDelegate implements BuildToolDelegate {
     private static final Logger LOGGER = LoggerFactory.getLogger(MavenToolDelegate.class);
 
+    private static final Key<Set<MavenId>> DEPLOYMENT_SOURCES_KEY = new Key<>(MavenToolDelegate.class.getName() + ".deploymentSources");
+
     @Override
     public boolean isValid(Module module) {
         return MavenUtil.isMavenModule(module);
@@ -129,18 +134,37 @@ public class MavenToolDelegate implements BuildToolDelegate {
             progressIndicator.setFraction(p);
         }
 
-        // Step3
-        progressIndicator.checkCanceled();
-        progressIndicator.setText2("Collecting Quarkus deployment dependencies from '" + toDownload.size() + "' source dependencies");
-        Set<MavenArtifact> sourcesDependencies = resolveDeploymentArtifacts(module, mavenProject, toDownload, "sources", progressIndicator);
-        i = counter / sourcesDependencies.size();
-        for (MavenArtifact sourceDependency : sourcesDependencies) {
-            progressIndicator.checkCanceled();
-            progressIndicator.setText2("Searching deployment descriptor in '" + sourceDependency.getArtifactId() + "' sources");
-            processDependency(mavenProject, result, downloaded, sourceDependency, SOURCES);
-            p += i;
-            progressIndicator.setFraction(p);
+        // Step3: sources are resolved with resolveDeploymentSourcesAsync once the binaries are in the classpath
+        module.putUserData(DEPLOYMENT_SOURCES_KEY, toDownload.isEmpty() ? null : toDownload);
+    }
+
+    @Override
+    public void resolveDeploymentSourcesAsync(@NotNull Module module) {
+        Set<MavenId> deploymentIds = module.getUserData(DEPLOYMENT_SOURCES_KEY);
+        module.putUserData(DEPLOYMENT_SOURCES_KEY, null);
+        if (deploymentIds == null || module.isDisposed()) {
+            return;
+        }
+        Project project = module.getProject();
+        MavenProject mavenProject = MavenProjectsManager.getInstance(project).findProject(module);
+        if (mavenProject == null) {
+            return;
         }
+        new Task.Backgroundable(project, "Adding Quarkus deployment dependencies sources to classpath...", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator progressIndicator) {
+                progressIndicator.setText2("Collecting Quarkus deployment dependencies from '" + deploymentIds.size() + "' source dependencies");
+                Set<MavenArtifact> sourcesDependencies = resolveDeploymentArtifacts(module, mavenProject, deploymentIds, "sources", progressIndicator);
+                List<VirtualFile>[] result = BuildToolDelegate.initDeploymentFiles();
+                Set<MavenArtifact> downloaded = new HashSet<>();
+                for (MavenArtifact sourceDependency : sourcesDependencies) {
+                    progressIndicator.checkCanceled();
+                    progressIndicator.setText2("Searching deployment descriptor in '" + sourceDependency.getArtifactId() + "' sources");
+                    processDependency(mavenProject, result, downloaded, sourceDependency, SOURCES);
+                }
+                QuarkusDeploymentSupport.getInstance(project).addDeploymentSources(module, result[SOURCES]);
+            }
+        }.queue();
     }
 
     private boolean processDependency(MavenProject mavenProject, List<VirtualFile>[] result, Set<MavenArtifact> downloaded, MavenArtifact dependency, int type) {
@@ -160,27 +184,37 @@ public class MavenToolDelegate implements BuildToolDelegate {
         Set<MavenArtifact> deploymentArtifacts = new HashSet<>();
         try {
             MavenEmbedderWrapper serverWrapper = MavenProjectsManager.getInstance(module.getProject()).getEmbeddersManager().getEmbedder(mavenProject, FOR_DEPENDENCIES_RESOLVE);
-            if (classifier != null) {
-                for (MavenId id : deploymentIds) {
-                    deploymentArtifacts.add(serverWrapper.resolve(new MavenArtifactInfo(id, "jar", classifier), mavenProject.getRemoteRepositories()));
+            var remoteRepositories = mavenProject.getRemoteRepositories();
+            List<MavenArtifactInfo> transitiveInfos = new ArrayList<>();
+            List<MavenId> ids = new ArrayList<>();
+            for (var deploymentId : deploymentIds) {
+                if (classifier == null && BuildToolDelegate.shouldResolveArtifactTransitively(deploymentId)) {
+                    transitiveInfos.add(new MavenArtifactInfo(deploymentId, "jar", classifier));
+                } else {
+                    ids.add(deploymentId);
                 }
-            } else {
-                for (var deploymentId : deploymentIds) {
-                    boolean shouldResolveArtifactTransitively = BuildToolDelegate.shouldResolveArtifactTransitively(deploymentId);
-                    progressIndicator.checkCanceled();
-                    progressIndicator.setText2("Resolving " + (shouldResolveArtifactTransitively ? " (Transitively) " : "") + "'" + deploymentId + "'");
-                    if (shouldResolveArtifactTransitively) {
-                        // Resolving the deployment artifact and their dependencies
-                        List<MavenArtifactInfo> infos = List.of(new MavenArtifactInfo(deploymentId, "jar", classifier));
-                        List<MavenArtifact> resolvedArtifacts = serverWrapper.resolveArtifactTransitively(infos, mavenProject.getRemoteRepositories()).mavenResolvedArtifacts;
-                        for (var resolvedArtifact : resolvedArtifacts) {
-                            addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
-                        }
-                    } else {
-                        // Resolving only the deployment artifact
-                        MavenArtifact resolvedArtifact = serverWrapper.resolve(new MavenArtifactInfo(deploymentId, "jar", classifier), mavenProject.getRemoteRepositories()); //.mavenResolvedArtifacts;
-                        addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
-                    }
+            }
+
+            // MavenEmbedderWrapper doesn't document that it supports concurrent calls, the embedder is called by one thread
+            if (!transitiveInfos.isEmpty()) {
+                // Resolving the deployment artifacts and their dependencies in one embedder call
+                progressIndicator.checkCanceled();
+                progressIndicator.setText2("Resolving (Transitively) " + transitiveInfos.size() + " artifacts");
+                List<MavenArtifact> transitiveArtifacts = serverWrapper.resolveArtifactTransitively(transitiveInfos, remoteRepositories).mavenResolvedArtifacts;
+                for (var resolvedArtifact : transitiveArtifacts) {
+                    addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
+                }
+            }
+            for (MavenId id : ids) {
+                // Resolving only the deployment artifact
+                progressIndicator.checkCanceled();
+                progressIndicator.setText2("Resolving '" + id + "'");
+                try {
+                    addDeploymentArtifact(serverWrapper.resolve(new MavenArtifactInfo(id, "jar", classifier), remoteRepositories), deploymentArtifacts);
+                } catch (ProcessCanceledException e) {
+                    throw e;
+                } catch (Exception e) {
+                    LOGGER.warn("Error while resolving '" + id + "'", e);
                 }
             }
         } catch (ProcessCanceledException e) {
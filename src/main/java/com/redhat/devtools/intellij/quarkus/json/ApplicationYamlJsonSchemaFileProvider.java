@@ -14,12 +14,16 @@
 package com.redhat.devtools.intellij.quarkus.json;
 
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.EmptyProgressIndicator;
-import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.jetbrains.jsonSchema.extension.JsonSchemaFileProvider;
 import com.jetbrains.jsonSchema.extension.SchemaType;
 import com.jetbrains.jsonSchema.impl.JsonSchemaVersion;
@@ -32,13 +36,24 @@ import org.eclipse.lsp4mp.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.utils.JSONSchemaUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.jetbrains.concurrency.AsyncPromise;
+import org.jetbrains.concurrency.Promise;
+import org.jetbrains.concurrency.Promises;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 
 /**
  * Json Schema provider used to provide completion, validation, hover in application.yaml.
@@ -53,9 +68,12 @@ public class ApplicationYamlJsonSchemaFileProvider implements JsonSchemaFileProv
     private final @NotNull Project project;
     private final @NotNull JsonSchemaLightVirtualFile jsonSchemaFile;
     private @Nullable Module module;
-    private boolean updating;
-    private long updatedTime;
-    private long toUpdateTime;
+    private volatile boolean updating;
+    private volatile long updatedTime;
+    private volatile long toUpdateTime;
+    private volatile boolean librariesChanged;
+    private volatile @Nullable MicroProfileProjectInfo latestInfo;
+    private volatile @NotNull Promise<Void> updatePromise = Promises.resolvedPromise();
 
     /**
      * LSP Server / Configuration {@link com.jetbrains.jsonSchema.extension.JsonSchemaFileProvider} constructor.
@@ -158,10 +176,24 @@ public class ApplicationYamlJsonSchemaFileProvider implements JsonSchemaFileProv
     }
 
     /**
-     * Free the Json Schema provider (when Java sources , Libraries changed) to evict the cached Json Schema.
+     * Free the Json Schema provider (when Libraries changed) to evict the cached Json Schema.
      */
     public void reset() {
-        toUpdateTime = System.currentTimeMillis();
+        librariesChanged = true;
+        toUpdateTime = nextUpdateTime();
+    }
+
+    /**
+     * Free the Json Schema provider (when Java sources changed) to evict the cached Json Schema.
+     * The next generation of the Json Schema only collects the properties of the Java sources.
+     */
+    public void resetSources() {
+        toUpdateTime = nextUpdateTime();
+    }
+
+    private long nextUpdateTime() {
+        // Two resets in the same millisecond must be seen as two changes
+        return Math.max(System.currentTimeMillis(), toUpdateTime + 1);
     }
 
     /**
@@ -183,7 +215,13 @@ public class ApplicationYamlJsonSchemaFileProvider implements JsonSchemaFileProv
     }
 
     /**
-     * Update Json Schema for teh given module if needed.
+     * Update Json Schema for the given module if needed.
+     *
+     * <p>
+     * The MicroProfile properties are collected in a non-blocking read action, the Json Schema is generated
+     * in a pooled thread and only the update of the Json Schema virtual file content is done in a write action.
+     * </p>
+     *
      * @param module the module.
      */
     private void updateJsonSchemaIfNeededFor(@NotNull Module module) {
@@ -196,47 +234,145 @@ public class ApplicationYamlJsonSchemaFileProvider implements JsonSchemaFileProv
         updatedTime = toUpdateTime;
         final long currentUpdatedTime = updatedTime;
         var project = module.getProject();
-        // Generate and update the Json Schema when indexed files are finished.
-        DumbService.getInstance(project)
-                .runWhenSmart(() -> {
-                    // Check if previous start of Json Schema update is relevant
+        AsyncPromise<Void> promise = new AsyncPromise<>();
+        updatePromise = promise;
+        // Collect all MicroProfile/Quarkus properties from the given module when indexed files are finished.
+        ReadAction.nonBlocking(() -> collectProjectInfo(module, currentUpdatedTime))
+                .inSmartMode(project)
+                .expireWhen(() -> module.isDisposed() || isCanceled(currentUpdatedTime))
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onSuccess(info -> {
+                    // Generate Json Schema outside the read action
+                    String schemaContent = JSONSchemaUtils.toJSONSchema(info, false);
                     if (isCanceled(currentUpdatedTime)) {
+                        promise.setResult(null);
                         return;
                     }
+                    // Update file with the generated Json Schema
                     ApplicationManager.getApplication()
-                            .runWriteAction(() -> {
-                                // Check if previous start of Json Schema update is relevant
-                                if (isCanceled(currentUpdatedTime)) {
-                                    return;
-                                }
+                            .invokeLater(() -> {
                                 try {
-                                    // Collect all MicroProfile/Quarksu properties from the given module.
-                                    MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
-                                            MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.TEST, PsiUtilsLSImpl.getInstance(project),
-                                            DocumentFormat.Markdown, new ProgressIndicatorWrapper(new EmptyProgressIndicator()) {
-                                                @Override
-                                                public boolean isCanceled() {
-                                                    return super.isCanceled() || ApplicationYamlJsonSchemaFileProvider.this.isCanceled(currentUpdatedTime);
-                                                }
-                                            });
-                                    // Generate Json Schema
-                                    String schemaContent = JSONSchemaUtils.toJSONSchema(info, false);
-                                    if (isCanceled(currentUpdatedTime)) {
-                                        return;
+                                    if (!isCanceled(currentUpdatedTime)) {
+                                        WriteAction.run(() -> updateFileContent(schemaContent, jsonSchemaFile));
                                     }
-                                    // Update file with the generated Json Schema
-                                    updateFileContent(schemaContent, jsonSchemaFile);
-                                } catch (Exception e) {
-                                    LOGGER.error("Error while generating Quarkus Json Schema for the module '{}.", module.getName(), e);
                                 } finally {
-                                    updating = false;
+                                    promise.setResult(null);
                                 }
-                            });
-                });
+                            }, ModalityState.defaultModalityState(), project.getDisposed());
+                })
+                .onError(e -> {
+                    if (!(e instanceof ProcessCanceledException || e instanceof CancellationException)) {
+                        LOGGER.error("Error while generating Quarkus Json Schema for the module '{}.", module.getName(), e);
+                    }
+                    promise.setResult(null);
+                })
+                .onProcessed(info -> updating = false);
     }
 
+    /**
+     * Returns the promise of the latest Json Schema generation, resolved when the Json Schema virtual file has been
+     * updated (or when the generation has been canceled).
+     *
+     * @return the promise of the latest Json Schema generation.
+     */
+    @TestOnly
+    public @NotNull Promise<Void> getUpdatePromise() {
+        return updatePromise;
+    }
+
+    /**
+     * Returns the MicroProfile project information of the given module.
+     *
+     * <p>
+     * When only Java sources have changed since the last generation, only the properties of the Java sources are
+     * collected and they replace the source properties of the latest collected project information.
+     * </p>
+     *
+     * @param module             the module.
+     * @param currentUpdatedTime the update time of the current Json Schema generation.
+     * @return the MicroProfile project information of the given module.
+     */
+    private @NotNull MicroProfileProjectInfo collectProjectInfo(@NotNull Module module, long currentUpdatedTime) {
+        MicroProfileProjectInfo latestInfo = this.latestInfo;
+        boolean onlySources = !librariesChanged && latestInfo != null;
+        librariesChanged = false;
+        try {
+            var project = module.getProject();
+            MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
+                    onlySources ? MicroProfilePropertiesScope.ONLY_SOURCES : MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+                    ClasspathKind.TEST, PsiUtilsLSImpl.getInstance(project),
+                    DocumentFormat.Markdown, new ProgressIndicatorWrapper(new EmptyProgressIndicator()) {
+                        @Override
+                        public boolean isCanceled() {
+                            return super.isCanceled() || ApplicationYamlJsonSchemaFileProvider.this.isCanceled(currentUpdatedTime);
+                        }
+                    });
+            if (onlySources) {
+                info = mergeSources(latestInfo, info);
+            }
+            this.latestInfo = info;
+            return info;
+        } catch (RuntimeException e) {
+            // The collect has not been done, the next collect must scan the libraries again.
+            if (!onlySources) {
+                librariesChanged = true;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a copy of the given project information where the source properties / hints are replaced with the given source properties / hints.
+     *
+     * @param latestInfo  the latest collected project information (sources and dependencies).
+     * @param sourcesInfo the project information collected from the Java sources.
+     * @return a copy of the given project information where the source properties / hints are replaced with the given source properties / hints.
+     */
+    private static @NotNull MicroProfileProjectInfo mergeSources(@NotNull MicroProfileProjectInfo latestInfo,
+                                                                 @NotNull MicroProfileProjectInfo sourcesInfo) {
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        info.setProjectURI(latestInfo.getProjectURI());
+        info.setClasspathKind(latestInfo.getClasspathKind());
+        info.setClasspath(latestInfo.getClasspath());
+
+        List<ItemMetadata> properties = new ArrayList<>();
+        for (ItemMetadata property : latestInfo.getProperties()) {
+            if (!isSource(property.getSource())) {
+                properties.add(property);
+            }
+        }
+        for (ItemMetadata property : sourcesInfo.getProperties()) {
+            if (isSource(property.getSource())) {
+                properties.add(property);
+            }
+        }
+        info.setProperties(properties);
+
+        Map<String, ItemHint> hints = new LinkedHashMap<>();
+        for (ItemHint hint : latestInfo.getHints()) {
+            if (!isSource(hint.getSource())) {
+                hints.put(hint.getName(), hint);
+            }
+        }
+        for (ItemHint hint : sourcesInfo.getHints()) {
+            if (isSource(hint.getSource()) || !hints.containsKey(hint.getName())) {
+                hints.put(hint.getName(), hint);
+            }
+        }
+        info.setHints(new ArrayList<>(hints.values()));
+        return info;
+    }
+
+    private static boolean isSource(@Nullable Boolean source) {
+        return source != null && source;
+    }
+
+    /**
+     * Returns true if the Json Schema has been invalidated (see {@link #reset()} and {@link #resetSources()}) since the
+     * start of the generation of the given update time and false otherwise.
+     */
     private boolean isCanceled(long currentUpdatedTime) {
-        return updatedTime != currentUpdatedTime;
+        return toUpdateTime != currentUpdatedTime;
     }
 
 }
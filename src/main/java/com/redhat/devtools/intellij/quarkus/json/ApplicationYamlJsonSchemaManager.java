@@ -91,7 +91,7 @@ public class ApplicationYamlJsonSchemaManager implements ClasspathResourceChange
         for (var module : modules ) {
             var provider = ApplicationYamlJsonSchemaFileProvider.getProviderFor(module);
             if (provider != null) {
-                provider.reset();
+                provider.resetSources();
             }
         }
     }
@@ -26,6 +26,7 @@ import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChanged
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.DevServerLivenessTracker;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
@@ -59,6 +60,10 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
 
     private MicroProfileInspectionsInfo inspectionsInfo;
 
+    private boolean lazyPropertyDocumentationEnabled;
+
+    private final Runnable lazyPropertyDocumentationChangeHandler = this::lazyPropertyDocumentationChanged;
+
     public QuarkusLanguageClient(Project project) {
         super(project);
         // Call Quarkus deployment support here to react on library changed (to evict quarkus deployment cache) before
@@ -69,8 +74,17 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
         connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
         inspectionsInfo = MicroProfileInspectionsInfo.getMicroProfileInspectionInfo(project);
         connection.subscribe(ProfileChangeAdapter.TOPIC, this);
+        // Refresh the JAX-RS URL code lenses when a dev server starts or stops to listen on its HTTP port.
+        connection.subscribe(DevServerLivenessTracker.TOPIC, (DevServerLivenessTracker.Listener) (module, port, available) -> {
+            if (!isDisposed()) {
+                refreshCodeLenses();
+            }
+        });
         // Track MicroProfile settings changed to push them to the language server with LSP didChangeConfiguration.
         UserDefinedMicroProfileSettings.getInstance(project).addChangeHandler(getDidChangeConfigurationListener());
+        // Track the lazy documentation setting changed to collect again the properties with or without documentation.
+        lazyPropertyDocumentationEnabled = UserDefinedMicroProfileSettings.getInstance(project).isLazyPropertyDocumentationEnabled();
+        UserDefinedMicroProfileSettings.getInstance(project).addChangeHandler(lazyPropertyDocumentationChangeHandler);
     }
 
     @Override
@@ -80,6 +94,18 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
             connection.disconnect();
         }
         UserDefinedMicroProfileSettings.getInstance(getProject()).removeChangeHandler(getDidChangeConfigurationListener());
+        UserDefinedMicroProfileSettings.getInstance(getProject()).removeChangeHandler(lazyPropertyDocumentationChangeHandler);
+    }
+
+    private void lazyPropertyDocumentationChanged() {
+        boolean enabled = UserDefinedMicroProfileSettings.getInstance(getProject()).isLazyPropertyDocumentationEnabled();
+        if (enabled == lazyPropertyDocumentationEnabled || isDisposed()) {
+            return;
+        }
+        lazyPropertyDocumentationEnabled = enabled;
+        // The properties of sources and dependencies must be collected again with (or without) documentation
+        sendPropertiesChangeEvent(List.of(MicroProfilePropertiesScope.sources, MicroProfilePropertiesScope.dependencies),
+                QuarkusModuleUtil.getModulesURIs(getProject()));
     }
 
     @Override
@@ -195,7 +221,8 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
         // "Too many non-blocking read actions submitted at once in". To avoid having this error, we create a coalesceBy key
         // managed by IJ ReadAction.nonBlocking() to cancel the previous request.
         var coalesceBy = new CoalesceByKey("microprofile/java/diagnostics", javaParams.getUris());
-        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        // The Java files are validated in parallel, the validation is canceled with the request
+        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
@@ -282,8 +309,8 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
 
     @Override
     public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
-        // Requires porting https://github.com/eclipse/lsp4mp/issues/321 / https://github.com/eclipse/lsp4mp/pull/329
-        return CompletableFuture.completedFuture(null);
+        var coalesceBy = new CoalesceByKey("microprofile/propertyDocumentation", params.getUri(), params.getSourceType(), params.getSourceField(), params.getSourceMethod(), params.getDocumentFormat());
+        return runAsBackground("Computing property documentation", monitor -> PropertiesManager.getInstance().getPropertyDocumentation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
 }
@@ -48,7 +48,7 @@ public class QuarkusBuildItemDiagnosticsParticipant implements IJavaDiagnosticsP
         // Collection of diagnostics for Quarkus Build Items is done only if
         // io.quarkus.builder.item.BuildItem is on the classpath
         Module javaProject = context.getJavaProject();
-        return PsiTypeUtils.findType(javaProject, QuarkusConstants.QUARKUS_BUILD_ITEM_CLASS_NAME) != null;
+        return PsiTypeUtils.hasType(javaProject, QuarkusConstants.QUARKUS_BUILD_ITEM_CLASS_NAME);
     }
 
     @Override
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.run;
+
+import com.intellij.execution.ExecutionListener;
+import com.intellij.execution.RunnerAndConfigurationSettings;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.runners.ExecutionEnvironment;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.DevServerLivenessTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Execution listener which notifies the {@link DevServerLivenessTracker} when a Quarkus run configuration
+ * (dev mode) is started or stopped, to update the JAX-RS URL code lenses as soon as possible.
+ */
+class DevServerLivenessExecutionListener implements ExecutionListener {
+
+    private final @NotNull Project project;
+
+    DevServerLivenessExecutionListener(@NotNull Project project) {
+        this.project = project;
+    }
+
+    @Override
+    public void processStarted(@NotNull String executorId,
+                               @NotNull ExecutionEnvironment env,
+                               @NotNull ProcessHandler handler) {
+        serverStateChanged(env);
+    }
+
+    @Override
+    public void processTerminated(@NotNull String executorId,
+                                  @NotNull ExecutionEnvironment env,
+                                  @NotNull ProcessHandler handler,
+                                  int exitCode) {
+        serverStateChanged(env);
+    }
+
+    private void serverStateChanged(@NotNull ExecutionEnvironment env) {
+        RunnerAndConfigurationSettings settings = env.getRunnerAndConfigurationSettings();
+        if (settings != null && settings.getConfiguration() instanceof QuarkusRunConfiguration configuration) {
+            Module module = configuration.getModule();
+            if (module != null && !module.isDisposed()) {
+                DevServerLivenessTracker.getInstance(project).serverStateChanged(module);
+            }
+        }
+    }
+
+}
@@ -58,6 +58,7 @@ public class QuarkusRunConfigurationManager implements Disposable {
         this.project = project;
         connection = addProjectImportListener(project);
         connection.subscribe(ExecutionManager.EXECUTION_TOPIC, new AttachDebuggerExecutionListener(project));
+        connection.subscribe(ExecutionManager.EXECUTION_TOPIC, new DevServerLivenessExecutionListener(project));
     }
 
     public @Nullable RunnerAndConfigurationSettings findExistingConfigurationFor(@NotNull Module module) {
@@ -18,7 +18,6 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.tree.IElementType;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.qute.parser.injection.InjectionDetector;
 import com.redhat.qute.parser.template.scanner.ScannerState;
 import com.redhat.qute.parser.template.scanner.TemplateScanner;
@@ -31,8 +30,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-import static com.redhat.devtools.intellij.qute.psi.internal.extensions.roq.RoqUtils.isRoqProject;
-
 /**
  * Qute lexer based on the Qute LS scanner to parse Qute template.
  */
@@ -45,10 +42,28 @@ public class QuteLexer extends LexerBase {
     public static final Key<Boolean> FORCE_ALT_EXPR_SYNTAX = Key.create("qute.force.alt.expr.syntax");
 
     public static final List<InjectionDetector> YAML_FRONT_MATTER_DETECTORS = Collections.singletonList(new YamlFrontMatterDetector());
+
+    /**
+     * State of a token which starts in the content of the template (outside a start tag, an expression and a language
+     * injection): the lexer can be restarted at this token with {@link #start(CharSequence, int, int, int)}.
+     */
+    public static final int RESTARTABLE_STATE = 0;
+
+    // Context of the token encoded in the high bits of the state of the other tokens
+    static final int TEMPLATE_CONTEXT = 1;
+    static final int START_TAG_CONTEXT = 2;
+    static final int EXPRESSION_CONTEXT = 3;
+    static final int LANGUAGE_INJECTION_CONTEXT = 4;
+
+    private static final int CONTEXT_SHIFT = 16;
+    private static final int SCANNER_STATE_MASK = (1 << CONTEXT_SHIFT) - 1;
+
     private final Collection<InjectionDetector> injectors;
     private final Character expressionCommand;
     private IElementType myTokenType;
     private CharSequence myText;
+    // Text of the buffer shared by the template scanner and the sub lexers
+    private String myString;
 
     private int myTokenStart;
     private int myTokenEnd;
@@ -61,17 +76,20 @@ public class QuteLexer extends LexerBase {
     private TemplateScanner scanner;
 
     private AbstractQuteSubLexer currentSubLexer;
+    private int currentSubLexerContext;
     private int startExpressionOffset = -1;
 
     private int startTagOpenOffset;
     private int startLanguageInjectionOffset;
 
     public QuteLexer(@Nullable VirtualFile file, @NotNull Module module) {
-        this(isRoqProject(module), isAltExprSyntax(file, module));
+        this(QuteLexerConfigurationCache.getInstance(module.getProject()).isRoqProject(module),
+                isAltExprSyntax(file, module.getProject(), module));
     }
 
     public QuteLexer(@Nullable VirtualFile file, @NotNull Project project) {
-        this(isRoqProject(project), isAltExprSyntax(file, getFirstModule(project)));
+        this(QuteLexerConfigurationCache.getInstance(project).isRoqProject(),
+                isAltExprSyntax(file, project, getFirstModule(project)));
     }
 
     private static @Nullable Module getFirstModule(@NotNull Project project) {
@@ -79,54 +97,26 @@ public class QuteLexer extends LexerBase {
         return modules != null && modules.length > 0 ? modules[0] : null;
     }
 
-    private static boolean isAltExprSyntax(@Nullable VirtualFile file, @Nullable Module module) {
+    private static boolean isAltExprSyntax(@Nullable VirtualFile file, @NotNull Project project, @Nullable Module module) {
         if (file == null && module == null){
             return false;
         }
 
         // Check UserData first (for testing purposes)
-        if (module != null) {
-            Boolean forceAltSyntax = module.getProject().getUserData(FORCE_ALT_EXPR_SYNTAX);
-            if (forceAltSyntax != null && forceAltSyntax) {
-                return true;
-            }
+        Boolean forceAltSyntax = project.getUserData(FORCE_ALT_EXPR_SYNTAX);
+        if (module != null && forceAltSyntax != null && forceAltSyntax) {
+            return true;
+        }
 
-            // Check application.properties
-            var mpProject = PsiMicroProfileProjectManager.getInstance(module.getProject()).getMicroProfileProject(module);
-            if (mpProject.getProperty("quarkus.qute.alt-expr-syntax", "false").equals("true")) {
-                return true;
-            }
+        QuteLexerConfigurationCache configuration = QuteLexerConfigurationCache.getInstance(project);
+        // Check application.properties
+        if (module != null && configuration.isAltExprSyntax(module)) {
+            return true;
         }
 
         if (file != null) {
             // Search for .qute file in parent directories
-            return searchAltExprSyntaxInParent(file);
-        }
-        return false;
-    }
-
-    /**
-     * Searches for a {@code .qute} file in the parent directories of the given file
-     * and checks if {@code alt-expr-syntax=true} is set.
-     *
-     * @param file the template file to start searching from.
-     * @return {@code true} if alt-expr-syntax is enabled in a parent .qute file, {@code false} otherwise.
-     */
-    private static boolean searchAltExprSyntaxInParent(@NotNull VirtualFile file) {
-        VirtualFile parent = file.getParent();
-        while (parent != null) {
-            VirtualFile dotQuteFile = parent.findChild(".qute");
-            if (dotQuteFile != null && dotQuteFile.exists() && !dotQuteFile.isDirectory()) {
-                java.util.Properties props = new java.util.Properties();
-                try (java.io.InputStream is = dotQuteFile.getInputStream()) {
-                    props.load(is);
-                    Object result = props.getOrDefault("alt-expr-syntax", false);
-                    return result instanceof Boolean ? (Boolean) result : Boolean.parseBoolean(result.toString());
-                } catch (java.io.IOException e) {
-                    // Ignore and continue searching in parent directories
-                }
-            }
-            parent = parent.getParent();
+            return configuration.isAltExprSyntaxInParent(file);
         }
         return false;
     }
@@ -144,19 +134,45 @@ public class QuteLexer extends LexerBase {
         this.expressionCommand = altExprSyntax ? '=' : null;
     }
 
+    /**
+     * Start the lexer at the given offset.
+     *
+     * <p>
+     * The editor highlighter restarts the lexer only at a token which has the {@link #RESTARTABLE_STATE} state (the
+     * initial state of the lexer), in this case the template scanner starts to scan the content of the template at the
+     * given start offset and only the modified part of the template is scanned. The Qute scanners don't support to
+     * resume the scan inside a start tag, an expression or a language injection, the other states are used only to
+     * prevent the editor highlighter to restart the lexer inside those constructions.
+     * </p>
+     */
     @Override
     public void start(@NotNull CharSequence buffer, int startOffset, int endOffset, int initialState) {
         myText = buffer;
         myTokenStart = myTokenEnd = startOffset;
         myBufferEnd = endOffset;
+        myFailed = false;
         startTagOpenOffset = -1;
         startExpressionOffset = -1;
         startLanguageInjectionOffset = -1;
         currentSubLexer = null;
-        scanner = (TemplateScanner) TemplateScanner.createScanner(buffer.subSequence(0, endOffset).toString(), startOffset, expressionCommand, injectors);
+        // The Qute scanners work with a String, copy the buffer once (no copy when the buffer is a String)
+        // and share it with the sub lexers.
+        myString = buffer.subSequence(0, endOffset).toString();
+        scanner = (TemplateScanner) TemplateScanner.createScanner(myString, startOffset, expressionCommand, injectors);
         myTokenType = null;
     }
 
+    /**
+     * Returns the state of the current token:
+     *
+     * <ul>
+     * <li>{@link #RESTARTABLE_STATE} if the token starts in the content of the template.</li>
+     * <li>otherwise the context of the token (template, start tag, expression, language injection) in the high bits
+     * and the state of the scanner of this context in the low bits.</li>
+     * </ul>
+     *
+     * @return the state of the current token.
+     */
     @Override
     public int getState() {
         locateToken();
@@ -207,13 +223,16 @@ public class QuteLexer extends LexerBase {
         try {
             if (startLanguageInjectionOffset != -1 && currentSubLexer == null) {
                 // create a sub lexer to parse content of Qute expression (ex: {|foo.bar(0)|})
-                currentSubLexer = new QuteLexerForLanguageInjection(myText.toString(), scanner, startLanguageInjectionOffset);
+                currentSubLexer = new QuteLexerForLanguageInjection(myString, scanner, startLanguageInjectionOffset);
+                currentSubLexerContext = LANGUAGE_INJECTION_CONTEXT;
             } else  if (startExpressionOffset != -1 && currentSubLexer == null) {
                 // create a sub lexer to parse content of Qute expression (ex: {|foo.bar(0)|})
-                currentSubLexer = new QuteLexerForExpression(myText.toString(), scanner, startExpressionOffset);
+                currentSubLexer = new QuteLexerForExpression(myString, scanner, startExpressionOffset);
+                currentSubLexerContext = EXPRESSION_CONTEXT;
             } else if (startTagOpenOffset != -1 && currentSubLexer == null) {
                 // create a sub lexer to parse content of Qute start section (ex: {#let |name='foo'|}{/let})
-                currentSubLexer = new QuteLexerForStartTag(myText.toString(), scanner, startTagOpenOffset);
+                currentSubLexer = new QuteLexerForStartTag(myString, scanner, startTagOpenOffset);
+                currentSubLexerContext = START_TAG_CONTEXT;
             }
             boolean continueToScanTemplate = currentSubLexer == null;
             if (currentSubLexer != null) {
@@ -238,7 +257,7 @@ public class QuteLexer extends LexerBase {
                     currentSubLexer = null;
                 } else {
                     // collect token from the sub lexer
-                    myState = currentSubLexer.getState();
+                    myState = encodeState(currentSubLexerContext, currentSubLexer.getState());
                     myTokenEnd = currentSubLexer.getTokenEnd();
                     currentSubLexer.advance();
                 }
@@ -246,11 +265,12 @@ public class QuteLexer extends LexerBase {
 
             if (continueToScanTemplate) {
                 // Parse tokens from the template
+                boolean restartable = scanner.getScannerState() == ScannerState.WithinContent;
                 TokenType tokenType = scanner.scan();
                 while (tokenType != TokenType.EOS) {
                     IElementType elementType = getTokenType(tokenType);
                     if (elementType != null) {
-                        myState = getStateAsInt(scanner.getScannerState());
+                        myState = restartable ? RESTARTABLE_STATE : encodeState(TEMPLATE_CONTEXT, getStateAsInt(scanner.getScannerState()));
                         myTokenType = elementType;
                         myTokenEnd = scanner.getTokenEnd();
                         if (myTokenType == QuteTokenType.QUTE_START_EXPRESSION) {
@@ -325,6 +345,30 @@ public class QuteLexer extends LexerBase {
         return state.ordinal();
     }
 
+    /**
+     * Returns the lexer state for the given context and scanner state (never {@link #RESTARTABLE_STATE}).
+     *
+     * @param context      the context of the token (ex : {@link #EXPRESSION_CONTEXT}).
+     * @param scannerState the state of the scanner of this context.
+     *
+     * @return the lexer state for the given context and scanner state.
+     */
+    static int encodeState(int context, int scannerState) {
+        return (context << CONTEXT_SHIFT) | (scannerState & SCANNER_STATE_MASK);
+    }
+
+    /**
+     * Returns the context of the token (ex : {@link #EXPRESSION_CONTEXT}) encoded in the given lexer state and 0 for
+     * {@link #RESTARTABLE_STATE}.
+     *
+     * @param state the lexer state.
+     *
+     * @return the context of the token encoded in the given lexer state.
+     */
+    static int getContext(int state) {
+        return state >>> CONTEXT_SHIFT;
+    }
+
     @Override
     public String toString() {
         return "QuteLexer for " + scanner.getClass().getName();
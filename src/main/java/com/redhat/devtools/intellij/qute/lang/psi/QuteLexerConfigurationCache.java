@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.qute.lang.psi;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import com.redhat.devtools.intellij.qute.psi.internal.extensions.roq.RoqUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project cache of the configuration used to create a {@link QuteLexer}:
+ *
+ * <ul>
+ * <li>per module, the Roq support and the <code>quarkus.qute.alt-expr-syntax</code> property, computed again when
+ * the module roots, the libraries or the config sources (application.properties, etc) of the module change.</li>
+ * <li>per directory, the <code>alt-expr-syntax</code> property of the nearest <code>.qute</code> file, computed
+ * again when a <code>.qute</code> file is created, deleted, updated, renamed or moved.</li>
+ * </ul>
+ */
+public final class QuteLexerConfigurationCache implements BulkFileListener {
+
+    private static final String DOT_QUTE_FILE_NAME = ".qute";
+
+    public static QuteLexerConfigurationCache getInstance(@NotNull Project project) {
+        return project.getService(QuteLexerConfigurationCache.class);
+    }
+
+    static class ModuleConfiguration {
+
+        private final boolean roqProject;
+
+        private final boolean altExprSyntax;
+
+        private ModuleConfiguration(boolean roqProject, boolean altExprSyntax) {
+            this.roqProject = roqProject;
+            this.altExprSyntax = altExprSyntax;
+        }
+    }
+
+    private final Project project;
+
+    private final Map<String /* directory URL */, Boolean> altExprSyntaxByDirectory = new ConcurrentHashMap<>();
+
+    private QuteLexerConfigurationCache(Project project) {
+        this.project = project;
+        project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+                .subscribe(VirtualFileManager.VFS_CHANGES, this);
+    }
+
+    /**
+     * Returns true if the given module is a Roq project and false otherwise.
+     *
+     * @param module the module.
+     * @return true if the given module is a Roq project and false otherwise.
+     */
+    public boolean isRoqProject(@NotNull Module module) {
+        return getModuleConfiguration(module).roqProject;
+    }
+
+    /**
+     * Returns true if the project is a Roq project and false otherwise.
+     *
+     * @return true if the project is a Roq project and false otherwise.
+     */
+    public boolean isRoqProject() {
+        return CachedValuesManager.getManager(project).getCachedValue(project,
+                () -> CachedValueProvider.Result.create(RoqUtils.isRoqProject(project),
+                        ProjectRootManager.getInstance(project)));
+    }
+
+    /**
+     * Returns true if <code>quarkus.qute.alt-expr-syntax=true</code> is declared in the config sources of the given
+     * module and false otherwise.
+     *
+     * @param module the module.
+     * @return true if <code>quarkus.qute.alt-expr-syntax=true</code> is declared in the config sources of the given
+     * module and false otherwise.
+     */
+    public boolean isAltExprSyntax(@NotNull Module module) {
+        return getModuleConfiguration(module).altExprSyntax;
+    }
+
+    @NotNull
+    ModuleConfiguration getModuleConfiguration(@NotNull Module module) {
+        return CachedValuesManager.getManager(project).getCachedValue(module, () -> {
+            PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(project)
+                    .getMicroProfileProject(module);
+            boolean altExprSyntax = mpProject.getProperty("quarkus.qute.alt-expr-syntax", "false").equals("true");
+            return CachedValueProvider.Result.create(new ModuleConfiguration(RoqUtils.isRoqProject(module), altExprSyntax),
+                    ProjectRootManager.getInstance(project), mpProject.getConfigSourcesModificationTracker());
+        });
+    }
+
+    /**
+     * Returns true if <code>alt-expr-syntax=true</code> is declared in the nearest {@code .qute} file of the parent
+     * directories of the given template file and false otherwise.
+     *
+     * @param file the template file.
+     * @return true if alt-expr-syntax is enabled in a parent .qute file, false otherwise.
+     */
+    public boolean isAltExprSyntaxInParent(@NotNull VirtualFile file) {
+        VirtualFile parent = file.getParent();
+        return parent != null && isAltExprSyntaxInDirectory(parent);
+    }
+
+    private boolean isAltExprSyntaxInDirectory(@NotNull VirtualFile directory) {
+        Boolean altExprSyntax = altExprSyntaxByDirectory.get(directory.getUrl());
+        if (altExprSyntax != null) {
+            return altExprSyntax;
+        }
+        altExprSyntax = readAltExprSyntax(directory);
+        if (altExprSyntax == null) {
+            // No .qute file in the directory, search in the parent directories
+            VirtualFile parent = directory.getParent();
+            altExprSyntax = parent != null && isAltExprSyntaxInDirectory(parent);
+        }
+        altExprSyntaxByDirectory.put(directory.getUrl(), altExprSyntax);
+        return altExprSyntax;
+    }
+
+    /**
+     * Returns true if the <code>alt-expr-syntax</code> property of the given directory is cached and false otherwise.
+     *
+     * @param directory the directory.
+     * @return true if the <code>alt-expr-syntax</code> property of the given directory is cached and false otherwise.
+     */
+    @TestOnly
+    boolean isAltExprSyntaxCached(@NotNull VirtualFile directory) {
+        return altExprSyntaxByDirectory.containsKey(directory.getUrl());
+    }
+
+    private static Boolean readAltExprSyntax(@NotNull VirtualFile directory) {
+        VirtualFile dotQuteFile = directory.findChild(DOT_QUTE_FILE_NAME);
+        if (dotQuteFile != null && dotQuteFile.exists() && !dotQuteFile.isDirectory()) {
+            Properties props = new Properties();
+            try (InputStream is = dotQuteFile.getInputStream()) {
+                props.load(is);
+                Object result = props.getOrDefault("alt-expr-syntax", false);
+                return result instanceof Boolean ? (Boolean) result : Boolean.parseBoolean(result.toString());
+            } catch (IOException e) {
+                // Ignore and continue searching in parent directories
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+        if (altExprSyntaxByDirectory.isEmpty()) {
+            return;
+        }
+        for (VFileEvent event : events) {
+            if (isDotQuteFileEvent(event)) {
+                altExprSyntaxByDirectory.clear();
+                return;
+            }
+        }
+    }
+
+    private static boolean isDotQuteFileEvent(@NotNull VFileEvent event) {
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename()) {
+            // ex : rename of 'qute.txt' to '.qute'
+            return DOT_QUTE_FILE_NAME.equals(propertyChangeEvent.getOldValue())
+                    || DOT_QUTE_FILE_NAME.equals(propertyChangeEvent.getNewValue())
+                    || isDirectory(event);
+        }
+        if (event instanceof VFileContentChangeEvent) {
+            return isDotQuteFile(event);
+        }
+        // A created, copied, moved or deleted directory can add or remove .qute files in the parent directories of
+        // the templates
+        return isDotQuteFile(event) || isDirectory(event);
+    }
+
+    private static boolean isDotQuteFile(@NotNull VFileEvent event) {
+        return event.getPath().endsWith("/" + DOT_QUTE_FILE_NAME);
+    }
+
+    private static boolean isDirectory(@NotNull VFileEvent event) {
+        VirtualFile file = event.getFile();
+        return file != null && file.isDirectory();
+    }
+}
@@ -31,6 +31,7 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImp
 import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForJava;
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
+import com.redhat.devtools.intellij.qute.psi.template.QuteResolvedJavaTypesParams;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils;
 import com.redhat.devtools.intellij.qute.settings.QuteInspectionsInfo;
 import com.redhat.devtools.intellij.qute.settings.UserDefinedQuteSettings;
@@ -44,6 +45,7 @@ import com.redhat.qute.commons.datamodel.*;
 import com.redhat.qute.ls.api.QuteLanguageClientAPI;
 import com.redhat.qute.ls.api.QuteLanguageServerAPI;
 import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -216,6 +218,20 @@ public class QuteLanguageClient extends IndexAwareLanguageClient implements Qute
                 monitor), coalesceBy);
     }
 
+    /**
+     * Resolve several Java types of a project with one request, in one read action (ex : when a template is opened,
+     * the Java types of its expressions are resolved together instead of one 'qute/template/resolvedJavaType' per type).
+     *
+     * @param params the Java types to resolve.
+     * @return the resolved Java types.
+     */
+    @JsonRequest("qute/template/resolvedJavaTypes")
+    public CompletableFuture<List<ResolvedJavaTypeInfo>> getResolvedJavaTypes(QuteResolvedJavaTypesParams params) {
+        var coalesceBy = new CoalesceByKey("qute/template/resolvedJavaTypes", params.getProjectUri(), params.getClassNames());
+        return runAsBackground("getResolvedJavaTypes", monitor -> QuteSupportForTemplate.getInstance().getResolvedJavaTypes(params, PsiUtilsLSImpl.getInstance(getProject()),
+                monitor), coalesceBy);
+    }
+
     @Override
     public CompletableFuture<Location> getJavaDefinition(QuteJavaDefinitionParams params) {
         var coalesceBy = new CoalesceByKey("qute/java/definition", params);
@@ -19,6 +19,7 @@ import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.qute.psi.internal.resolver.ClassFileTypeResolver;
 import com.redhat.devtools.intellij.qute.psi.internal.resolver.ITypeResolver;
@@ -26,7 +27,10 @@ import com.redhat.devtools.intellij.qute.psi.internal.template.JavaTypesSearch;
 import com.redhat.devtools.intellij.qute.psi.internal.template.QuarkusIntegrationForQute;
 import com.redhat.devtools.intellij.qute.psi.internal.template.QuteSupportForTemplateGenerateMissingJavaMemberHandler;
 import com.redhat.devtools.intellij.qute.psi.internal.template.TemplateDataSupport;
+import com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype.JavaTypeMembers;
+import com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype.ResolvedJavaTypeCache;
 import com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype.ResolvedJavaTypeFactoryRegistry;
+import com.redhat.devtools.intellij.qute.psi.template.QuteResolvedJavaTypesParams;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils;
 import com.redhat.qute.commons.*;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
@@ -58,6 +62,10 @@ public class QuteSupportForTemplate {
 
     private static final String JAVA_LANG_OBJECT = "java.lang.Object";
 
+    // The Java types are searched for completion, which is requested again each time the user types a character,
+    // only the best ranked Java types are returned.
+    private static final int MAX_JAVA_TYPES = 100;
+
     private static final QuteSupportForTemplate INSTANCE = new QuteSupportForTemplate();
 
     public static QuteSupportForTemplate getInstance() {
@@ -186,8 +194,8 @@ public class QuteSupportForTemplate {
     }
 
     /**
-     * Returns Java types for the given pattern which belong to the given project
-     * Uri.
+     * Returns the {@link #MAX_JAVA_TYPES} best ranked Java types for the given pattern which belong to the given
+     * project Uri.
      *
      * @param params  the java types parameters.
      * @param utils   the JDT LS utility.
@@ -203,7 +211,13 @@ public class QuteSupportForTemplate {
 
         utils = utils.refine(javaProject);
 
-        return new JavaTypesSearch(params.getPattern(), javaProject).search(monitor);
+        JavaTypesSearch search = new JavaTypesSearch(params.getPattern(), javaProject, MAX_JAVA_TYPES);
+        List<JavaTypeInfo> javaTypes = search.search(monitor);
+        if (search.isIncomplete()) {
+            LOGGER.log(Level.FINE, "Java types search for '" + params.getPattern() + "' has been limited to "
+                    + MAX_JAVA_TYPES + " results");
+        }
+        return javaTypes;
     }
 
     /**
@@ -274,7 +288,10 @@ public class QuteSupportForTemplate {
 
             String sourceMethod = params.getSourceMethod();
             if (sourceMethod != null) {
-                PsiMethod method = findMethod(type, sourceMethod);
+                // For the moment we search method only by name, and by parameter name for overloaded methods
+                // FIXME:use method signature to retrieve the proper method (the definition params don't give it)
+                PsiMethod method = ResolvedJavaTypeCache.getInstance(javaProject.getProject())
+                        .getMembers(type, javaProject).findMethod(sourceMethod, dataMethodInvocation ? null : parameterName);
                 if (method == null || !method.isValid()) {
                     // The method doesn't exist
                     return null;
@@ -303,18 +320,6 @@ public class QuteSupportForTemplate {
         return utils.toLocation(type);
     }
 
-    private PsiMethod findMethod(PsiClass type, String sourceMethod) {
-        // For the moment we search method only by name
-        // FIXME:use method signature to retrieve the proper method (see findMethodOLD)
-        PsiMethod[] methods = type.getMethods();
-        for (PsiMethod method : methods) {
-            if (sourceMethod.equals(method.getName())) {
-                return method;
-            }
-        }
-        return null;
-    }
-
     /**
      * Returns the resolved type (fields and methods) for the given Java type.
      *
@@ -345,7 +350,64 @@ public class QuteSupportForTemplate {
         }
 
         ValueResolverKind kind = params.getKind();
-        return ResolvedJavaTypeFactoryRegistry.getInstance().create(type, kind, javaProject);
+        return ResolvedJavaTypeCache.getInstance(javaProject.getProject()).getResolvedJavaType(type, kind, javaProject,
+                () -> ResolvedJavaTypeFactoryRegistry.getInstance().create(type, kind, javaProject));
+    }
+
+    /**
+     * Returns the resolved types (fields and methods) for the given Java types of a project, resolved with one shared
+     * search scope. The Java types which cannot be found are ignored.
+     *
+     * @param params  the Java types to resolve.
+     * @param utils   the JDT LS utility.
+     * @param monitor the progress monitor.
+     * @return the resolved types (fields and methods) for the given Java types (and for their super types if
+     * {@link QuteResolvedJavaTypesParams#isIncludeSuperTypes()} is true).
+     */
+    public List<ResolvedJavaTypeInfo> getResolvedJavaTypes(QuteResolvedJavaTypesParams params, IPsiUtils utils,
+                                                           ProgressIndicator monitor) {
+        if (monitor.isCanceled()) {
+            throw new ProcessCanceledException();
+        }
+        List<String> classNames = params.getClassNames();
+        Module javaProject = getJavaProjectFromProjectUri(params.getProjectUri(), utils);
+        if (javaProject == null || classNames == null || classNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        GlobalSearchScope scope = javaProject.getModuleWithDependenciesAndLibrariesScope(true);
+        ResolvedJavaTypeCache cache = ResolvedJavaTypeCache.getInstance(javaProject.getProject());
+        ValueResolverKind kind = params.getKind();
+
+        List<ResolvedJavaTypeInfo> resolvedTypes = new ArrayList<>();
+        Set<String> processedTypeNames = new HashSet<>();
+        Deque<String> typeNamesToResolve = new ArrayDeque<>(classNames);
+        while (!typeNamesToResolve.isEmpty()) {
+            monitor.checkCanceled();
+            String typeName = typeNamesToResolve.poll();
+            if (!processedTypeNames.add(typeName)) {
+                continue;
+            }
+            // ex : org.acme.Item, java.util.List, ...
+            PsiClass type = findType(typeName, javaProject, scope, monitor);
+            if (type == null) {
+                continue;
+            }
+            ResolvedJavaTypeInfo resolvedType = cache.getResolvedJavaType(type, kind, javaProject,
+                    () -> ResolvedJavaTypeFactoryRegistry.getInstance().create(type, kind, javaProject));
+            if (resolvedType == null) {
+                continue;
+            }
+            resolvedTypes.add(resolvedType);
+            if (params.isIncludeSuperTypes() && resolvedType.getExtendedTypes() != null) {
+                // The Qute language server resolves the super types of a resolved type just after
+                for (String extendedType : resolvedType.getExtendedTypes()) {
+                    int index = extendedType.indexOf('<');
+                    typeNamesToResolve.add(index != -1 ? extendedType.substring(0, index) : extendedType);
+                }
+            }
+        }
+        return resolvedTypes;
     }
 
     /**
@@ -412,62 +474,27 @@ public class QuteSupportForTemplate {
             throw new ProcessCanceledException();
         }
 
-        ITypeResolver typeResolver = createTypeResolver(type, utils.getModule());
-
-        // 1) Check the fields for the member
-
-        // Standard fields
-        PsiField[] fields = type.getFields();
-        for (PsiField field : fields) {
-            if (isValidField(field, type)
-                    && memberName.equals(field.getName())
-                    && signature.equals(typeResolver.resolveFieldSignature(field))) {
-                String javadoc = utils.getJavadoc(field, documentFormat);
-                if (javadoc != null) {
-                    return javadoc;
+        // 1) Check the fields, the record fields and the methods which have the signature of the member
+        JavaTypeMembers members = ResolvedJavaTypeCache.getInstance(type.getProject()).getMembers(type, utils.getModule());
+        for (PsiMember member : members.findMembersBySignature(signature)) {
+            if (member instanceof PsiField field) {
+                // Standard fields
+                if (!isValidField(field, type) || !memberName.equals(field.getName())) {
+                    continue;
                 }
-            }
-        }
-
-        // Record fields
-        if (type.isRecord()) {
-            for (PsiRecordComponent field : type.getRecordComponents()) {
-                // All record components are valid
-                if (memberName.equals(field.getName())
-                        && signature.equals(typeResolver.resolveFieldSignature(field))) {
-                    String javadoc = utils.getJavadoc(field, documentFormat);
-                    if (javadoc != null) {
-                        return javadoc;
-                    }
+            } else if (member instanceof PsiRecordComponent field) {
+                // Record fields, all record components are valid
+                if (!memberName.equals(field.getName())) {
+                    continue;
                 }
             }
-        }
-
-        // 2) Check the methods for the member
-        PsiMethod[] methods = type.getMethods();
-        for (PsiMethod method : methods) {
-            if (!method.isConstructor()) {
-                try {
-                    if (signature.equals(typeResolver.resolveMethodSignature(method))) {
-                        String javadoc = utils.getJavadoc(method, documentFormat);
-                        if (javadoc != null) {
-                            return javadoc;
-                        }
-                    }
-                } catch (ProcessCanceledException e) {
-                    //Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
-                    //TODO delete block when minimum required version is 2024.2
-                    throw e;
-                } catch (IndexNotReadyException | CancellationException e) {
-                    throw e;
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "Error while getting method signature of '" + method.getName() + "'.",
-                            e);
-                }
+            String javadoc = utils.getJavadoc(member, documentFormat);
+            if (javadoc != null) {
+                return javadoc;
             }
         }
 
-        // 3) Check the superclasses for the member
+        // 2) Check the superclasses for the member
 
         // Collect type extensions
         List<PsiClass> extendedTypes = null;
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Project cache of the binary templates collected from the JAR dependencies.
+ *
+ * <p>
+ * The templates of a JAR are collected the first time they are requested and are reused
+ * until the JAR file changes (timestamp, length) or until the libraries of the project change.
+ * </p>
+ */
+public final class BinaryTemplatesCache implements ClasspathResourceChangedManager.Listener {
+
+    public static BinaryTemplatesCache getInstance(@NotNull Project project) {
+        return project.getService(BinaryTemplatesCache.class);
+    }
+
+    private static class CachedBinaryTemplates {
+
+        private final long timestamp;
+
+        private final long length;
+
+        private final @Nullable BinaryTemplateInfo info;
+
+        private CachedBinaryTemplates(long timestamp, long length, @Nullable BinaryTemplateInfo info) {
+            this.timestamp = timestamp;
+            this.length = length;
+            this.info = info;
+        }
+    }
+
+    private final Map<String, CachedBinaryTemplates> cache = new ConcurrentHashMap<>();
+
+    private BinaryTemplatesCache(Project project) {
+        project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+                .subscribe(ClasspathResourceChangedManager.TOPIC, this);
+    }
+
+    /**
+     * Returns the binary templates of the given classpath root and null if the root has no templates.
+     *
+     * @param root      the classpath root.
+     * @param collector the function used to collect the binary templates when the root is not cached.
+     * @return the binary templates of the given classpath root and null if the root has no templates.
+     */
+    public @Nullable BinaryTemplateInfo getBinaryTemplates(@NotNull VirtualFile root,
+                                                           @NotNull Function<VirtualFile, BinaryTemplateInfo> collector) {
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(root);
+        if (jarFile == null) {
+            // Folder root (ex : output directory of another module), its content can change at any time
+            return collector.apply(root);
+        }
+        long timestamp = jarFile.getTimeStamp();
+        long length = jarFile.getLength();
+        String key = root.getUrl();
+        CachedBinaryTemplates cached = cache.get(key);
+        if (cached == null || cached.timestamp != timestamp || cached.length != length) {
+            cached = new CachedBinaryTemplates(timestamp, length, collector.apply(root));
+            cache.put(key, cached);
+        }
+        return cached.info;
+    }
+
+    @Override
+    public void librariesChanged() {
+        // Some JARs have been removed or updated
+        cache.clear();
+    }
+
+    @Override
+    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+        // Do nothing: source files don't belong to the JAR dependencies
+    }
+}
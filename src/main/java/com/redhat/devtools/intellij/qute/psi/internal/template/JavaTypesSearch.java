@@ -18,6 +18,9 @@ import com.intellij.codeInsight.completion.impl.CamelHumpMatcher;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiPackage;
@@ -25,6 +28,7 @@ import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.LocalSearchScope;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.psi.search.searches.AllClassesSearch;
+import com.intellij.psi.util.PsiUtilCore;
 import com.intellij.util.Query;
 import com.redhat.devtools.intellij.qute.psi.internal.resolver.AbstractTypeResolver;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiTypeUtils;
@@ -33,8 +37,10 @@ import com.redhat.qute.commons.JavaTypeKind;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -43,22 +49,58 @@ import java.util.regex.Pattern;
 /**
  * Java types search for a given pattern and project Uri.
  *
+ * <p>
+ * When the Java types are searched by name, the types are ranked by CamelHump match quality and by proximity with
+ * the module (classes of the module first, then classes of the project, then classes of libraries). When the search
+ * is created with a maximum number of results, only the best ones are returned and {@link #isIncomplete()} returns
+ * true if some Java types have been dropped.
+ * </p>
+ *
  * @author Angelo ZERR
  */
 public class JavaTypesSearch {
 
     private static final Logger LOGGER = Logger.getLogger(JavaTypesSearch.class.getName());
 
+    private static final int MODULE_PROXIMITY = 2;
+
+    private static final int PROJECT_PROXIMITY = 1;
+
+    private static final int LIBRARY_PROXIMITY = 0;
+
     private final Module javaProject;
 
+    private final int maxResults;
+
     private final String packageName;
 
     private final String typeName;
 
     private final GlobalSearchScope scope;
 
+    private boolean incomplete;
+
+    /**
+     * Java types search which returns all the Java types matching the given pattern.
+     *
+     * @param pattern     the pattern (ex : org.acme.qute.It, It).
+     * @param javaProject the module.
+     */
     public JavaTypesSearch(String pattern, Module javaProject) {
+        this(pattern, javaProject, 0);
+    }
+
+    /**
+     * Java types search.
+     *
+     * @param pattern     the pattern (ex : org.acme.qute.It, It).
+     * @param javaProject the module.
+     * @param maxResults  the maximum number of Java types to return and 0 (or a negative value) to return all
+     *                    Java types.
+     */
+    public JavaTypesSearch(String pattern, Module javaProject, int maxResults) {
         this.javaProject = javaProject;
+        this.maxResults = maxResults > 0 ? maxResults : Integer.MAX_VALUE;
         String typeName = "";
         String packageName = "";
         GlobalSearchScope searchScope = javaProject.getModuleScope();
@@ -82,16 +124,31 @@ public class JavaTypesSearch {
         this.scope = searchScope;
     }
 
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    /**
+     * Returns true if the last search has dropped some Java types to respect {@link #getMaxResults()} and false
+     * otherwise.
+     *
+     * @return true if the last search has dropped some Java types and false otherwise.
+     */
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
     public List<JavaTypeInfo> search(ProgressIndicator monitor) {
+        incomplete = false;
         List<JavaTypeInfo> javaTypes = new ArrayList<>();
         PsiPackage packageRoot = collectPackages(packageName, javaProject, javaTypes);
-        collectClassesAndInterfaces(packageRoot, javaTypes);
+        collectClassesAndInterfaces(packageRoot, javaTypes, monitor);
         return javaTypes;
     }
 
     // ------------- Packages collector
 
-    private static PsiPackage collectPackages(String packageName, Module javaProject, List<JavaTypeInfo> javaTypes) {
+    private PsiPackage collectPackages(String packageName, Module javaProject, List<JavaTypeInfo> javaTypes) {
         PsiPackage packageRoot = JavaPsiFacade.getInstance(javaProject.getProject()).findPackage(packageName);
         if (packageRoot != null) {
             fillWithSubPackages(packageRoot, javaTypes);
@@ -99,43 +156,89 @@ public class JavaTypesSearch {
         return packageRoot;
     }
 
-    private static void fillWithSubPackages(PsiPackage packageRoot, List<JavaTypeInfo> javaTypes) {
+    private void fillWithSubPackages(PsiPackage packageRoot, List<JavaTypeInfo> javaTypes) {
         PsiPackage[] allPackages = packageRoot.getSubPackages();
-        for (int i = 0; i < allPackages.length; i++) {
+        for (int i = 0; i < allPackages.length && javaTypes.size() < maxResults; i++) {
             String subPackageName = allPackages[i].getQualifiedName();
             JavaTypeInfo packageInfo = new JavaTypeInfo();
             packageInfo.setJavaTypeKind(JavaTypeKind.Package);
             packageInfo.setSignature(subPackageName);
             javaTypes.add(packageInfo);
         }
+        if (allPackages.length > maxResults) {
+            incomplete = true;
+        }
     }
 
     // ------------- Classes, Interfaces, etc collector
 
-    private void collectClassesAndInterfaces(PsiPackage packageRoot, List<JavaTypeInfo> javaTypes) {
+    private void collectClassesAndInterfaces(PsiPackage packageRoot, List<JavaTypeInfo> javaTypes, ProgressIndicator monitor) {
+        if (javaTypes.size() >= maxResults) {
+            if (packageRoot != null && packageRoot.getClasses(scope).length > 0) {
+                incomplete = true;
+            }
+            return;
+        }
         if (packageRoot != null) {
             // Search classes from the given proper package root.
             PsiClass[] classes = packageRoot.getClasses(scope);
-            for (int i = 0; i < classes.length; i++) {
+            int i = 0;
+            for (; i < classes.length && javaTypes.size() < maxResults; i++) {
+                monitor.checkCanceled();
                 collectClass(classes[i], javaTypes);
             }
+            if (i < classes.length) {
+                incomplete = true;
+            }
         } else {
             // Search classes by the name (without the package name)
             PrefixMatcher matcher = new CamelHumpMatcher(typeName, true);
             matcher = new BetterPrefixMatcher(matcher, Integer.MIN_VALUE);
 
-            final List<String> existing = new ArrayList<>();
+            // Keep the best matches in a bounded heap where the worst match is at the head
+            int limit = maxResults - javaTypes.size();
+            PriorityQueue<RankedClass> bestMatches = new PriorityQueue<>(RANK_COMPARATOR.reversed());
+            final Set<String> existing = new HashSet<>();
+            ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(javaProject.getProject());
+            PrefixMatcher classMatcher = matcher;
             AllClassesGetter.processJavaClasses(matcher, javaProject.getProject(), scope,
                     psiClass -> {
+                        monitor.checkCanceled();
                         String qName = psiClass.getQualifiedName();
                         if (qName != null && existing.add(qName)) {
-                            collectClass(psiClass, javaTypes);
+                            String name = StringUtil.notNullize(psiClass.getName());
+                            RankedClass rankedClass = new RankedClass(psiClass, name, qName,
+                                    classMatcher.matchingDegree(name), getProximity(psiClass, fileIndex));
+                            if (bestMatches.size() < limit) {
+                                bestMatches.add(rankedClass);
+                            } else {
+                                incomplete = true;
+                                if (RANK_COMPARATOR.compare(rankedClass, bestMatches.peek()) < 0) {
+                                    bestMatches.poll();
+                                    bestMatches.add(rankedClass);
+                                }
+                            }
                         }
                         return true;
                     });
+            // Resolve the signature of the best matches only
+            List<RankedClass> rankedClasses = new ArrayList<>(bestMatches);
+            rankedClasses.sort(RANK_COMPARATOR);
+            for (RankedClass rankedClass : rankedClasses) {
+                monitor.checkCanceled();
+                collectClass(rankedClass.psiClass, javaTypes);
+            }
         }
     }
 
+    private int getProximity(PsiClass psiClass, ProjectFileIndex fileIndex) {
+        VirtualFile file = PsiUtilCore.getVirtualFile(psiClass);
+        if (file == null || !fileIndex.isInSourceContent(file)) {
+            return LIBRARY_PROXIMITY;
+        }
+        return javaProject.equals(fileIndex.getModuleForFile(file)) ? MODULE_PROXIMITY : PROJECT_PROXIMITY;
+    }
+
     private static void collectClass(PsiClass type, List<JavaTypeInfo> javaTypes) {
         String typeSignature = AbstractTypeResolver.resolveJavaTypeSignature(type);
         if (typeSignature != null) {
@@ -146,5 +249,36 @@ public class JavaTypesSearch {
         }
     }
 
+    /**
+     * Best matches first: the highest CamelHump matching degree, then the closest class to the module, then the
+     * shortest simple class name, then the qualified class name (shortest first, then alphabetically).
+     */
+    private static final Comparator<RankedClass> RANK_COMPARATOR = Comparator
+            .comparingInt((RankedClass rankedClass) -> rankedClass.matchingDegree).reversed()
+            .thenComparing(Comparator.comparingInt((RankedClass rankedClass) -> rankedClass.proximity).reversed())
+            .thenComparingInt(rankedClass -> rankedClass.name.length())
+            .thenComparingInt(rankedClass -> rankedClass.qualifiedName.length())
+            .thenComparing(rankedClass -> rankedClass.qualifiedName);
+
+    private static class RankedClass {
+
+        private final PsiClass psiClass;
+
+        private final String name;
+
+        private final String qualifiedName;
+
+        private final int matchingDegree;
+
+        private final int proximity;
+
+        private RankedClass(PsiClass psiClass, String name, String qualifiedName, int matchingDegree, int proximity) {
+            this.psiClass = psiClass;
+            this.name = name;
+            this.qualifiedName = qualifiedName;
+            this.matchingDegree = matchingDegree;
+            this.proximity = proximity;
+        }
+    }
 
 }
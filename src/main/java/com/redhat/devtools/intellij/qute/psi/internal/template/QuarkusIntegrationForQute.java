@@ -27,6 +27,7 @@ import com.redhat.qute.commons.datamodel.DataModelTemplate;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -56,6 +57,8 @@ public class QuarkusIntegrationForQute {
     private static final String APPLICATION_PROPERTIES_ENTRY = "application.properties";
     private static final String DOT_QUTE_ENTRY = ".qute";
     private static final String ALT_EXPR_PROPERTY = "alt-expr-syntax";
+    // Content of bigger templates is not sent to the Qute language server
+    private static final long MAX_TEMPLATE_SIZE = 1024 * 1024;
     private static final Logger LOGGER = Logger.getLogger(QuarkusIntegrationForQute.class.getName());
 
     public static DataModelProject<DataModelTemplate<DataModelParameter>> getDataModelProject(Module javaProject,
@@ -68,7 +71,7 @@ public class QuarkusIntegrationForQute {
     /**
      * Collect binary templates from all JAR dependencies of the given module.
      * Templates are read from the {@code templates/} entry and its sub-folders
-     * inside each JAR.
+     * inside each JAR. The templates of a JAR are collected once and cached, see {@link BinaryTemplatesCache}.
      *
      * @param javaProject the IntelliJ module.
      * @param monitor     the progress indicator.
@@ -83,8 +86,12 @@ public class QuarkusIntegrationForQute {
                 .classes()
                 .getRoots();
 
+        BinaryTemplatesCache cache = BinaryTemplatesCache.getInstance(javaProject.getProject());
         for (VirtualFile root : roots) {
-            BinaryTemplateInfo info = collectBinaryTemplates(root);
+            if (monitor != null) {
+                monitor.checkCanceled();
+            }
+            BinaryTemplateInfo info = cache.getBinaryTemplates(root, QuarkusIntegrationForQute::collectBinaryTemplates);
             if (info != null) {
                 binaryTemplates.add(info);
             }
@@ -98,7 +105,7 @@ public class QuarkusIntegrationForQute {
      * @param root the classpath root VirtualFile.
      * @return a {@link BinaryTemplateInfo} if templates were found, {@code null} otherwise.
      */
-    private static BinaryTemplateInfo collectBinaryTemplates(VirtualFile root) {
+    static BinaryTemplateInfo collectBinaryTemplates(VirtualFile root) {
         List<BinaryTemplate> templates = new ArrayList<>();
 
         // Look for the 'templates' directory at the root of the JAR
@@ -147,7 +154,7 @@ public class QuarkusIntegrationForQute {
                     String fileName = child.getName();
                     String path = currentPath.isEmpty() ? fileName : currentPath + "/" + fileName;
                     String uri = toUri(child);
-                    String content = convertStreamToString(child.getInputStream());
+                    String content = loadContent(child);
 
                     BinaryTemplate template = new BinaryTemplate();
                     template.setPath(path);
@@ -206,17 +213,20 @@ public class QuarkusIntegrationForQute {
     }
 
     /**
-     * Convert the given {@link InputStream} into a String. The source InputStream
-     * will then be closed.
+     * Returns the content of the given template file decoded with UTF-8 (the default charset of Qute templates)
+     * and an empty content if the template is too big.
      *
-     * @param is the input stream
-     * @return the given input stream in a String.
+     * @param templateFile the template file.
+     * @return the content of the given template file.
+     * @throws IOException if the template file cannot be read.
      */
-    private static String convertStreamToString(InputStream is) {
-        try (Scanner s = new Scanner(is)) {
-            s.useDelimiter("\\A");
-            return s.hasNext() ? s.next() : "";
+    private static String loadContent(VirtualFile templateFile) throws IOException {
+        if (templateFile.getLength() > MAX_TEMPLATE_SIZE) {
+            LOGGER.log(Level.INFO, "Ignore content of the binary template '" + templateFile.getPath() + "' which exceeds "
+                    + MAX_TEMPLATE_SIZE + " bytes");
+            return "";
         }
+        return new String(templateFile.contentsToByteArray(), StandardCharsets.UTF_8);
     }
 
     // see
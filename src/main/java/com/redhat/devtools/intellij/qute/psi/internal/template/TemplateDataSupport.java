@@ -1,5 +1,7 @@
 package com.redhat.devtools.intellij.qute.psi.internal.template;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -9,11 +11,16 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpression;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiNewExpression;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.LocalSearchScope;
 import com.intellij.psi.search.SearchScope;
@@ -23,6 +30,7 @@ import com.intellij.psi.util.PsiUtil;
 import com.intellij.util.Processor;
 import com.intellij.util.Query;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.qute.psi.template.datamodel.SearchContext;
 import com.redhat.qute.commons.datamodel.DataModelBaseTemplate;
 import org.eclipse.lsp4j.Location;
 
@@ -38,6 +46,8 @@ public class TemplateDataSupport {
 
     private static final Logger LOGGER = Logger.getLogger(TemplateDataSupport.class.getName());
 
+    private static final String DATA_METHOD = "data";
+
     /**
      * Search all method invocation of template#data(name, value) to collect data
      * model parameters for the given template.
@@ -46,12 +56,15 @@ public class TemplateDataSupport {
      *                      which returns TemplateInstance.
      * @param template      the data model template to update with collect of data
      *                      model parameters.
+     * @param context       the search context which records the Java files of the
+     *                      method invocations.
      * @param monitor       the progress monitor.
      */
     public static void collectParametersFromDataMethodInvocation(PsiMember fieldOrMethod,
-                                                                 DataModelBaseTemplate<DataModelParameter> template, ProgressIndicator monitor) {
+                                                                 DataModelBaseTemplate<DataModelParameter> template,
+                                                                 SearchContext context, ProgressIndicator monitor) {
         try {
-            search(fieldOrMethod, new TemplateDataCollector(template, monitor), monitor);
+            search(fieldOrMethod, new TemplateDataCollector(template, monitor), context, monitor);
         } catch (ProcessCanceledException e) {
             //Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
             //TODO delete block when minimum required version is 2024.2
@@ -65,7 +78,7 @@ public class TemplateDataSupport {
         }
     }
 
-    private static void search(PsiMember fieldOrMethod, TemplateDataVisitor visitor, ProgressIndicator monitor) {
+    private static void search(PsiMember fieldOrMethod, TemplateDataVisitor visitor, SearchContext context, ProgressIndicator monitor) {
         boolean searchInJavaProject = isSearchInJavaProject(fieldOrMethod);
         SearchScope searchScope = GlobalSearchScope.projectScope(fieldOrMethod.getProject());
         if (!searchInJavaProject) {
@@ -81,6 +94,13 @@ public class TemplateDataSupport {
             if (methodCall != null) {
                 PsiMethod method = PsiTreeUtil.getParentOfType(methodCall, PsiMethod.class);
                 if (method != null) {
+                    if (context != null) {
+                        // The data model of the template depends on the Java file of the method invocation
+                        PsiFile file = method.getContainingFile();
+                        if (file != null && file.getVirtualFile() != null) {
+                            context.addDataMethodInvocationSource(file.getVirtualFile().getUrl());
+                        }
+                    }
                     visitor.setMethod(method);
                     methodCall.accept(visitor);
                 }
@@ -89,6 +109,46 @@ public class TemplateDataSupport {
         });
     }
 
+    /**
+     * Returns the Java files which declare the template (field, method or record)
+     * of the method invocations of template#data(name, value) of the given Java
+     * file.
+     *
+     * @param file the Java file.
+     * @return the Java files which declare the template of the method invocations
+     * of template#data(name, value) of the given Java file.
+     */
+    public static Set<PsiFile> getDataMethodInvocationTargets(PsiFile file) {
+        Set<PsiFile> targets = new LinkedHashSet<>();
+        for (PsiMethodCallExpression methodCall : PsiTreeUtil.findChildrenOfType(file, PsiMethodCallExpression.class)) {
+            if (!isDataMethodInvocation(methodCall)) {
+                continue;
+            }
+            // Ex : Templates.hello().data("foo", foo).data("bar", bar), hello.data("foo", foo) or new Hello().data("foo", foo)
+            PsiExpression qualifier = methodCall.getMethodExpression().getQualifierExpression();
+            while (qualifier instanceof PsiMethodCallExpression qualifierCall && isDataMethodInvocation(qualifierCall)) {
+                qualifier = qualifierCall.getMethodExpression().getQualifierExpression();
+            }
+            PsiElement template = null;
+            if (qualifier instanceof PsiMethodCallExpression qualifierCall) {
+                template = qualifierCall.resolveMethod();
+            } else if (qualifier instanceof PsiReferenceExpression reference) {
+                template = reference.resolve();
+            } else if (qualifier instanceof PsiNewExpression newExpression && newExpression.getClassReference() != null) {
+                template = newExpression.getClassReference().resolve();
+            }
+            PsiFile targetFile = template != null ? template.getContainingFile() : null;
+            if (targetFile != null && !file.equals(targetFile)) {
+                targets.add(targetFile);
+            }
+        }
+        return targets;
+    }
+
+    private static boolean isDataMethodInvocation(PsiMethodCallExpression methodCall) {
+        return DATA_METHOD.equals(methodCall.getMethodExpression().getReferenceName());
+    }
+
     /**
      * Returns true if the search of method invocation of template#data(name, value)
      * must be done in Java project or inside the compilation unit of the
@@ -110,7 +170,7 @@ public class TemplateDataSupport {
                                                            ProgressIndicator monitor) {
         try {
             TemplateDataLocation dataLocation = new TemplateDataLocation(parameterName, utils);
-            search(fieldOrMethod, dataLocation, monitor);
+            search(fieldOrMethod, dataLocation, null, monitor);
             return dataLocation.getLocation();
         } catch (ProcessCanceledException e) {
             //Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
@@ -85,7 +85,7 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
             String basePath = getBasePath(checkedTemplateAnnotation);
             TemplateNameStrategy templateNameStrategy = getDefaultName(checkedTemplateAnnotation);
             collectDataModelTemplateForCheckedTemplate(type, context.getRelativeTemplateBaseDir(), basePath, ignoreFragments, templateNameStrategy, context.getTypeResolver(type),
-                    context.getDataModelProject().getTemplates(), monitor);
+                    context, monitor);
         }
     }
 
@@ -226,8 +226,9 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
                                                                    boolean ignoreFragments,
                                                                    TemplateNameStrategy templateNameStrategy,
                                                                    ITypeResolver typeResolver,
-                                                                   List<DataModelTemplate<DataModelParameter>> templates,
+                                                                   SearchContext context,
                                                                    @NotNull ProgressIndicator monitor) {
+        List<DataModelTemplate<DataModelParameter>> templates = context.getDataModelProject().getTemplates();
         String className = getParentClassName(type);
 
         // Loop for each method (book, book) and create a template data model per
@@ -263,10 +264,10 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
                     DataModelFragment<DataModelParameter> fragment = createFragmentDataModel(fragmentId, method, type);
                     template.addFragment(fragment);
                     // collect parameters for the fragment
-                    collectParameters(method, typeResolver, fragment, monitor);
+                    collectParameters(method, typeResolver, fragment, context, monitor);
                 } else {
                     // collect parameters for the template
-                    collectParameters(method, typeResolver, template, monitor);
+                    collectParameters(method, typeResolver, template, context, monitor);
                 }
             }
         }
@@ -310,7 +311,8 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
     }
 
     public static void collectParameters(PsiMethod method, ITypeResolver typeResolver,
-                                         DataModelBaseTemplate<DataModelParameter> templateOrFragment, @NotNull ProgressIndicator monitor) {
+                                         DataModelBaseTemplate<DataModelParameter> templateOrFragment,
+                                         SearchContext context, @NotNull ProgressIndicator monitor) {
         try {
             PsiParameterList parameters = method.getParameterList();
             if (!parameters.isEmpty()) {
@@ -337,7 +339,7 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
                     "Error while getting method template parameter of '" + method.getName() + "'.", e);
         }
         // Collect data parameters for the given template
-        TemplateDataSupport.collectParametersFromDataMethodInvocation(method, templateOrFragment, monitor);
+        TemplateDataSupport.collectParametersFromDataMethodInvocation(method, templateOrFragment, context, monitor);
     }
 
     private static DataModelParameter createParameterDataModel(PsiParameter methodParameter, boolean varags,
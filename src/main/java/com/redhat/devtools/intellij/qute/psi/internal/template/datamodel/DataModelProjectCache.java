@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template.datamodel;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import com.redhat.qute.commons.QuteProjectScope;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project cache of the Qute data model contributions collected by the {@link DataModelProviderRegistry}.
+ *
+ * <p>
+ * The data model of a module is stored as contributions:
+ * <ul>
+ * <li>the contributions of the Java search matches which belong to the JAR dependencies, collected once and reused
+ * until the libraries of the project change.</li>
+ * <li>the contributions of the Java search matches of each Java source file. When a Java source file changes, only
+ * the matches of this file are collected again.</li>
+ * <li>the contributions of the begin / end of the search (ex : namespace resolvers), collected again when a Java
+ * source file changes.</li>
+ * </ul>
+ * </p>
+ */
+public final class DataModelProjectCache implements ClasspathResourceChangedManager.Listener {
+
+    public static DataModelProjectCache getInstance(@NotNull Project project) {
+        return project.getService(DataModelProjectCache.class);
+    }
+
+    /**
+     * Data model contributions of a module for given scopes.
+     */
+    static class ModuleDataModel {
+
+        private DataModelProject<DataModelTemplate<DataModelParameter>> searchContributions;
+
+        private DataModelProject<DataModelTemplate<DataModelParameter>> binaryContributions;
+
+        private Map<String /* Java file URL */, DataModelProject<DataModelTemplate<DataModelParameter>>> sourceContributions = new LinkedHashMap<>();
+
+        private final Set<String> changedSources = ConcurrentHashMap.newKeySet();
+
+        private Set<String> lastCollectedSources = Collections.emptySet();
+
+        private final Map<String /* Java file URL */, Set<String> /* Java file URLs of the template#data(name, value) invocations */> dataMethodInvocationSources = new HashMap<>();
+
+        /**
+         * Returns true if the data model has never been collected (or if the libraries have changed) and false otherwise.
+         *
+         * @return true if the data model has never been collected and false otherwise.
+         */
+        boolean isEmpty() {
+            return binaryContributions == null;
+        }
+
+        /**
+         * Returns the URLs of the Java source files which have changed since the last collect and clear them.
+         *
+         * @return the URLs of the Java source files which have changed since the last collect.
+         */
+        Set<String> pollChangedSources() {
+            Set<String> changed = new LinkedHashSet<>(changedSources);
+            changedSources.removeAll(changed);
+            return changed;
+        }
+
+        /**
+         * Mark the given Java source files as changed (ex : when the collect has been canceled).
+         *
+         * @param urls the URLs of the Java source files.
+         */
+        void addChangedSources(Collection<String> urls) {
+            changedSources.addAll(urls);
+        }
+
+        Map<String, DataModelProject<DataModelTemplate<DataModelParameter>>> getSourceContributions() {
+            return sourceContributions;
+        }
+
+        /**
+         * Returns the URLs of the Java source files whose contributions use a method invocation
+         * of template#data(name, value) declared in one of the given Java source files.
+         *
+         * @param urls the URLs of the Java source files.
+         * @return the URLs of the Java source files whose contributions depend on the given Java source files.
+         */
+        Set<String> getDataMethodInvocationDependents(Collection<String> urls) {
+            Set<String> dependents = new LinkedHashSet<>();
+            for (Map.Entry<String, Set<String>> entry : dataMethodInvocationSources.entrySet()) {
+                if (!Collections.disjoint(entry.getValue(), urls)) {
+                    dependents.add(entry.getKey());
+                }
+            }
+            return dependents;
+        }
+
+        /**
+         * Update the contributions with the result of a collect.
+         *
+         * @param searchContributions the contributions of the begin / end of the search.
+         * @param binaryContributions the contributions of the JAR dependencies and null if they have not been collected again.
+         * @param sourceContributions the contributions of the Java source files.
+         * @param collectedSources    the URLs of the Java source files whose contributions have been collected with
+         *                            the URLs of the Java source files of their template#data(name, value) invocations.
+         */
+        void update(@NotNull DataModelProject<DataModelTemplate<DataModelParameter>> searchContributions,
+                    DataModelProject<DataModelTemplate<DataModelParameter>> binaryContributions,
+                    @NotNull Map<String, DataModelProject<DataModelTemplate<DataModelParameter>>> sourceContributions,
+                    @NotNull Map<String, Set<String>> collectedSources) {
+            this.searchContributions = searchContributions;
+            if (binaryContributions != null) {
+                this.binaryContributions = binaryContributions;
+            }
+            this.sourceContributions = sourceContributions;
+            this.lastCollectedSources = new LinkedHashSet<>(collectedSources.keySet());
+            // Keep the dependencies of the contributions which have not been collected again
+            dataMethodInvocationSources.keySet().retainAll(sourceContributions.keySet());
+            collectedSources.forEach((url, sources) -> {
+                if (sources.isEmpty()) {
+                    dataMethodInvocationSources.remove(url);
+                } else {
+                    dataMethodInvocationSources.put(url, new LinkedHashSet<>(sources));
+                }
+            });
+        }
+
+        /**
+         * Returns the data model project which merges all the contributions.
+         *
+         * @return the data model project which merges all the contributions.
+         */
+        DataModelProject<DataModelTemplate<DataModelParameter>> toDataModelProject() {
+            List<DataModelTemplate<DataModelParameter>> templates = new ArrayList<>();
+            Set<ValueResolverInfo> valueResolvers = new LinkedHashSet<>();
+            DataModelProject<DataModelTemplate<DataModelParameter>> project = createDataModelProject();
+            merge(searchContributions, templates, valueResolvers, project);
+            merge(binaryContributions, templates, valueResolvers, project);
+            for (DataModelProject<DataModelTemplate<DataModelParameter>> contributions : sourceContributions.values()) {
+                merge(contributions, templates, valueResolvers, project);
+            }
+            project.setTemplates(templates);
+            project.setValueResolvers(new ArrayList<>(valueResolvers));
+            return project;
+        }
+
+        private static void merge(DataModelProject<DataModelTemplate<DataModelParameter>> contributions,
+                                  List<DataModelTemplate<DataModelParameter>> templates,
+                                  Set<ValueResolverInfo> valueResolvers,
+                                  DataModelProject<DataModelTemplate<DataModelParameter>> project) {
+            if (contributions == null) {
+                return;
+            }
+            templates.addAll(contributions.getTemplates());
+            valueResolvers.addAll(contributions.getValueResolvers());
+            project.getNamespaceResolverInfos().putAll(contributions.getNamespaceResolverInfos());
+        }
+    }
+
+    private final Map<String, ModuleDataModel> dataModels = new ConcurrentHashMap<>();
+
+    private DataModelProjectCache(Project project) {
+        project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+                .subscribe(ClasspathResourceChangedManager.TOPIC, this);
+    }
+
+    /**
+     * Returns the data model contributions of the given module for the given scopes.
+     *
+     * @param javaProject the module.
+     * @param scopes      the scopes used to scan Java classes.
+     * @return the data model contributions of the given module for the given scopes.
+     */
+    @NotNull
+    ModuleDataModel getModuleDataModel(@NotNull Module javaProject, @NotNull List<QuteProjectScope> scopes) {
+        return dataModels.computeIfAbsent(javaProject.getName() + scopes, k -> new ModuleDataModel());
+    }
+
+    /**
+     * Returns the URLs of the Java source files whose data model contributions have been collected by the last collect
+     * of the given module for the given scopes.
+     *
+     * @param javaProject the module.
+     * @param scopes      the scopes used to scan Java classes.
+     * @return the URLs of the Java source files collected by the last collect.
+     */
+    @TestOnly
+    public @NotNull Set<String> getLastCollectedSources(@NotNull Module javaProject, @NotNull List<QuteProjectScope> scopes) {
+        ModuleDataModel dataModel = getModuleDataModel(javaProject, scopes);
+        synchronized (dataModel) {
+            return dataModel.lastCollectedSources;
+        }
+    }
+
+    /**
+     * Returns a new empty data model project.
+     *
+     * @return a new empty data model project.
+     */
+    static DataModelProject<DataModelTemplate<DataModelParameter>> createDataModelProject() {
+        DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+        project.setTemplates(new ArrayList<>());
+        project.setNamespaceResolverInfos(new HashMap<>());
+        project.setValueResolvers(new ArrayList<>());
+        return project;
+    }
+
+    @Override
+    public void librariesChanged() {
+        // The JAR dependencies (or the modules) have changed, the data model must be collected again
+        dataModels.clear();
+    }
+
+    @Override
+    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+        // A Java file of a module can contribute to the data model of the modules which depend on it
+        for (ModuleDataModel dataModel : dataModels.values()) {
+            for (Pair<VirtualFile, Module> source : sources) {
+                dataModel.changedSources.add(source.getFirst().getUrl());
+            }
+        }
+    }
+}
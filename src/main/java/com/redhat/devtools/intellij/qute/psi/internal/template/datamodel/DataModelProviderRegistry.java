@@ -18,6 +18,13 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.util.KeyedLazyInstanceEP;
@@ -26,6 +33,7 @@ import com.intellij.util.Query;
 import com.intellij.util.xmlb.annotations.Attribute;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.qute.psi.internal.AbstractQuteExtensionPointRegistry;
+import com.redhat.devtools.intellij.qute.psi.internal.template.TemplateDataSupport;
 import com.redhat.devtools.intellij.qute.psi.template.datamodel.IDataModelProvider;
 import com.redhat.devtools.intellij.qute.psi.template.datamodel.SearchContext;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils;
@@ -38,10 +46,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -99,6 +110,11 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
     /**
      * Returns the data model project for the given java project.
      *
+     * <p>
+     * The data model contributions are cached per Java file (see {@link DataModelProjectCache}): when some Java source
+     * files have changed, only the Java search matches of those files are collected again.
+     * </p>
+     *
      * @param javaProject the java project.
      * @param scopes      the scopes used to scan Java classes.
      * @param monitor     the progress monitor.
@@ -108,20 +124,30 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
                                                                                        List<QuteProjectScope> scopes,
                                                                                        IPsiUtils utils,
                                                                                        @NotNull ProgressIndicator monitor) {
-        DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<DataModelTemplate<DataModelParameter>>();
-        project.setTemplates(new ArrayList<>());
-        project.setNamespaceResolverInfos(new HashMap<>());
-        project.setValueResolvers(new ArrayList<>());
-        collectDataModel(project, javaProject, scopes, utils, monitor);
-        return project;
+        DataModelProjectCache.ModuleDataModel dataModel = DataModelProjectCache.getInstance(javaProject.getProject())
+                .getModuleDataModel(javaProject, scopes);
+        synchronized (dataModel) {
+            boolean fullScan = dataModel.isEmpty();
+            Set<String> changedSources = dataModel.pollChangedSources();
+            if (fullScan || !changedSources.isEmpty()) {
+                try {
+                    collectDataModel(dataModel, fullScan ? null : changedSources, javaProject, scopes, utils, monitor);
+                } catch (RuntimeException e) {
+                    // ex : ProcessCanceledException, the changed Java files will be collected at the next request
+                    dataModel.addChangedSources(changedSources);
+                    throw e;
+                }
+            }
+            return dataModel.toDataModelProject();
+        }
     }
 
-    private void collectDataModel(DataModelProject<DataModelTemplate<DataModelParameter>> project,
+    private void collectDataModel(DataModelProjectCache.ModuleDataModel dataModel, @Nullable Set<String> changedSources,
                                   Module javaProject, List<QuteProjectScope> scopes, IPsiUtils utils, @NotNull ProgressIndicator monitor) {
         long startTime = System.currentTimeMillis();
         if (LOGGER.isLoggable(Level.INFO)) {
             LOGGER.info("Start collecting Qute data model for '" + PsiQuteProjectUtils.getProjectURI(javaProject)
-                    + "' project.");
+                    + "' project" + (changedSources != null ? " for " + changedSources.size() + " changed Java files." : "."));
         }
 
         String text = monitor.getText();
@@ -135,7 +161,7 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
             boolean excludeTestCode = true;
 
             // scan Java classes from the search classpath
-            scanJavaClasses(javaProject, excludeTestCode, scopes, project, utils, mainMonitor);
+            scanJavaClasses(javaProject, excludeTestCode, scopes, dataModel, changedSources, utils, mainMonitor);
             if (mainMonitor.isCanceled()) {
                 throw new ProcessCanceledException();
             }
@@ -148,9 +174,14 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
         }
     }
 
+    /**
+     * Scan the Java classes and collect the data model of the Java search matches in the contributions of their Java file.
+     *
+     * @param changedSources the URLs of the changed Java source files and null if all the Java search matches must be collected.
+     */
     private void scanJavaClasses(Module javaProject, boolean excludeTestCode, List<QuteProjectScope> scopes,
-                                 DataModelProject<DataModelTemplate<DataModelParameter>> project, IPsiUtils utils,
-                                 @NotNull ProgressIndicator mainMonitor) {
+                                 DataModelProjectCache.ModuleDataModel dataModel, @Nullable Set<String> changedSources,
+                                 IPsiUtils utils, @NotNull ProgressIndicator mainMonitor) {
         // Create JDT Java search pattern, engine and scope
         String text = mainMonitor.getText();
         mainMonitor.setText("Scanning Java classes");
@@ -158,7 +189,33 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
         try {
             //subMonitor.split(5); // give feedback to the user that something is happening
 
-            SearchContext context = new SearchContext(javaProject, project, utils, scopes);
+            boolean fullScan = changedSources == null;
+            ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(javaProject.getProject());
+            GlobalSearchScope searchScope = javaProject.getModuleWithDependenciesAndLibrariesScope(false);
+            Map<String, DataModelProject<DataModelTemplate<DataModelParameter>>> sourceContributions = new LinkedHashMap<>();
+            if (!fullScan) {
+                // The templates whose template#data(name, value) invocations are in a changed Java file must be collected again
+                changedSources = getDataMethodInvocationDependents(javaProject, dataModel, changedSources, fileIndex);
+                sourceContributions.putAll(dataModel.getSourceContributions());
+                sourceContributions.keySet().removeAll(changedSources);
+                // Java files which have been deleted, renamed
+                sourceContributions.keySet().removeIf(url -> {
+                    VirtualFile file = VirtualFileManager.getInstance().findFileByUrl(url);
+                    return file == null || !file.isValid();
+                });
+                // Search only in the Java source files which have changed
+                List<VirtualFile> changedFiles = changedSources.stream()
+                        .map(url -> VirtualFileManager.getInstance().findFileByUrl(url))
+                        .filter(file -> file != null && file.isValid())
+                        .collect(Collectors.toList());
+                searchScope = searchScope.intersectWith(GlobalSearchScope.filesScope(javaProject.getProject(), changedFiles));
+            }
+            SearchContext context = new SearchContext(javaProject, DataModelProjectCache.createDataModelProject(), utils, scopes, searchScope);
+            // The JAR dependencies are collected only once
+            SearchContext binaryContext = fullScan ? new SearchContext(context, DataModelProjectCache.createDataModelProject()) : null;
+            Map<String, SearchContext> sourceContexts = new HashMap<>();
+
+            Set<String> collectedSources = changedSources;
             Query<?> pattern = createSearchPattern(context, subMonitor);
             if (pattern != null) {
                 SearchScope scope = createSearchScope(javaProject, scopes, excludeTestCode, subMonitor);
@@ -167,17 +224,87 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
                     beginSearch(context, subMonitor);
                     pattern.forEach((Consumer<Object>) psiMember -> {
                         mainMonitor.checkCanceled();
-                        collectDataModel(psiMember, context, mainMonitor);
+                        VirtualFile file = getVirtualFile(psiMember);
+                        SearchContext matchContext;
+                        if (file == null || fileIndex.isInLibrary(file)) {
+                            // The match cannot be associated to a Java source file, it can be found only by a full scan
+                            if (binaryContext == null) {
+                                // The data model of the JAR dependencies is already collected
+                                return;
+                            }
+                            matchContext = binaryContext;
+                        } else {
+                            String url = file.getUrl();
+                            if (!fullScan && !collectedSources.contains(url)) {
+                                // The Java file has not changed, its data model is already collected
+                                return;
+                            }
+                            matchContext = sourceContexts.computeIfAbsent(url, k -> {
+                                DataModelProject<DataModelTemplate<DataModelParameter>> contributions = DataModelProjectCache.createDataModelProject();
+                                sourceContributions.put(k, contributions);
+                                return new SearchContext(context, contributions);
+                            });
+                        }
+                        collectDataModel(psiMember, matchContext, mainMonitor);
                     });
                 } finally {
                     endSearch(context, subMonitor);
                 }
             }
+            Map<String, Set<String>> collectedDependencies = new HashMap<>();
+            sourceContexts.forEach((url, sourceContext) -> collectedDependencies.put(url, sourceContext.getDataMethodInvocationSources()));
+            if (!fullScan) {
+                // The Java files which don't contribute anymore have no dependencies
+                changedSources.forEach(url -> collectedDependencies.putIfAbsent(url, Set.of()));
+            }
+            dataModel.update(context.getDataModelProject(),
+                    binaryContext != null ? binaryContext.getDataModelProject() : null,
+                    sourceContributions, collectedDependencies);
         } finally {
             mainMonitor.setText(text);
         }
     }
 
+    /**
+     * Returns the given changed Java source files with the Java source files whose data model depends on them:
+     *
+     * <ul>
+     *     <li>the Java files whose templates had template#data(name, value) invocations in a changed Java file.</li>
+     *     <li>the Java files which declare the templates of the template#data(name, value) invocations of a changed Java file.</li>
+     * </ul>
+     */
+    private static Set<String> getDataMethodInvocationDependents(Module javaProject, DataModelProjectCache.ModuleDataModel dataModel,
+                                                                 Set<String> changedSources, ProjectFileIndex fileIndex) {
+        Set<String> sources = new LinkedHashSet<>(changedSources);
+        sources.addAll(dataModel.getDataMethodInvocationDependents(changedSources));
+        PsiManager psiManager = PsiManager.getInstance(javaProject.getProject());
+        for (String url : changedSources) {
+            VirtualFile file = VirtualFileManager.getInstance().findFileByUrl(url);
+            PsiFile psiFile = file != null && file.isValid() ? psiManager.findFile(file) : null;
+            if (psiFile == null) {
+                continue;
+            }
+            for (PsiFile target : TemplateDataSupport.getDataMethodInvocationTargets(psiFile)) {
+                VirtualFile targetFile = target.getVirtualFile();
+                if (targetFile != null && fileIndex.isInSourceContent(targetFile)) {
+                    sources.add(targetFile.getUrl());
+                }
+            }
+        }
+        return sources;
+    }
+
+    private static @Nullable VirtualFile getVirtualFile(Object match) {
+        PsiElement element = null;
+        if (match instanceof PsiReference reference) {
+            element = reference.getElement();
+        } else if (match instanceof PsiElement psiElement) {
+            element = psiElement;
+        }
+        PsiFile file = element != null ? element.getContainingFile() : null;
+        return file != null ? file.getVirtualFile() : null;
+    }
+
     private void beginSearch(SearchContext context, @NotNull ProgressIndicator monitor) {
         for (IDataModelProvider provider : getProviders()) {
             monitor.checkCanceled();
@@ -17,7 +17,6 @@ import static com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils.ge
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
@@ -81,8 +80,7 @@ public class TemplateFieldSupport extends AbstractFieldDeclarationTypeReferenceD
         AnnotationLocationSupport annotationLocationSupport = getAnnotationLocationSupport(compilationUnit, context);
         PsiLiteralValue location = annotationLocationSupport
                 .getLocationExpressionFromConstructorParameter(field.getName());
-        collectDataModelTemplateForTemplateField(field, context.getDataModelProject().getTemplates(),
-                context.getRelativeTemplateBaseDir(),
+        collectDataModelTemplateForTemplateField(field, context,
                 location != null ? (String) location.getValue() : null, monitor);
     }
 
@@ -107,16 +105,16 @@ public class TemplateFieldSupport extends AbstractFieldDeclarationTypeReferenceD
     }
 
     private static void collectDataModelTemplateForTemplateField(PsiField field,
-                                                                 List<DataModelTemplate<DataModelParameter>> templates,
-                                                                 String relativeTemplateBaseDir,
+                                                                 SearchContext context,
                                                                  String location,
                                                                  ProgressIndicator monitor) {
-        DataModelTemplate<DataModelParameter> template = createTemplateDataModel(field, relativeTemplateBaseDir, location, monitor);
-        templates.add(template);
+        DataModelTemplate<DataModelParameter> template = createTemplateDataModel(field, context, location, monitor);
+        context.getDataModelProject().getTemplates().add(template);
     }
 
-    private static DataModelTemplate<DataModelParameter> createTemplateDataModel(PsiField field, String relativeTemplateBaseDir, String locationFromConstructorParameter,
+    private static DataModelTemplate<DataModelParameter> createTemplateDataModel(PsiField field, SearchContext context, String locationFromConstructorParameter,
                                                                                  ProgressIndicator monitor) {
+        String relativeTemplateBaseDir = context.getRelativeTemplateBaseDir();
 
         String location = locationFromConstructorParameter != null ? locationFromConstructorParameter : getLocation(field);
         String fieldName = field.getName();
@@ -133,7 +131,7 @@ public class TemplateFieldSupport extends AbstractFieldDeclarationTypeReferenceD
         template.setSourceType(ClassUtil.getJVMClassName(field.getContainingClass()));
         template.setSourceField(fieldName);
         // Collect data parameters for the given template
-        TemplateDataSupport.collectParametersFromDataMethodInvocation(field, template, monitor);
+        TemplateDataSupport.collectParametersFromDataMethodInvocation(field, template, context, monitor);
         return template;
     }
 
@@ -24,7 +24,6 @@ import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
 
 import java.util.ArrayList;
-import java.util.List;
 
 import static com.redhat.devtools.intellij.qute.psi.internal.QuteJavaConstants.TEMPLATE_INSTANCE_INTERFACE;
 import static com.redhat.devtools.intellij.qute.psi.internal.template.datamodel.CheckedTemplateSupport.*;
@@ -70,20 +69,19 @@ public class TemplateRecordsSupport extends AbstractInterfaceImplementationDataM
         if (!type.isRecord()) {
             return;
         }
-        collectDataModelTemplateForTemplateRecord(type, context.getRelativeTemplateBaseDir(), context.getDataModelProject().getTemplates(),
-                monitor);
+        collectDataModelTemplateForTemplateRecord(type, context, monitor);
     }
 
     private static void collectDataModelTemplateForTemplateRecord(PsiClass type,
-                                                                  String relativeTemplateBaseDir,
-                                                                  List<DataModelTemplate<DataModelParameter>> templates, ProgressIndicator monitor) {
-        DataModelTemplate<DataModelParameter> template = createTemplateDataModel(type, relativeTemplateBaseDir, monitor);
-        templates.add(template);
+                                                                  SearchContext context, ProgressIndicator monitor) {
+        DataModelTemplate<DataModelParameter> template = createTemplateDataModel(type, context, monitor);
+        context.getDataModelProject().getTemplates().add(template);
     }
 
     private static DataModelTemplate<DataModelParameter> createTemplateDataModel(PsiClass recordType,
-                                                                                 String relativeTemplateBaseDir,
+                                                                                 SearchContext context,
                                                                                  ProgressIndicator monitor) {
+        String relativeTemplateBaseDir = context.getRelativeTemplateBaseDir();
 
         PsiAnnotation checkedTemplateAnnotation = getCheckedAnnotation(recordType);
         boolean ignoreFragments = isIgnoreFragments(checkedTemplateAnnotation);
@@ -116,7 +114,7 @@ public class TemplateRecordsSupport extends AbstractInterfaceImplementationDataM
         }
 
         // Collect data parameters for the given template
-        TemplateDataSupport.collectParametersFromDataMethodInvocation(recordType, template, monitor);
+        TemplateDataSupport.collectParametersFromDataMethodInvocation(recordType, template, context, monitor);
         return template;
     }
 
@@ -0,0 +1,178 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiRecordComponent;
+import com.redhat.devtools.intellij.qute.psi.internal.resolver.ITypeResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate.createTypeResolver;
+
+/**
+ * Members (fields, record components, methods) declared by a Java type, indexed by their Qute signature
+ * (ex : <code>name : java.lang.String</code>, <code>getName() : java.lang.String</code>) and by name.
+ *
+ * <p>
+ * The members of a Java type are cached with the resolved Java types, see
+ * {@link ResolvedJavaTypeCache#getMembers(PsiClass, Module)}.
+ * </p>
+ */
+public class JavaTypeMembers {
+
+	private static final Logger LOGGER = Logger.getLogger(JavaTypeMembers.class.getName());
+
+	private final PsiClass type;
+
+	private final Map<String, List<PsiMember>> membersBySignature = new HashMap<>();
+
+	private final Map<String, List<PsiMethod>> methodsByName = new HashMap<>();
+
+	private JavaTypeMembers(PsiClass type) {
+		this.type = type;
+	}
+
+	/**
+	 * Collect the members declared by the given Java type.
+	 *
+	 * @param type        the Java type.
+	 * @param javaProject the module.
+	 * @return the members declared by the given Java type.
+	 */
+	public static JavaTypeMembers create(@NotNull PsiClass type, @NotNull Module javaProject) {
+		JavaTypeMembers members = new JavaTypeMembers(type);
+		ITypeResolver typeResolver = createTypeResolver(type, javaProject);
+
+		// Standard fields
+		for (PsiField field : type.getFields()) {
+			members.addMember(typeResolver.resolveFieldSignature(field), field);
+		}
+
+		// Record fields
+		if (type.isRecord()) {
+			for (PsiRecordComponent field : type.getRecordComponents()) {
+				members.addMember(typeResolver.resolveFieldSignature(field), field);
+			}
+		}
+
+		// Methods
+		for (PsiMethod method : type.getMethods()) {
+			members.methodsByName.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+			if (!method.isConstructor()) {
+				try {
+					members.addMember(typeResolver.resolveMethodSignature(method), method);
+				} catch (ProcessCanceledException e) {
+					//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
+					//TODO delete block when minimum required version is 2024.2
+					throw e;
+				} catch (IndexNotReadyException | CancellationException e) {
+					throw e;
+				} catch (Exception e) {
+					LOGGER.log(Level.SEVERE, "Error while getting method signature of '" + method.getName() + "'.",
+							e);
+				}
+			}
+		}
+		return members;
+	}
+
+	private void addMember(@Nullable String signature, @NotNull PsiMember member) {
+		if (signature != null) {
+			membersBySignature.computeIfAbsent(signature, k -> new ArrayList<>()).add(member);
+		}
+	}
+
+	/**
+	 * Returns the fields, record components and methods of the Java type which have the given signature (in this order).
+	 *
+	 * @param signature the Qute signature of the member.
+	 * @return the fields, record components and methods of the Java type which have the given signature.
+	 */
+	public @NotNull List<PsiMember> findMembersBySignature(@NotNull String signature) {
+		return membersBySignature.getOrDefault(signature, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the methods (overloads) of the Java type with the given name, in declaration order.
+	 *
+	 * @param methodName the method name.
+	 * @return the methods of the Java type with the given name, in declaration order.
+	 */
+	public @NotNull List<PsiMethod> findMethods(@NotNull String methodName) {
+		return methodsByName.getOrDefault(methodName, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the first method of the Java type with the given name and null otherwise.
+	 *
+	 * @param methodName the method name.
+	 * @return the first method of the Java type with the given name and null otherwise.
+	 */
+	public @Nullable PsiMethod findMethod(@NotNull String methodName) {
+		return findMethod(methodName, null);
+	}
+
+	/**
+	 * Returns the first method of the Java type with the given name which declares the given parameter and null
+	 * otherwise. When the parameter name is null or when no overload declares it, the first method with the given
+	 * name is returned.
+	 *
+	 * @param methodName    the method name.
+	 * @param parameterName the parameter name and null otherwise.
+	 * @return the first method of the Java type with the given name which declares the given parameter and null
+	 * otherwise.
+	 */
+	public @Nullable PsiMethod findMethod(@NotNull String methodName, @Nullable String parameterName) {
+		List<PsiMethod> methods = findMethods(methodName);
+		if (methods.isEmpty()) {
+			return null;
+		}
+		if (parameterName != null && methods.size() > 1) {
+			for (PsiMethod method : methods) {
+				for (PsiParameter parameter : method.getParameterList().getParameters()) {
+					if (parameterName.equals(parameter.getName())) {
+						return method;
+					}
+				}
+			}
+		}
+		return methods.get(0);
+	}
+
+	/**
+	 * Returns true if the Java type of the members is still valid and false otherwise.
+	 *
+	 * @return true if the Java type of the members is still valid and false otherwise.
+	 */
+	boolean isValid() {
+		return type.isValid();
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Project cache of the {@link ResolvedJavaTypeInfo} returned by <code>qute/template/resolvedJavaType</code>, stored
+ * per module and keyed by (Java type name, {@link ValueResolverKind}), and of the {@link JavaTypeMembers} used to find
+ * a member of a Java type by its signature (definition, Javadoc).
+ *
+ * <ul>
+ * <li>a resolved binary type is reused until the libraries of the project change.</li>
+ * <li>a resolved source type is reused while the modification stamp of its Java file doesn't change. All the resolved
+ * source types are evicted when Java files are created, deleted or saved.</li>
+ * </ul>
+ */
+public final class ResolvedJavaTypeCache implements ClasspathResourceChangedManager.Listener {
+
+	public static ResolvedJavaTypeCache getInstance(@NotNull Project project) {
+		return project.getService(ResolvedJavaTypeCache.class);
+	}
+
+	private static class CachedJavaType<T> {
+
+		private final @Nullable PsiFile file;
+
+		private final long modificationStamp;
+
+		private final T value;
+
+		private CachedJavaType(@Nullable PsiFile file, long modificationStamp, T value) {
+			this.file = file;
+			this.modificationStamp = modificationStamp;
+			this.value = value;
+		}
+
+		private boolean isBinary() {
+			return file == null;
+		}
+	}
+
+	private final Map<String /* module name */, Map<String, CachedJavaType<ResolvedJavaTypeInfo>>> cache = new ConcurrentHashMap<>();
+
+	private final Map<String /* module name */, Map<String, CachedJavaType<JavaTypeMembers>>> membersCache = new ConcurrentHashMap<>();
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private ResolvedJavaTypeCache(Project project) {
+		project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project))
+				.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+	}
+
+	/**
+	 * Returns the cached resolved Java type of the given type and kind for the
+	 * given module and create it with the given factory otherwise.
+	 *
+	 * @param type        the Java type.
+	 * @param kind        the value resolver kind.
+	 * @param javaProject the module.
+	 * @param factory     the factory used to create the resolved Java type when it
+	 *                    is not cached or when it is not up to date.
+	 * @return the resolved Java type.
+	 */
+	public ResolvedJavaTypeInfo getResolvedJavaType(@NotNull PsiClass type, @Nullable ValueResolverKind kind,
+			@NotNull Module javaProject, @NotNull Supplier<ResolvedJavaTypeInfo> factory) {
+		String typeName = type.getQualifiedName();
+		if (typeName == null) {
+			// Anonymous, local class
+			missCount.incrementAndGet();
+			return factory.get();
+		}
+		PsiFile file = type instanceof PsiCompiledElement ? null : type.getContainingFile();
+		long modificationStamp = file != null ? file.getModificationStamp() : -1;
+
+		Map<String, CachedJavaType<ResolvedJavaTypeInfo>> moduleCache = cache.computeIfAbsent(javaProject.getName(),
+				k -> new ConcurrentHashMap<>());
+		String key = typeName + "#" + kind;
+		CachedJavaType<ResolvedJavaTypeInfo> cached = moduleCache.get(key);
+		if (cached != null && cached.file == file && cached.modificationStamp == modificationStamp) {
+			hitCount.incrementAndGet();
+			return cached.value;
+		}
+		missCount.incrementAndGet();
+		ResolvedJavaTypeInfo resolvedType = factory.get();
+		if (resolvedType != null) {
+			moduleCache.put(key, new CachedJavaType<>(file, modificationStamp, resolvedType));
+		}
+		return resolvedType;
+	}
+
+	/**
+	 * Returns the cached members of the given type for the given module and
+	 * collect them otherwise.
+	 *
+	 * @param type        the Java type.
+	 * @param javaProject the module.
+	 * @return the members of the given type.
+	 */
+	public @NotNull JavaTypeMembers getMembers(@NotNull PsiClass type, @NotNull Module javaProject) {
+		String typeName = type.getQualifiedName();
+		if (typeName == null) {
+			// Anonymous, local class
+			return JavaTypeMembers.create(type, javaProject);
+		}
+		PsiFile file = type instanceof PsiCompiledElement ? null : type.getContainingFile();
+		long modificationStamp = file != null ? file.getModificationStamp() : -1;
+
+		Map<String, CachedJavaType<JavaTypeMembers>> moduleCache = membersCache.computeIfAbsent(javaProject.getName(),
+				k -> new ConcurrentHashMap<>());
+		CachedJavaType<JavaTypeMembers> cached = moduleCache.get(typeName);
+		if (cached != null && cached.file == file && cached.modificationStamp == modificationStamp
+				&& cached.value.isValid()) {
+			return cached.value;
+		}
+		JavaTypeMembers members = JavaTypeMembers.create(type, javaProject);
+		moduleCache.put(typeName, new CachedJavaType<>(file, modificationStamp, members));
+		return members;
+	}
+
+	/**
+	 * Returns the number of resolved Java types which have been returned from the cache.
+	 *
+	 * @return the number of resolved Java types which have been returned from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of resolved Java types which have been created because they were not cached or not up to date.
+	 *
+	 * @return the number of resolved Java types which have been created because they were not cached or not up to date.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public void librariesChanged() {
+		// Some JARs have been removed or updated, the classpath of the modules can have changed
+		cache.clear();
+		membersCache.clear();
+	}
+
+	@Override
+	public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+		// A created or deleted Java file can shadow a cached Java type
+		for (Map<String, CachedJavaType<ResolvedJavaTypeInfo>> moduleCache : cache.values()) {
+			moduleCache.values().removeIf(cached -> !cached.isBinary());
+		}
+		for (Map<String, CachedJavaType<JavaTypeMembers>> moduleCache : membersCache.values()) {
+			moduleCache.values().removeIf(cached -> !cached.isBinary());
+		}
+	}
+}
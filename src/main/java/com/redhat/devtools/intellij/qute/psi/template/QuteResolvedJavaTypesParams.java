@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.template;
+
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+
+import java.util.List;
+
+/**
+ * Parameters of the <code>qute/template/resolvedJavaTypes</code> request, used to resolve several Java types of a
+ * project with one request (ex : the Java types of the expressions of a template which has been opened).
+ */
+public class QuteResolvedJavaTypesParams {
+
+    /** The project name. */
+    private String projectUri;
+
+    /** The Java class names to resolve (e.g., "org.acme.Item", "java.util.List"). */
+    private List<String> classNames;
+
+    /** The value resolver kind used to resolve the Java types. */
+    private ValueResolverKind kind;
+
+    /** True if the super types of the resolved Java types must be resolved too. */
+    private boolean includeSuperTypes;
+
+    public QuteResolvedJavaTypesParams() {
+    }
+
+    public QuteResolvedJavaTypesParams(List<String> classNames, String projectUri) {
+        this.classNames = classNames;
+        this.projectUri = projectUri;
+    }
+
+    /**
+     * Returns the project name.
+     *
+     * @return the project name.
+     */
+    public String getProjectUri() {
+        return projectUri;
+    }
+
+    /**
+     * Sets the project name.
+     *
+     * @param projectUri the project name.
+     */
+    public void setProjectUri(String projectUri) {
+        this.projectUri = projectUri;
+    }
+
+    /**
+     * Returns the Java class names to resolve.
+     *
+     * @return the Java class names to resolve.
+     */
+    public List<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * Sets the Java class names to resolve.
+     *
+     * @param classNames the Java class names to resolve.
+     */
+    public void setClassNames(List<String> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Returns the value resolver kind used to resolve the Java types.
+     *
+     * @return the value resolver kind used to resolve the Java types.
+     */
+    public ValueResolverKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value resolver kind used to resolve the Java types.
+     *
+     * @param kind the value resolver kind.
+     */
+    public void setKind(ValueResolverKind kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Returns true if the super types of the resolved Java types must be resolved too and false otherwise.
+     *
+     * @return true if the super types of the resolved Java types must be resolved too and false otherwise.
+     */
+    public boolean isIncludeSuperTypes() {
+        return includeSuperTypes;
+    }
+
+    /**
+     * Sets true if the super types of the resolved Java types must be resolved too and false otherwise.
+     *
+     * @param includeSuperTypes true if the super types must be resolved too.
+     */
+    public void setIncludeSuperTypes(boolean includeSuperTypes) {
+        this.includeSuperTypes = includeSuperTypes;
+    }
+}
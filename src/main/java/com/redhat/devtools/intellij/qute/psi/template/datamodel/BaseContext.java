@@ -39,6 +39,18 @@ public class BaseContext {
 		cache = new HashMap<>();
 	}
 
+	/**
+	 * Creates a context which shares the java project, the scopes and the cache of
+	 * the given parent context.
+	 *
+	 * @param parent the parent context.
+	 */
+	protected BaseContext(BaseContext parent) {
+		this.javaProject = parent.javaProject;
+		this.scopes = parent.scopes;
+		this.cache = parent.cache;
+	}
+
 	/**
 	 * Associates the specified value with the specified key in the cache.
 	 *
@@ -14,11 +14,14 @@
 package com.redhat.devtools.intellij.qute.psi.template.datamodel;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
@@ -45,15 +48,59 @@ public class SearchContext extends BaseContext {
 
 	private final IPsiUtils utils;
 
+	private final GlobalSearchScope searchScope;
+
+	private final Set<String> dataMethodInvocationSources = new LinkedHashSet<>();
+
 	public SearchContext(Module javaProject,
 						 DataModelProject<DataModelTemplate<DataModelParameter>> dataModelProject, IPsiUtils utils,
 						 List<QuteProjectScope> scopes) {
+		this(javaProject, dataModelProject, utils, scopes, javaProject.getModuleWithDependenciesAndLibrariesScope(false));
+	}
+
+	/**
+	 * Creates a search context which searches the Java elements in the given scope
+	 * (ex : only the Java source files which have changed).
+	 *
+	 * @param javaProject      the java project.
+	 * @param dataModelProject the data model project where the data model must be
+	 *                         collected.
+	 * @param utils            the JDT utilities.
+	 * @param scopes           the Qute project scopes.
+	 * @param searchScope      the scope of the Java search.
+	 */
+	public SearchContext(Module javaProject,
+						 DataModelProject<DataModelTemplate<DataModelParameter>> dataModelProject, IPsiUtils utils,
+						 List<QuteProjectScope> scopes, GlobalSearchScope searchScope) {
 		super(javaProject, scopes);
 		this.dataModelProject = dataModelProject;
 		this.utils = utils;
+		this.searchScope = searchScope;
 		relativeTemplateBaseDir = PsiQuteProjectUtils.getRelativeTemplateBaseDir(javaProject);
 	}
 
+	/**
+	 * Creates a search context which shares the state of the given parent context
+	 * and which collects the data model in the given data model project (ex : the
+	 * data model contributed by one Java file).
+	 *
+	 * @param parent           the parent search context.
+	 * @param dataModelProject the data model project where the data model must be
+	 *                         collected.
+	 */
+	public SearchContext(SearchContext parent,
+						 DataModelProject<DataModelTemplate<DataModelParameter>> dataModelProject) {
+		super(parent);
+		this.dataModelProject = dataModelProject;
+		this.utils = parent.utils;
+		this.searchScope = parent.searchScope;
+		this.relativeTemplateBaseDir = parent.relativeTemplateBaseDir;
+		if (parent.typeResolvers == null) {
+			parent.typeResolvers = new HashMap<>();
+		}
+		this.typeResolvers = parent.typeResolvers;
+	}
+
 	public DataModelProject<DataModelTemplate<DataModelParameter>> getDataModelProject() {
 		return dataModelProject;
 	}
@@ -67,6 +114,15 @@ public class SearchContext extends BaseContext {
 		return utils;
 	}
 
+	/**
+	 * Returns the scope of the Java search.
+	 *
+	 * @return the scope of the Java search.
+	 */
+	public GlobalSearchScope getSearchScope() {
+		return searchScope;
+	}
+
 	/**
 	 * Returns the {@link ITypeResolver} of the given Java type <code>type</code>.
 	 *
@@ -89,4 +145,26 @@ public class SearchContext extends BaseContext {
 	public String getRelativeTemplateBaseDir() {
 		return relativeTemplateBaseDir;
 	}
+
+	/**
+	 * Add the URL of a Java file which calls template#data(name, value) for a
+	 * template collected in this context.
+	 *
+	 * @param url the URL of the Java file.
+	 */
+	public void addDataMethodInvocationSource(String url) {
+		dataMethodInvocationSources.add(url);
+	}
+
+	/**
+	 * Returns the URLs of the Java files which call template#data(name, value) for
+	 * the templates collected in this context (the data model of this context
+	 * depends on these files).
+	 *
+	 * @return the URLs of the Java files which call template#data(name, value) for
+	 *         the templates collected in this context.
+	 */
+	public Set<String> getDataMethodInvocationSources() {
+		return dataMethodInvocationSources;
+	}
 }
@@ -22,9 +22,14 @@ import com.intellij.openapi.roots.ContentEntry;
 import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.roots.SourceFolder;
+import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
 import com.redhat.devtools.intellij.qute.psi.internal.QuteJavaConstants;
 import com.redhat.devtools.intellij.qute.psi.internal.template.rootpath.TemplateRootPathProviderRegistry;
@@ -39,7 +44,6 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jps.model.java.JavaResourceRootType;
 
 import java.net.URI;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -105,7 +109,32 @@ public class PsiQuteProjectUtils {
         return PsiUtils.runCancellableReadAction(() -> JavaLibraryUtil.hasAnyLibraryJar(javaProject, QuteJavaConstants.QUTE_MAVEN_COORDS));
     }
 
+    /**
+     * Returns the Qute project information of the given module.
+     *
+     * <p>
+     * The project information is cached per module and computed again when the module roots, the libraries or
+     * the config sources (application.properties, etc) of the module change.
+     * </p>
+     *
+     * @param javaProject the module, must not be null.
+     * @return the Qute project information of the given module.
+     */
     public static ProjectInfo getProjectInfo(@NotNull Module javaProject) {
+        return getCachedProjectInfo(javaProject).projectInfo;
+    }
+
+    private static @NotNull CachedProjectInfo getCachedProjectInfo(@NotNull Module javaProject) {
+        Project project = javaProject.getProject();
+        return CachedValuesManager.getManager(project).getCachedValue(javaProject, () -> {
+            PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(project)
+                    .getMicroProfileProject(javaProject);
+            return CachedValueProvider.Result.create(new CachedProjectInfo(computeProjectInfo(javaProject)),
+                    ProjectRootManager.getInstance(project), mpProject.getConfigSourcesModificationTracker());
+        });
+    }
+
+    private static ProjectInfo computeProjectInfo(@NotNull Module javaProject) {
         String projectUri = getProjectURI(javaProject);
         // Project dependencies
         Set<Module> projectDependencies = new HashSet<>();
@@ -285,36 +314,68 @@ public class PsiQuteProjectUtils {
                 ModuleRootManager.getInstance(module).getFileIndex().isInSourceContent(file)) {
             return true;
         }
-        ProjectInfo projectInfo = PsiQuteProjectUtils.getProjectInfo(module);
-        if (projectInfo == null) {
-            return false;
-        }
+        return getCachedProjectInfo(module).isIncluded(file);
+    }
+
+    /**
+     * Cached Qute project information with the template root paths indexed by path, to check if a file belongs to
+     * a template root path by looking up its ancestors instead of looping over all template root paths.
+     */
+    private static class CachedProjectInfo {
+
+        private final ProjectInfo projectInfo;
+
+        // System independent paths of the local template root paths (ex : /home/user/app/src/main/resources/templates)
+        private final Set<String> localRootPaths = new HashSet<>();
+
+        // URI paths of the template root paths (ex : WSL)
+        private final Set<String> uriRootPaths = new HashSet<>();
 
-        if (file.isInLocalFileSystem()) {
-            // Local file system
-            Path templatePath = Paths.get(file.getPath());
+        private CachedProjectInfo(ProjectInfo projectInfo) {
+            this.projectInfo = projectInfo;
             for (TemplateRootPath rootPath : projectInfo.getTemplateRootPaths()) {
-                if (rootPath.isIncluded(templatePath)) {
-                    return true;
+                String baseDir = rootPath.getBaseDir();
+                if (baseDir == null) {
+                    continue;
+                }
+                try {
+                    URI rootPathUri = URI.create(baseDir);
+                    uriRootPaths.add(removeTrailingSlash(rootPathUri.getPath()));
+                    if ("file".equals(rootPathUri.getScheme())) {
+                        localRootPaths.add(removeTrailingSlash(FileUtil.toSystemIndependentName(Paths.get(rootPathUri).toString())));
+                    }
+                } catch (Exception e) {
+                    // Invalid base dir, ignore it
                 }
             }
-            return false;
         }
 
-        // Ex: WSL
-        URI templatePath = LSPIJUtils.toUri(file);
-        for (TemplateRootPath rootPath : projectInfo.getTemplateRootPaths()) {
-            URI rootPathUri = URI.create(rootPath.getBaseDir());
-            if (uriIncludes(rootPathUri, templatePath)) {
-                return true;
+        private boolean isIncluded(@NotNull VirtualFile file) {
+            if (file.isInLocalFileSystem()) {
+                // Local file system
+                for (VirtualFile current = file; current != null; current = current.getParent()) {
+                    if (localRootPaths.contains(current.getPath())) {
+                        return true;
+                    }
+                }
+                return false;
             }
-        }
 
-        return false;
-    }
+            // Ex: WSL
+            String path = LSPIJUtils.toUri(file).getPath();
+            while (path != null && !path.isEmpty()) {
+                if (uriRootPaths.contains(path)) {
+                    return true;
+                }
+                int index = path.lastIndexOf('/');
+                path = index != -1 ? path.substring(0, index) : null;
+            }
+            return false;
+        }
 
-    private static boolean uriIncludes(URI parent, URI child) {
-        return child.getPath().startsWith(parent.getPath());
+        private static String removeTrailingSlash(String path) {
+            return path != null && path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        }
     }
 
     public static TemplatePathInfo getTemplatePath(@Nullable String templatesBaseDir, @Nullable String basePath, @Nullable String className, @Nullable String methodOrFieldName, boolean ignoreFragments, @NotNull TemplateNameStrategy templateNameStrategy) {
@@ -156,15 +156,28 @@ public class PsiTypeUtils {
     }
 
     public static PsiClass findType(String className, Module javaProject, ProgressIndicator monitor) {
+        return findType(className, javaProject, javaProject.getModuleWithDependenciesAndLibrariesScope(true), monitor);
+    }
+
+    /**
+     * Returns the Java type of the given class name searched in the given scope and null otherwise.
+     *
+     * @param className   the class name.
+     * @param javaProject the module.
+     * @param scope       the search scope, shared when several types are searched for the same module.
+     * @param monitor     the progress monitor.
+     * @return the Java type of the given class name searched in the given scope and null otherwise.
+     */
+    public static PsiClass findType(String className, Module javaProject, GlobalSearchScope scope, ProgressIndicator monitor) {
         try {
-            PsiClass type = JavaPsiFacade.getInstance(javaProject.getProject()).findClass(className.replace('$', '.'), javaProject.getModuleWithDependenciesAndLibrariesScope(true));
+            PsiClass type = JavaPsiFacade.getInstance(javaProject.getProject()).findClass(className.replace('$', '.'), scope);
             if (type != null) {
                 return type;
             }
             if (className.indexOf('.') == -1) {
                 // No package, try with java.lang package
                 // ex : if className = String we should find type of java.lang.String
-                return JavaPsiFacade.getInstance(javaProject.getProject()).findClass("java.lang." + className, javaProject.getModuleWithDependenciesAndLibrariesScope(true));
+                return JavaPsiFacade.getInstance(javaProject.getProject()).findClass("java.lang." + className, scope);
             }
         } catch (ProcessCanceledException e) {
             //Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
@@ -42,7 +42,7 @@ public class QuarkusConfigMappingASTVisitor extends JavaASTValidator {
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, QuarkusConstants.CONFIG_MAPPING_ANNOTATION) != null;
+		return PsiTypeUtils.hasType(javaProject, QuarkusConstants.CONFIG_MAPPING_ANNOTATION);
 	}
 
 	@Override
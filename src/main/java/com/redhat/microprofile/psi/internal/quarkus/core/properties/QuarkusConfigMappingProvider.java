@@ -75,6 +75,11 @@ public class QuarkusConfigMappingProvider extends AbstractAnnotationTypeReferenc
         return ANNOTATION_NAMES;
     }
 
+    @Override
+    public boolean isConcurrentCollectSupported() {
+        return true;
+    }
+
     @Override
     protected void processAnnotation(PsiModifierListOwner javaElement, PsiAnnotation annotation, String annotationName,
                                      SearchContext context) {
@@ -16,6 +16,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiModifierListOwner;
@@ -27,7 +28,9 @@ import com.redhat.microprofile.psi.internal.quarkus.providers.QuarkusSearchConte
 import com.redhat.microprofile.psi.quarkus.PsiQuarkusUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.SearchContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import io.quarkus.runtime.annotations.ConfigItem;
 import org.jetbrains.annotations.NotNull;
@@ -68,10 +71,19 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 
 	@Override
 	public void beginSearch(SearchContext context) {
+		if (context.isLazyDocumentation()) {
+			// The Javadoc is resolved on demand with getPropertyDocumentation
+			return;
+		}
 		Map<VirtualFile, Properties> javadocCache = new HashMap();
 		context.put(JAVADOC_CACHE_KEY, javadocCache);
 	}
 
+	@Override
+	public String getPropertyDocumentation(PsiMember member, DocumentFormat documentFormat, IPsiUtils utils) {
+		return member instanceof PsiField field ? getJavadoc(field, new HashMap<>()) : null;
+	}
+
 
 	@Override
 	protected void processAnnotation(PsiModifierListOwner psiElement, PsiAnnotation annotation, String annotationName,
@@ -400,10 +412,13 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 	 * </ul>
 	 * 
 	 * @param field the field to process
-	 * @param javadocCache the Javadoc cache
+	 * @param javadocCache the Javadoc cache and null if the Javadoc must not be collected
 	 * @return the doc entry for the field
 	 */
 	private static String getJavadoc(PsiField field, Map<VirtualFile, Properties> javadocCache) {
+		if (javadocCache == null) {
+			return null;
+		}
 		// TODO: get Javadoc from source anad attached doc by processing Javadoc tag as
 		// markdown
 		// Try to get javadoc from sources
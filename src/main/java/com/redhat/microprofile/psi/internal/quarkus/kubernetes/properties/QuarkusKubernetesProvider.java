@@ -69,6 +69,11 @@ public class QuarkusKubernetesProvider extends AbstractTypeDeclarationProperties
 				OPENSHIFT_APPLICATION_ANNOTATION, S2I_BUILD_ANNOTATION };
 	}
 
+	@Override
+	public boolean isConcurrentCollectSupported() {
+		return true;
+	}
+
 	@Override
 	protected Query<PsiModifierListOwner> createSearchPattern(SearchContext context, String annotationName) {
 		return createAnnotationTypeDeclarationSearchPattern(context, annotationName);
@@ -80,8 +85,10 @@ public class QuarkusKubernetesProvider extends AbstractTypeDeclarationProperties
 		if (configPrefix != null) {
 			IPropertiesCollector collector = context.getCollector();
 			IPsiUtils utils = context.getUtils();
+			// When documentation is lazy, the Javadoc is resolved on demand from the source method
 			DocumentFormat documentFormat = context.getDocumentFormat();
-			collectProperties(configPrefix, configType, collector, utils, documentFormat);
+			boolean lazyDocumentation = context.isLazyDocumentation();
+			collectProperties(configPrefix, configType, collector, utils, documentFormat, lazyDocumentation);
 			// We need to hard code some properties because KubernetesProcessor does that
 			switch (configPrefix) {
 			case KUBERNETES_PREFIX:
@@ -110,7 +117,7 @@ public class QuarkusKubernetesProvider extends AbstractTypeDeclarationProperties
 	}
 
 	private void collectProperties(String prefix, PsiClass configType, IPropertiesCollector collector, IPsiUtils utils,
-			DocumentFormat documentFormat) {
+			DocumentFormat documentFormat, boolean lazyDocumentation) {
 		String sourceType = configType.getQualifiedName();
 		PsiMethod[] methods = configType.getMethods();
 		for (PsiMethod method : methods) {
@@ -124,7 +131,7 @@ public class QuarkusKubernetesProvider extends AbstractTypeDeclarationProperties
 			}
 			if (isSimpleFieldType(resultTypeClass, resultTypeName)) {
 				String type = getPropertyType(resultTypeClass, resultTypeName);
-				String description = utils.getJavadoc(method, documentFormat);
+				String description = lazyDocumentation ? null : utils.getJavadoc(method, documentFormat);
 				String sourceMethod = getSourceMethod(method);
 				String defaultValue = PsiTypeUtils.getDefaultValue(method);
 				String extensionName = null;
@@ -133,7 +140,7 @@ public class QuarkusKubernetesProvider extends AbstractTypeDeclarationProperties
 				super.addItemMetadata(collector, propertyName, type, description, sourceType, null, sourceMethod,
 						defaultValue, extensionName, PsiTypeUtils.isBinary(method));
 			} else {
-				collectProperties(propertyName, resultTypeClass, collector, utils, documentFormat);
+				collectProperties(propertyName, resultTypeClass, collector, utils, documentFormat, lazyDocumentation);
 			}
 		}
 	}
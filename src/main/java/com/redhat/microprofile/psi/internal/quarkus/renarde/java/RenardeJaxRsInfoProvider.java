@@ -54,6 +54,14 @@ public class RenardeJaxRsInfoProvider extends KeyedLazyInstanceEP<IJaxRsInfoProv
 		return RenardeUtils.getAllControllerClasses(javaProject, monitor);
 	}
 
+	@Override
+	public boolean isJaxRsClass(@NotNull PsiClass type,
+								@NotNull Module javaProject,
+								@NotNull IPsiUtils utils,
+								@NotNull ProgressIndicator monitor) {
+		return RenardeUtils.isControllerClass(javaProject, type);
+	}
+
 	@Override
 	public @NotNull List<JaxRsMethodInfo> getJaxRsMethodInfo(@NotNull PsiFile typeRoot,
 															 @NotNull JaxRsContext jaxrsContext,
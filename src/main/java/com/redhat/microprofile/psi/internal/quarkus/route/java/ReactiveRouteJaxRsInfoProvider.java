@@ -46,7 +46,7 @@ public class ReactiveRouteJaxRsInfoProvider extends KeyedLazyInstanceEP<IJaxRsIn
 
     @Override
     public boolean canProvideJaxRsMethodInfoForClass(@NotNull PsiFile typeRoot, Module javaProject, ProgressIndicator monitor) {
-        return PsiTypeUtils.findType(javaProject, ROUTE_FQN) != null;
+        return PsiTypeUtils.hasType(javaProject, ROUTE_FQN);
     }
 
     @Override
@@ -55,6 +55,12 @@ public class ReactiveRouteJaxRsInfoProvider extends KeyedLazyInstanceEP<IJaxRsIn
         return Collections.emptySet();
     }
 
+    @Override
+    public boolean isJaxRsClass(@NotNull PsiClass type, @NotNull Module javaProject, @NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+        // Consistent with getAllJaxRsClasses
+        return false;
+    }
+
     @Override
     public List<JaxRsMethodInfo> getJaxRsMethodInfo(PsiFile typeRoot, JaxRsContext jaxrsContext, IPsiUtils utils,
                                                     ProgressIndicator monitor) {
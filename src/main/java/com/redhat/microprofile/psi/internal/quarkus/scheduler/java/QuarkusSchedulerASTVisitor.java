@@ -42,7 +42,7 @@ public class QuarkusSchedulerASTVisitor extends JavaASTValidator {
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, QuarkusConstants.SCHEDULED_ANNOTATION) != null;
+		return PsiTypeUtils.hasType(javaProject, QuarkusConstants.SCHEDULED_ANNOTATION);
 	}
 
 	@Override
@@ -45,6 +45,11 @@ public class QuarkusScheduledPropertiesProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isConcurrentCollectSupported() {
+		return true;
+	}
+
 	@Override
 	protected void processAnnotation(PsiModifierListOwner javaElement, PsiAnnotation configPropertyAnnotation,
 									 String annotationName, SearchContext context) {
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.module.Module;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Test of the {@link ClasspathCapabilityCache}.
+ */
+public class ClasspathCapabilityCacheTest extends LSP4MPMavenModuleImportingTestCase {
+
+    private static final String APPLICATION_PATH_ANNOTATION = "javax.ws.rs.ApplicationPath";
+
+    private static final String UNKNOWN_TYPE = "org.acme.UnknownType";
+
+    @Test
+    public void testHasType() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+        ClasspathCapabilityCache cache = ClasspathCapabilityCache.getInstance(getProject());
+        long hitCount = cache.getHitCount();
+        long missCount = cache.getMissCount();
+
+        // First calls compute the capabilities
+        assertTrue(PsiTypeUtils.hasType(javaProject, APPLICATION_PATH_ANNOTATION));
+        assertFalse(PsiTypeUtils.hasType(javaProject, UNKNOWN_TYPE));
+        assertEquals(missCount + 2, cache.getMissCount());
+        assertEquals(hitCount, cache.getHitCount());
+
+        // Next calls use the cache
+        assertTrue(PsiTypeUtils.hasType(javaProject, APPLICATION_PATH_ANNOTATION));
+        assertFalse(PsiTypeUtils.hasType(javaProject, UNKNOWN_TYPE));
+        assertEquals(missCount + 2, cache.getMissCount());
+        assertEquals(hitCount + 2, cache.getHitCount());
+
+        // A non Java file changes: the Java structure doesn't change, the capabilities are kept
+        saveFile("META-INF/microprofile-config.properties", "mp.config.key=value", javaProject);
+        cache.sourceFilesChanged(Collections.emptySet());
+        assertTrue(PsiTypeUtils.hasType(javaProject, APPLICATION_PATH_ANNOTATION));
+        assertFalse(PsiTypeUtils.hasType(javaProject, UNKNOWN_TYPE));
+        assertEquals(missCount + 2, cache.getMissCount());
+        assertEquals(hitCount + 4, cache.getHitCount());
+
+        // A Java file declares the missing type: the binary type is kept, the missing type is computed again
+        saveFile("org/acme/UnknownType.java", "package org.acme;\n\npublic class UnknownType {\n}\n", javaProject, true);
+        cache.sourceFilesChanged(Collections.emptySet());
+        assertTrue(PsiTypeUtils.hasType(javaProject, APPLICATION_PATH_ANNOTATION));
+        assertTrue(PsiTypeUtils.hasType(javaProject, UNKNOWN_TYPE));
+        assertEquals(missCount + 3, cache.getMissCount());
+        assertEquals(hitCount + 5, cache.getHitCount());
+
+        // The libraries change: all the capabilities are computed again
+        cache.librariesChanged();
+        assertTrue(PsiTypeUtils.hasType(javaProject, APPLICATION_PATH_ANNOTATION));
+        assertEquals(missCount + 4, cache.getMissCount());
+    }
+}
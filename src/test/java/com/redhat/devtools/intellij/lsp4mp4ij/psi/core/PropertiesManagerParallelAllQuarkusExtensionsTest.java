@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
+
+import com.google.gson.Gson;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.LibraryPropertiesCache;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import com.redhat.devtools.intellij.quarkus.QuarkusDeploymentSupport;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Check that the properties providers called in parallel collect the same properties and hints, in the same order,
+ * as the serial collect on a project which uses all the Quarkus extensions (and so all the properties providers).
+ */
+public class PropertiesManagerParallelAllQuarkusExtensionsTest extends MavenModuleImportingTestCase {
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            PropertiesManager.getInstance().setParallelCollect(true, 64);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testSameResultsThanSerialCollect() throws Exception {
+        Module module = createMavenModule(new File("projects/quarkus/projects/maven/all-quarkus-extensions"));
+        QuarkusDeploymentSupport.getInstance(getProject()).updateClasspathWithQuarkusDeployment(module, new EmptyProgressIndicator());
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+
+        PropertiesManager.getInstance().setParallelCollect(false, 64);
+        MicroProfileProjectInfo serial = collect(module);
+        assertFalse("Properties should be collected", serial.getProperties().isEmpty());
+
+        // Default batch size
+        PropertiesManager.getInstance().setParallelCollect(true, 64);
+        assertSameResults(serial, collect(module));
+
+        // One batch per Java search match
+        PropertiesManager.getInstance().setParallelCollect(true, 1);
+        assertSameResults(serial, collect(module));
+    }
+
+    private static void assertSameResults(MicroProfileProjectInfo expected, MicroProfileProjectInfo actual) {
+        assertEquals("Properties order", getPropertyNames(expected), getPropertyNames(actual));
+        assertEquals("Hints order", getHintNames(expected), getHintNames(actual));
+        assertEquals("Hint values order", getHintValues(expected), getHintValues(actual));
+        assertEquals(new Gson().toJson(expected), new Gson().toJson(actual));
+    }
+
+    private static List<String> getPropertyNames(MicroProfileProjectInfo info) {
+        return info.getProperties().stream()
+                .map(ItemMetadata::getName)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getHintNames(MicroProfileProjectInfo info) {
+        return info.getHints().stream()
+                .map(ItemHint::getName)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getHintValues(MicroProfileProjectInfo info) {
+        return info.getHints().stream()
+                .map(hint -> hint.getName() + "=" + (hint.getValues() != null ? hint.getValues().stream()
+                        .map(ValueHint::getValue)
+                        .collect(Collectors.joining(",")) : ""))
+                .collect(Collectors.toList());
+    }
+
+    private MicroProfileProjectInfo collect(Module module) {
+        // Collect the properties without the properties cached by a previous collect
+        LibraryPropertiesCache.getInstance().clear();
+        PsiMicroProfileProjectManager.getInstance(module.getProject()).getMicroProfileProject(module)
+                .getSourcePropertiesCache().evict();
+        return PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
+                MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC,
+                PsiUtilsLSImpl.getInstance(getProject()), DocumentFormat.PlainText, new EmptyProgressIndicator());
+    }
+}
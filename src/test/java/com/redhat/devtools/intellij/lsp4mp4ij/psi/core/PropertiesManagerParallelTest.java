@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
+
+import com.google.gson.Gson;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.LibraryPropertiesCache;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+
+import java.util.List;
+
+/**
+ * Run the {@link PropertiesManagerTest} tests with properties providers called in parallel for each Java search match.
+ */
+public class PropertiesManagerParallelTest extends PropertiesManagerTest {
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        PropertiesManager.getInstance().setParallelCollect(true, 1);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            PropertiesManager.getInstance().setParallelCollect(true, 64);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testSameResultsThanSerialCollect() {
+        assertSameResultsThanSerialCollect(module, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+        assertSameResultsThanSerialCollect(module, MicroProfilePropertiesScope.ONLY_SOURCES);
+    }
+
+    private void assertSameResultsThanSerialCollect(Module module, List<MicroProfilePropertiesScope> scopes) {
+        PropertiesManager.getInstance().setParallelCollect(false, 64);
+        String serial = new Gson().toJson(collect(module, scopes));
+        PropertiesManager.getInstance().setParallelCollect(true, 1);
+        String parallel = new Gson().toJson(collect(module, scopes));
+        assertEquals(serial, parallel);
+    }
+
+    private MicroProfileProjectInfo collect(Module module, List<MicroProfilePropertiesScope> scopes) {
+        // Collect the properties without the properties cached by a previous collect
+        LibraryPropertiesCache.getInstance().clear();
+        PsiMicroProfileProjectManager.getInstance(module.getProject()).getMicroProfileProject(module)
+                .getSourcePropertiesCache().evict();
+        return PropertiesManager.getInstance().getMicroProfileProjectInfo(module, scopes, ClasspathKind.SRC,
+                PsiUtilsLSImpl.getInstance(getProject()), DocumentFormat.PlainText, new EmptyProgressIndicator());
+    }
+}
@@ -43,7 +43,7 @@ public class PropertiesManagerTest extends MavenModuleImportingTestCase {
             "</dependency>" +
             "</dependencies>";
 
-    private Module module;
+    protected Module module;
 
     @Override
     public void setUp() throws Exception {
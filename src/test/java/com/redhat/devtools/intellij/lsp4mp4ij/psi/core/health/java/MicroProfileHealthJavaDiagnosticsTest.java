@@ -11,11 +11,15 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.health.java;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.health.MicroProfileHealthConstants;
@@ -28,6 +32,7 @@ import org.eclipse.lsp4mp.commons.codeaction.MicroProfileCodeActionId;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.*;
 
@@ -135,4 +140,39 @@ public class MicroProfileHealthJavaDiagnosticsTest extends LSP4MPMavenModuleImpo
                         te(0, 0, 13, 0, "package org.acme;\n\nimport org.eclipse.microprofile.health.HealthCheck;\nimport org.eclipse.microprofile.health.HealthCheckResponse;\nimport org.eclipse.microprofile.health.Startup;\n\n@Startup\npublic class MyLivenessCheck implements HealthCheck {\n\n    @Override\n    public HealthCheckResponse call() {\n        return HealthCheckResponse.up(\"alive\");\n    }\n\n}\n"))
         );
     }
+
+    @Test
+    public void testDiagnosticsForSeveralFiles() throws Exception {
+        Module module = loadMavenProject(MicroProfileMavenProjectName.microprofile_health_quickstart);
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        VirtualFile javaFile1 = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module) + "/src/main/java/org/acme/health/DontImplementHealthCheck.java");
+        String uri1 = VfsUtilCore.virtualToIoFile(javaFile1).toURI().toString();
+        VirtualFile javaFile2 = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module) + "/src/main/java/org/acme/health/ImplementHealthCheck.java");
+        String uri2 = VfsUtilCore.virtualToIoFile(javaFile2).toURI().toString();
+        diagnosticsParams.setUris(Arrays.asList(uri1, uri2));
+        diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        // The Java files are validated in parallel, the result keeps the order of the uris
+        List<PublishDiagnosticsParams> actual = PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils,
+                new EmptyProgressIndicator());
+        assertEquals(2, actual.size());
+        assertEquals(uri1, actual.get(0).getUri());
+        assertDiagnostics(actual.get(0).getDiagnostics(), d(9, 13, 37,
+                "The class `org.acme.health.DontImplementHealthCheck` using the @Liveness, @Readiness or @Health annotation should implement the HealthCheck interface.",
+                DiagnosticSeverity.Warning, MicroProfileHealthConstants.DIAGNOSTIC_SOURCE,
+                MicroProfileHealthErrorCode.ImplementHealthCheck));
+        assertEquals(uri2, actual.get(1).getUri());
+        assertDiagnostics(actual.get(1).getDiagnostics(), d(5, 13, 33,
+                "The class `org.acme.health.ImplementHealthCheck` implementing the HealthCheck interface should use the @Liveness, @Readiness or @Health annotation.",
+                DiagnosticSeverity.Warning, MicroProfileHealthConstants.DIAGNOSTIC_SOURCE,
+                MicroProfileHealthErrorCode.HealthAnnotationMissing));
+
+        // The validation is canceled with the request
+        ProgressIndicator canceledMonitor = new EmptyProgressIndicator();
+        canceledMonitor.cancel();
+        assertThrows(ProcessCanceledException.class, () -> PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams,
+                utils, canceledMonitor));
+    }
 }
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.java;
+
+import com.intellij.openapi.module.Module;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.DevServerLivenessTracker;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Test of the {@link DevServerLivenessTracker} used by the JAX-RS URL code lenses when the server availability must
+ * be checked.
+ */
+public class DevServerLivenessTrackerTest extends LSP4MPMavenModuleImportingTestCase {
+
+    private static final long TIMEOUT = 10000;
+
+    @Test
+    public void testServerAvailability() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+        DevServerLivenessTracker tracker = DevServerLivenessTracker.getInstance(getProject());
+
+        AtomicInteger changes = new AtomicInteger();
+        getProject().getMessageBus().connect(getTestRootDisposable())
+                .subscribe(DevServerLivenessTracker.TOPIC, (DevServerLivenessTracker.Listener) (module, port, available) -> changes.incrementAndGet());
+
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+            // The first call doesn't block and returns false, the port is probed in background
+            assertFalse(tracker.isServerAvailable(javaProject, port));
+            // The state is updated before the listeners are notified
+            waitUntil(() -> changes.get() == 1);
+            assertTrue(tracker.isServerAvailable(javaProject, port));
+        }
+
+        // The dev server is stopped
+        tracker.serverStateChanged(javaProject);
+        waitUntil(() -> changes.get() == 2);
+        assertFalse(tracker.isServerAvailable(javaProject, port));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timeout while waiting for the server availability", System.currentTimeMillis() - start < TIMEOUT);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import com.intellij.openapi.util.io.FileUtil;
+import org.junit.Test;
+
+/**
+ * Test for the on disk pruning of the {@link LibraryPropertiesCache}.
+ */
+public class LibraryPropertiesCacheTest {
+
+	@Test
+	public void pruneLeastRecentlyUsedFiles() throws IOException {
+		Path cacheDir = Files.createTempDirectory("config-metadata");
+		try {
+			for (int i = 0; i < 5; i++) {
+				Path file = Files.writeString(cacheDir.resolve("jar" + i + ".json"), "{}");
+				Files.setLastModifiedTime(file, FileTime.fromMillis(1000L * (i + 1)));
+			}
+			// jar0.json is the oldest file but it has been read recently
+			Files.setLastModifiedTime(cacheDir.resolve("jar0.json"), FileTime.fromMillis(10000L));
+
+			LibraryPropertiesCache.prune(cacheDir, 3);
+
+			try (Stream<Path> files = Files.list(cacheDir)) {
+				assertEquals(3, files.count());
+			}
+			assertTrue(Files.exists(cacheDir.resolve("jar0.json")));
+			assertFalse(Files.exists(cacheDir.resolve("jar1.json")));
+			assertFalse(Files.exists(cacheDir.resolve("jar2.json")));
+			assertTrue(Files.exists(cacheDir.resolve("jar3.json")));
+			assertTrue(Files.exists(cacheDir.resolve("jar4.json")));
+		} finally {
+			FileUtil.delete(cacheDir);
+		}
+	}
+}
@@ -16,9 +16,20 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.gson.GsonBuilder;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
 
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
@@ -274,6 +285,77 @@ public class PropertiesCollectorTest {
 		assertEquals("OFF [2]", configuration1.getHints().get(0).getValues().get(5).getDescription());
 	}
 
+	// ------------ Test with static metadata merge in a large collector
+
+	private static final String[] STATIC_PROPERTIES = { "jboss-logmanager-metadata.json", "jul-metadata.json",
+			"mp-config-metadata.json", "mp-context-propagation-metadata.json", "mp-graphql-metadata.json",
+			"mp-health-metadata.json", "mp-jwt-metadata.json", "mp-lra-metadata.json", "mp-metrics-metadata.json",
+			"mp-openapi-metadata.json", "mp-opentracing-metadata.json", "quarkus-core-metadata.json",
+			"quarkus-hibernate-orm-metadata.json" };
+
+	@Test
+	public void mergeStaticPropertiesInLargeCollector() throws Exception {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		ItemHint levels = collector.getItemHint("generated-levels");
+		for (int i = 0; i < 10000; i++) {
+			collector.addItemMetadata("quarkus.generated.property-" + i, "java.lang.String", null,
+					"com.acme.GeneratedConfig", "property" + i, null, null, "acme", true, 1);
+			if (i % 10 == 0) {
+				levels.getValues().add(vh("LEVEL_" + i, null));
+			}
+		}
+
+		List<ConfigurationMetadata> staticMetadata = new ArrayList<>();
+		Set<String> staticNames = new HashSet<>();
+		for (String staticProperties : STATIC_PROPERTIES) {
+			ConfigurationMetadata metadata = loadStaticProperties(staticProperties);
+			for (ItemMetadata property : metadata.getProperties()) {
+				staticNames.add(property.getName());
+			}
+			staticMetadata.add(metadata);
+		}
+
+		// Merge twice the static metadata, the second merge must not add properties
+		for (int i = 0; i < 2; i++) {
+			for (ConfigurationMetadata metadata : staticMetadata) {
+				collector.merge(metadata, MergingStrategy.IGNORE_IF_EXISTS);
+			}
+			assertEquals(10000 + staticNames.size(), configuration.getProperties().size());
+		}
+
+		// Replace the static properties, the replaced properties are moved at the end of the list
+		for (ConfigurationMetadata metadata : staticMetadata) {
+			collector.merge(metadata, MergingStrategy.REPLACE);
+		}
+		assertEquals(10000 + staticNames.size(), configuration.getProperties().size());
+		assertEquals("quarkus.generated.property-0", configuration.getProperties().get(0).getName());
+		assertTrue(staticNames.contains(configuration.getProperties().get(configuration.getProperties().size() - 1).getName()));
+
+		// Values added by a provider in a hint must be taken into account by the merge
+		ItemHint hint = new ItemHint();
+		hint.setName("generated-levels");
+		hint.setValues(new ArrayList<>(Arrays.asList(vh("LEVEL_0", "replaced"), vh("LEVEL_NEW", null))));
+		ConfigurationMetadata hints = new ConfigurationMetadata();
+		hints.setHints(new ArrayList<>(Arrays.asList(hint)));
+		collector.merge(hints, MergingStrategy.IGNORE_IF_EXISTS);
+		assertEquals(1001, levels.getValues().size());
+		collector.merge(hints, MergingStrategy.REPLACE);
+		assertEquals(1001, levels.getValues().size());
+		assertEquals("LEVEL_10", levels.getValues().get(0).getValue());
+		assertEquals("replaced", levels.getValues().get(999).getDescription());
+	}
+
+	private static ConfigurationMetadata loadStaticProperties(String name) throws Exception {
+		try (InputStream in = PropertiesCollectorTest.class.getResourceAsStream("/static-properties/" + name)) {
+			assertNotNull(name + " should be available in the classpath", in);
+			Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+			return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create()
+					.fromJson(reader, ConfigurationMetadata.class);
+		}
+	}
+
 	private static ValueHint vh(String value, String description) {
 		ValueHint debug = new ValueHint();
 		debug.setValue(value);
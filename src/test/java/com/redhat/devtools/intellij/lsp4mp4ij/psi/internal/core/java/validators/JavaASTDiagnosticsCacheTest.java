@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.config.java.MicroProfileConfigErrorCode;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.providers.MicroProfileConfigSourceProvider;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.*;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.config.java.MicroProfileConfigASTValidator.setDataForUnassigned;
+
+/**
+ * Test of the {@link JavaASTDiagnosticsCache}.
+ */
+public class JavaASTDiagnosticsCacheTest extends LSP4MPMavenModuleImportingTestCase {
+
+    @Test
+    public void testConfigPropertiesDependencies() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        JavaASTDiagnosticsCache cache = JavaASTDiagnosticsCache.getInstance(getProject());
+
+        saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, "", javaProject);
+
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        String javaFileUri = getFileUri("src/main/java/org/acme/config/UnassignedValue.java", javaProject);
+        diagnosticsParams.setUris(List.of(javaFileUri));
+        diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        Diagnostic d1 = d(8, 24, 29,
+                "The property 'foo' is not assigned a value in any config file, and must be assigned at runtime.",
+                DiagnosticSeverity.Warning, MicroProfileConfigConstants.MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE,
+                MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY);
+        setDataForUnassigned("foo", d1);
+        Diagnostic d2 = d(14, 25, 30,
+                "The property 'server.url' is not assigned a value in any config file, and must be assigned at runtime.",
+                DiagnosticSeverity.Warning, MicroProfileConfigConstants.MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE,
+                MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY);
+        setDataForUnassigned("server.url", d2);
+
+        // First validation visits the Java file
+        long hitCount = cache.getHitCount();
+        long missCount = cache.getMissCount();
+        assertJavaDiagnostics(diagnosticsParams, utils, d1, d2);
+        assertEquals(missCount + 1, cache.getMissCount());
+        assertEquals(hitCount, cache.getHitCount());
+
+        // Nothing changed: the diagnostics come from the cache
+        assertJavaDiagnostics(diagnosticsParams, utils, d1, d2);
+        assertEquals(missCount + 1, cache.getMissCount());
+        assertEquals(hitCount + 1, cache.getHitCount());
+
+        // A property which is not used by the Java file is added: the diagnostics come from the cache
+        saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, "bar=value", javaProject);
+        assertJavaDiagnostics(diagnosticsParams, utils, d1, d2);
+        assertEquals(missCount + 1, cache.getMissCount());
+        assertEquals(hitCount + 2, cache.getHitCount());
+
+        // A property used by the Java file is added: the Java file is validated again
+        saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, "bar=value\nfoo=value", javaProject);
+        assertJavaDiagnostics(diagnosticsParams, utils, d2);
+        assertEquals(missCount + 2, cache.getMissCount());
+        assertEquals(hitCount + 2, cache.getHitCount());
+    }
+
+    @Test
+    public void testJavaStructureDependencies() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        JavaASTDiagnosticsCache cache = JavaASTDiagnosticsCache.getInstance(getProject());
+
+        saveFile(MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE, "foo=value\nserver.url=value", javaProject);
+
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        String javaFileUri = getFileUri("src/main/java/org/acme/config/UnassignedValue.java", javaProject);
+        diagnosticsParams.setUris(List.of(javaFileUri));
+        diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        long hitCount = cache.getHitCount();
+        long missCount = cache.getMissCount();
+        assertJavaDiagnostics(diagnosticsParams, utils);
+        assertEquals(missCount + 1, cache.getMissCount());
+        assertEquals(hitCount, cache.getHitCount());
+
+        // A method body of another Java file is updated: the diagnostics come from the cache
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiClass greetingResource = JavaPsiFacade.getInstance(getProject()).findClass("org.acme.config.GreetingResource",
+                    GlobalSearchScope.moduleScope(javaProject));
+            assertNotNull(greetingResource);
+            PsiLiteralExpression literal = PsiTreeUtil.findChildOfType(greetingResource.findMethodsByName("hello", false)[0].getBody(),
+                    PsiLiteralExpression.class);
+            assertNotNull(literal);
+            literal.replace(JavaPsiFacade.getElementFactory(getProject()).createExpressionFromText("\"everybody\"", literal));
+        });
+        assertJavaDiagnostics(diagnosticsParams, utils);
+        assertEquals(missCount + 1, cache.getMissCount());
+        assertEquals(hitCount + 1, cache.getHitCount());
+
+        // A Java class is created: the Java file is validated again
+        saveFile("org/acme/config/NewClass.java", "package org.acme.config;\n\npublic class NewClass {\n}\n", javaProject, true);
+        assertJavaDiagnostics(diagnosticsParams, utils);
+        assertEquals(missCount + 2, cache.getMissCount());
+        assertEquals(hitCount + 1, cache.getHitCount());
+    }
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.IConfigSource;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
+import org.junit.Test;
+
+/**
+ * Test for {@link ConfigSourceKeysIndex}.
+ */
+public class ConfigSourceKeysIndexTest {
+
+	private static class KeysConfigSource implements IConfigSource {
+
+		private Set<String> keys;
+
+		KeysConfigSource(String... keys) {
+			this.keys = Set.of(keys);
+		}
+
+		@Override
+		public String getProperty(String key) {
+			return keys.contains(key) ? "" : null;
+		}
+
+		@Override
+		public Integer getPropertyAsInt(String key) {
+			return null;
+		}
+
+		@Override
+		public String getConfigFileName() {
+			return "application.properties";
+		}
+
+		@Override
+		public String getSourceConfigFileURI() {
+			return null;
+		}
+
+		@Override
+		public boolean isSourceConfigFile(VirtualFile file) {
+			return false;
+		}
+
+		@Override
+		public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+			return null;
+		}
+
+		@Override
+		public int getOrdinal() {
+			return 0;
+		}
+
+		@Override
+		public String getProfile() {
+			return null;
+		}
+
+		@Override
+		public Set<String> getAllKeys() {
+			return keys;
+		}
+
+		@Override
+		public void reload(PsiFile file) {
+		}
+	}
+
+	@Test
+	public void keysWithPrefix() {
+		List<IConfigSource> configSources = Arrays.asList(
+				new KeysConfigSource("quarkus.http.port", "quarkus.http.host", "greeting.message"),
+				new KeysConfigSource("quarkus.http.port", "%dev.quarkus.http.port", "quarkus.https"));
+		ConfigSourceKeysIndex index = new ConfigSourceKeysIndex(configSources);
+
+		assertEquals(Arrays.asList("quarkus.http.host", "quarkus.http.port"), index.getKeysWithPrefix("quarkus.http."));
+		assertEquals(Arrays.asList("quarkus.http.host", "quarkus.http.port", "quarkus.https"),
+				index.getKeysWithPrefix("quarkus.http"));
+		assertEquals(Collections.singletonList("%dev.quarkus.http.port"), index.getKeysWithPrefix("%dev."));
+		assertEquals(Collections.singletonList("greeting.message"), index.getKeysWithPrefix("greeting.message"));
+		assertTrue(index.getKeysWithPrefix("unknown").isEmpty());
+		assertEquals(5, index.getKeysWithPrefix("").size());
+	}
+
+	@Test
+	public void matchingSegments() {
+		List<IConfigSource> configSources = Arrays.asList(
+				new KeysConfigSource("quarkus.web-bundler.bundle.components.qute-tags",
+						"quarkus.web-bundler.bundle.components.key"),
+				new KeysConfigSource("quarkus.web-bundler.bundle.bar.qute-tags",
+						"%dev.quarkus.web-bundler.bundle.foo.qute-tags", "a.b"));
+		ConfigSourceKeysIndex index = new ConfigSourceKeysIndex(configSources);
+
+		assertEquals(Set.of("components", "bar"),
+				index.getMatchingSegments("quarkus.web-bundler.bundle.", ".qute-tags"));
+		assertEquals(Set.of("foo"), index.getMatchingSegments("%dev.quarkus.web-bundler.bundle.", ".qute-tags"));
+		// prefix and suffix which overlap in the key
+		assertTrue(index.getMatchingSegments("a.", ".b").isEmpty());
+	}
+
+	@Test
+	public void upToDate() {
+		KeysConfigSource configSource = new KeysConfigSource("quarkus.http.port");
+		List<IConfigSource> configSources = Collections.singletonList(configSource);
+		ConfigSourceKeysIndex index = new ConfigSourceKeysIndex(configSources);
+		assertTrue(index.isUpToDate(configSources));
+
+		// the config source has been reloaded
+		configSource.keys = Set.of("quarkus.http.port", "quarkus.http.host");
+		assertFalse(index.isUpToDate(configSources));
+		assertFalse(index.isUpToDate(Collections.emptyList()));
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.buildtool;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_EXTENSION_PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link QuarkusExtensionPropertiesCache}.
+ */
+public class QuarkusExtensionPropertiesCacheTest {
+
+    private static final String DEPLOYMENT_ID = "io.quarkus:quarkus-resteasy-deployment:3.0.0";
+
+    @Test
+    public void deploymentJarIdOfJar() throws Exception {
+        Path dir = Files.createTempDirectory("quarkus-extension-jar");
+        try {
+            File jar = dir.resolve("quarkus-resteasy.jar").toFile();
+            writeJar(jar, "deployment-artifact=" + DEPLOYMENT_ID);
+            File otherJar = dir.resolve("other.jar").toFile();
+            writeJar(otherJar, null);
+
+            QuarkusExtensionPropertiesCache cache = new QuarkusExtensionPropertiesCache();
+            assertEquals(DEPLOYMENT_ID, cache.getDeploymentJarId(jar));
+            assertNull(cache.getDeploymentJarId(otherJar));
+
+            // Same timestamp and length: the JAR is not read again
+            long timestamp = jar.lastModified();
+            Files.write(jar.toPath(), new byte[(int) jar.length()]);
+            jar.setLastModified(timestamp);
+            assertEquals(DEPLOYMENT_ID, cache.getDeploymentJarId(jar));
+
+            // The JAR has changed
+            writeJar(jar, "deployment-artifact=io.quarkus:quarkus-rest-deployment:3.0.0");
+            jar.setLastModified(timestamp + 2000);
+            assertEquals("io.quarkus:quarkus-rest-deployment:3.0.0", cache.getDeploymentJarId(jar));
+
+            // The cache is restored from the persisted state
+            QuarkusExtensionPropertiesCache restored = new QuarkusExtensionPropertiesCache();
+            restored.loadState(cache.getState());
+            assertEquals(2, restored.getState().roots.size());
+            assertNull(restored.getDeploymentJarId(otherJar));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    public void deploymentJarIdOfDirectory() throws Exception {
+        Path dir = Files.createTempDirectory("quarkus-extension-dir");
+        try {
+            QuarkusExtensionPropertiesCache cache = new QuarkusExtensionPropertiesCache();
+            assertNull(cache.getDeploymentJarId(dir.toFile()));
+
+            // quarkus-extension.properties has been created
+            Path properties = dir.resolve(QUARKUS_EXTENSION_PROPERTIES);
+            Files.createDirectories(properties.getParent());
+            Files.writeString(properties, "deployment-artifact=" + DEPLOYMENT_ID);
+            assertEquals(DEPLOYMENT_ID, cache.getDeploymentJarId(dir.toFile()));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    public void pruneDeletedAndUnusedRoots() throws Exception {
+        Path dir = Files.createTempDirectory("quarkus-extension-prune");
+        try {
+            File usedJar = dir.resolve("used.jar").toFile();
+            writeJar(usedJar, "deployment-artifact=" + DEPLOYMENT_ID);
+            File unusedJar = dir.resolve("unused.jar").toFile();
+            writeJar(unusedJar, null);
+            File deletedJar = dir.resolve("deleted.jar").toFile();
+            writeJar(deletedJar, null);
+
+            QuarkusExtensionPropertiesCache cache = new QuarkusExtensionPropertiesCache();
+            cache.getDeploymentJarId(usedJar);
+            cache.getDeploymentJarId(unusedJar);
+            cache.getDeploymentJarId(deletedJar);
+            assertEquals(3, cache.getState().roots.size());
+
+            // The deleted JAR is evicted when the state is saved
+            Files.delete(deletedJar.toPath());
+            assertEquals(Set.of(usedJar.getAbsolutePath(), unusedJar.getAbsolutePath()), cache.getState().roots.keySet());
+
+            // used.jar is used again by a classpath update after MAX_UNUSED_TIME / 2, but not unused.jar
+            long later = System.currentTimeMillis() + QuarkusExtensionPropertiesCache.MAX_UNUSED_TIME / 2;
+            setLastUsed(cache, usedJar, later);
+            cache.prune(later + QuarkusExtensionPropertiesCache.MAX_UNUSED_TIME / 2 + 1000);
+            assertEquals(Set.of(usedJar.getAbsolutePath()), cache.getState().roots.keySet());
+            assertEquals(DEPLOYMENT_ID, cache.getDeploymentJarId(usedJar));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void setLastUsed(QuarkusExtensionPropertiesCache cache, File root, long lastUsed) {
+        QuarkusExtensionPropertiesCache.State state = cache.getState();
+        state.roots.get(root.getAbsolutePath()).lastUsed = lastUsed;
+        cache.loadState(state);
+    }
+
+    private static void writeJar(File file, String extensionProperties) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file.toPath());
+             JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(new JarEntry(extensionProperties != null ? QUARKUS_EXTENSION_PROPERTIES : "META-INF/other.properties"));
+            jar.write((extensionProperties != null ? extensionProperties : "").getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
@@ -11,9 +11,11 @@ package com.redhat.devtools.intellij.quarkus.completion;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.testFramework.PlatformTestUtil;
 import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
 import com.intellij.util.ui.UIUtil;
 import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.quarkus.json.ApplicationYamlJsonSchemaFileProvider;
 import com.redhat.devtools.intellij.quarkus.json.ApplicationYamlJsonSchemaManager;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import org.jetbrains.yaml.schema.YamlJsonSchemaHighlightingInspection;
@@ -39,6 +41,11 @@ public class MavenApplicationYamlCompletionTest extends MavenModuleImportingTest
 		((CodeInsightTestFixture)getTestFixture()).setTestDataPath(ModuleUtilCore.getModuleDirPath(module));
 		var psiFile = ((CodeInsightTestFixture)getTestFixture()).configureByFile("src/main/resources/application.yaml");
 		UIUtil.dispatchAllInvocationEvents();
+		// The Json Schema is generated in background
+		ApplicationYamlJsonSchemaFileProvider provider = ApplicationYamlJsonSchemaFileProvider.getProviderFor(module);
+		Assert.assertNotNull(provider);
+		provider.getSchemaFile();
+		PlatformTestUtil.waitForPromise(provider.getUpdatePromise());
 		((CodeInsightTestFixture)getTestFixture()).checkHighlighting();
 	}
 }
@@ -0,0 +1,190 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.json;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import com.intellij.util.Query;
+import com.intellij.util.ui.UIUtil;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.SearchContext;
+import org.jetbrains.concurrency.Promise;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ApplicationYamlJsonSchemaFileProvider}.
+ */
+public class ApplicationYamlJsonSchemaFileProviderTest extends MavenModuleImportingTestCase {
+
+	/**
+	 * Properties provider which records if the write lock is held while the properties are collected.
+	 */
+	private static class WriteAccessRecorder implements IPropertiesProvider {
+
+		private int searchCount;
+
+		private boolean writeAccessAllowed;
+
+		private boolean dispatchThread;
+
+		@Override
+		public void beginSearch(SearchContext context) {
+			searchCount++;
+			writeAccessAllowed |= ApplicationManager.getApplication().isWriteAccessAllowed();
+			dispatchThread |= ApplicationManager.getApplication().isDispatchThread();
+		}
+
+		@Override
+		public Query<PsiModifierListOwner> createSearchPattern(SearchContext context) {
+			return null;
+		}
+
+		@Override
+		public void collectProperties(PsiModifierListOwner match, SearchContext context) {
+		}
+	}
+
+	/**
+	 * Properties provider which contributes a property and which can block the search.
+	 */
+	private static class SlowPropertyProvider implements IPropertiesProvider {
+
+		private volatile String propertyName;
+
+		private volatile CountDownLatch started;
+
+		private volatile CountDownLatch released;
+
+		@Override
+		public void beginSearch(SearchContext context) {
+			CountDownLatch started = this.started;
+			CountDownLatch released = this.released;
+			if (started != null && released != null) {
+				started.countDown();
+				try {
+					released.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		@Override
+		public void endSearch(SearchContext context) {
+			context.getCollector().addItemMetadata(propertyName, "java.lang.String", null, null, null, null, null, null, false, 0);
+		}
+
+		@Override
+		public Query<PsiModifierListOwner> createSearchPattern(SearchContext context) {
+			return null;
+		}
+
+		@Override
+		public void collectProperties(PsiModifierListOwner match, SearchContext context) {
+		}
+	}
+
+	@Test
+	public void testInvalidationDuringGenerationDiscardsTheGeneration() throws Exception {
+		SlowPropertyProvider slowProvider = new SlowPropertyProvider();
+		slowProvider.propertyName = "initial.property";
+		IPropertiesProvider.EP_NAME.getPoint().registerExtension(slowProvider, getTestRootDisposable());
+
+		Module module = createMavenModule(new File("projects/maven/hibernate-orm-resteasy-yaml"));
+		CodeInsightTestFixture fixture = (CodeInsightTestFixture) getTestFixture();
+		fixture.setTestDataPath(ModuleUtilCore.getModuleDirPath(module));
+		fixture.configureByFile("src/main/resources/application.yaml");
+		UIUtil.dispatchAllInvocationEvents();
+
+		ApplicationYamlJsonSchemaFileProvider provider = ApplicationYamlJsonSchemaFileProvider.getProviderFor(module);
+		Assert.assertNotNull("Json Schema provider should be associated to the module", provider);
+		var schemaFile = provider.getSchemaFile();
+		PlatformTestUtil.waitForPromise(provider.getUpdatePromise());
+		Assert.assertTrue(getContent(schemaFile).contains("initial.property"));
+
+		// A slow generation is started after a change of Java sources
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch released = new CountDownLatch(1);
+		slowProvider.propertyName = "discarded.property";
+		slowProvider.started = started;
+		slowProvider.released = released;
+		provider.resetSources();
+		provider.getSchemaFile();
+		Promise<Void> slowPromise = provider.getUpdatePromise();
+		Assert.assertTrue("The slow generation should be started", started.await(30, TimeUnit.SECONDS));
+
+		// The Java sources change again while the slow generation is running
+		provider.resetSources();
+		slowProvider.started = null;
+		slowProvider.released = null;
+		released.countDown();
+		PlatformTestUtil.waitForPromise(slowPromise);
+		Assert.assertFalse("The Json Schema of the invalidated generation should be discarded",
+				getContent(schemaFile).contains("discarded.property"));
+
+		// The next generation takes the last change into account
+		slowProvider.propertyName = "kept.property";
+		PlatformTestUtil.waitWithEventsDispatching("The Json Schema should be generated again", () -> {
+			provider.getSchemaFile();
+			return provider.getUpdatePromise() != slowPromise;
+		}, 30);
+		PlatformTestUtil.waitForPromise(provider.getUpdatePromise());
+		String content = getContent(schemaFile);
+		Assert.assertTrue(content.contains("kept.property"));
+		Assert.assertFalse(content.contains("discarded.property"));
+	}
+
+	private static String getContent(VirtualFile schemaFile) throws Exception {
+		return new String(schemaFile.contentsToByteArray(), schemaFile.getCharset());
+	}
+
+	@Test
+	public void testNoWriteLockDuringCollection() throws Exception {
+		WriteAccessRecorder recorder = new WriteAccessRecorder();
+		IPropertiesProvider.EP_NAME.getPoint().registerExtension(recorder, getTestRootDisposable());
+
+		Module module = createMavenModule(new File("projects/maven/hibernate-orm-resteasy-yaml"));
+		CodeInsightTestFixture fixture = (CodeInsightTestFixture) getTestFixture();
+		fixture.setTestDataPath(ModuleUtilCore.getModuleDirPath(module));
+		fixture.configureByFile("src/main/resources/application.yaml");
+		UIUtil.dispatchAllInvocationEvents();
+
+		// Generate the Json Schema with sources and dependencies
+		ApplicationYamlJsonSchemaFileProvider provider = ApplicationYamlJsonSchemaFileProvider.getProviderFor(module);
+		Assert.assertNotNull("Json Schema provider should be associated to the module", provider);
+		var schemaFile = provider.getSchemaFile();
+		// Wait for the non-blocking read action and the update of the Json Schema file in the EDT
+		PlatformTestUtil.waitForPromise(provider.getUpdatePromise());
+		Assert.assertNotNull(schemaFile);
+		Assert.assertTrue("Json Schema should be generated", schemaFile.getLength() > 0);
+		Assert.assertTrue("Properties should be collected", recorder.searchCount > 0);
+
+		// Generate the Json Schema after a change of Java sources
+		int searchCount = recorder.searchCount;
+		provider.resetSources();
+		provider.getSchemaFile();
+		PlatformTestUtil.waitForPromise(provider.getUpdatePromise());
+		Assert.assertTrue("Source properties should be collected", recorder.searchCount > searchCount);
+
+		Assert.assertFalse("The write lock should not be held while properties are collected", recorder.writeAccessAllowed);
+		Assert.assertFalse("Properties should not be collected in the EDT", recorder.dispatchThread);
+	}
+}
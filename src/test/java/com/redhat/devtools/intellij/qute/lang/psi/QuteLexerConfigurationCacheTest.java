@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.lang.psi;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.compiler.CompilerPaths;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
+import org.junit.Test;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Tests for {@link QuteLexerConfigurationCache}.
+ */
+public class QuteLexerConfigurationCacheTest extends QuteMavenModuleImportingTestCase {
+
+    private Module module;
+
+    private QuteLexerConfigurationCache cache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        cache = QuteLexerConfigurationCache.getInstance(getProject());
+    }
+
+    @Test
+    public void testModuleConfigurationIsCached() throws Exception {
+        QuteLexerConfigurationCache.ModuleConfiguration configuration = ReadAction.compute(() -> cache.getModuleConfiguration(module));
+        assertFalse(ReadAction.compute(() -> cache.isRoqProject(module)));
+        assertFalse(ReadAction.compute(() -> cache.isAltExprSyntax(module)));
+
+        // Nothing has changed, the Roq detection and the alt-expr-syntax property are not computed again
+        assertSame(configuration, ReadAction.compute(() -> cache.getModuleConfiguration(module)));
+        assertFalse(ReadAction.compute(() -> cache.isRoqProject(module)));
+        assertSame(configuration, ReadAction.compute(() -> cache.getModuleConfiguration(module)));
+    }
+
+    @Test
+    public void testModuleConfigurationIsEvictedWhenConfigSourcesChange() throws Exception {
+        QuteLexerConfigurationCache.ModuleConfiguration configuration = ReadAction.compute(() -> cache.getModuleConfiguration(module));
+        assertFalse(ReadAction.compute(() -> cache.isAltExprSyntax(module)));
+
+        PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(getProject())
+                .getMicroProfileProject(module);
+        long modificationCount = mpProject.getConfigSourcesModificationTracker().getModificationCount();
+        saveFile("application.properties", "quarkus.qute.alt-expr-syntax=true", module);
+        // Evict the config sources without waiting for the debounced notification of the classpath resource changed manager
+        VirtualFile applicationProperties = CompilerPaths.getModuleOutputDirectory(module, false).findChild("application.properties");
+        assertNotNull(applicationProperties);
+        mpProject.evictConfigSourcesCache(applicationProperties);
+        assertTrue(mpProject.getConfigSourcesModificationTracker().getModificationCount() > modificationCount);
+
+        QuteLexerConfigurationCache.ModuleConfiguration updatedConfiguration = ReadAction.compute(() -> cache.getModuleConfiguration(module));
+        assertNotSame(configuration, updatedConfiguration);
+        assertTrue(ReadAction.compute(() -> cache.isAltExprSyntax(module)));
+        assertSame(updatedConfiguration, ReadAction.compute(() -> cache.getModuleConfiguration(module)));
+    }
+
+    @Test
+    public void testAltExprSyntaxInParentIsCached() throws Exception {
+        VirtualFile templates = createDirectory("src/main/resources/templates/alt/items");
+        VirtualFile alt = templates.getParent();
+        saveText(alt, ".qute", "alt-expr-syntax=true");
+        VirtualFile template = saveText(templates, "items.html", "{=item.name}");
+
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+        assertTrue(cache.isAltExprSyntaxCached(templates));
+        assertTrue(cache.isAltExprSyntaxCached(alt));
+
+        // A template file is not a .qute file, the cache is kept
+        saveText(templates, "items.html", "{=item.price}");
+        assertTrue(cache.isAltExprSyntaxCached(templates));
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+    }
+
+    @Test
+    public void testAltExprSyntaxInParentIsEvictedWhenDotQuteFileChanges() throws Exception {
+        VirtualFile templates = createDirectory("src/main/resources/templates/alt/items");
+        VirtualFile alt = templates.getParent();
+        VirtualFile dotQute = saveText(alt, ".qute", "alt-expr-syntax=true");
+        VirtualFile template = saveText(templates, "items.html", "{=item.name}");
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+
+        // Update of the .qute file
+        saveText(alt, ".qute", "alt-expr-syntax=false");
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+        assertFalse(cache.isAltExprSyntaxInParent(template));
+
+        // Creation of a .qute file in a sub directory
+        saveText(templates, ".qute", "alt-expr-syntax=true");
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+
+        // Deletion of the .qute file
+        WriteAction.runAndWait(() -> templates.findChild(".qute").delete(this));
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+        assertFalse(cache.isAltExprSyntaxInParent(template));
+
+        // Rename of the parent .qute file
+        saveText(alt, ".qute", "alt-expr-syntax=true");
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+        WriteAction.runAndWait(() -> dotQute.rename(this, "qute.txt"));
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+        assertFalse(cache.isAltExprSyntaxInParent(template));
+    }
+
+    @Test
+    public void testAltExprSyntaxInParentIsEvictedWhenDirectoryChanges() throws Exception {
+        VirtualFile templates = createDirectory("src/main/resources/templates/alt/items");
+        VirtualFile template = saveText(templates, "items.html", "{=item.name}");
+        assertFalse(cache.isAltExprSyntaxInParent(template));
+        assertTrue(cache.isAltExprSyntaxCached(templates));
+
+        // The directory of the template is moved in a directory which contains a .qute file
+        VirtualFile other = createDirectory("src/main/resources/other/alt");
+        saveText(other, ".qute", "alt-expr-syntax=true");
+        assertFalse(cache.isAltExprSyntaxInParent(template));
+        WriteAction.runAndWait(() -> templates.move(this, other));
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+
+        // Creation of a directory
+        assertTrue(cache.isAltExprSyntaxCached(templates));
+        VirtualFile emptyDirectory = createDirectory("src/main/resources/templates/empty");
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+
+        // Deletion of a directory
+        assertTrue(cache.isAltExprSyntaxInParent(template));
+        assertTrue(cache.isAltExprSyntaxCached(templates));
+        WriteAction.runAndWait(() -> emptyDirectory.delete(this));
+        assertFalse(cache.isAltExprSyntaxCached(templates));
+    }
+
+    private VirtualFile createDirectory(String relativePath) throws Exception {
+        VirtualFile root = ModuleRootManager.getInstance(module).getContentRoots()[0];
+        return WriteAction.computeAndWait(() -> VfsUtil.createDirectoryIfMissing(root, relativePath));
+    }
+
+    private VirtualFile saveText(VirtualFile directory, String name, String content) throws Exception {
+        return WriteAction.computeAndWait(() -> {
+            VirtualFile file = directory.findChild(name);
+            if (file == null) {
+                file = directory.createChildData(this, name);
+            }
+            VfsUtil.saveText(file, content);
+            return file;
+        });
+    }
+}
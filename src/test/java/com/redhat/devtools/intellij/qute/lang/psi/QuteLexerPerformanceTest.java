@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.qute.lang.psi;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.text.CharArrayCharSequence;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Benchmark of the {@link QuteLexer} with a template of 5 000 lines and tests of the restart of the lexer.
+ */
+public class QuteLexerPerformanceTest {
+
+    private static final Logger LOGGER = Logger.getLogger(QuteLexerPerformanceTest.class.getName());
+
+    private static final int LINES = 5000;
+
+    private static final int ITERATIONS = 10;
+
+    @Test
+    public void testLexingThroughput() {
+        String template = createTemplate();
+        // The editor gives a CharSequence which is not a String to the lexer
+        CharSequence buffer = new CharArrayCharSequence(template.toCharArray());
+
+        // Warm up
+        int tokenCount = lex(buffer, 0, QuteLexer.RESTARTABLE_STATE).size();
+        assertTrue(tokenCount > LINES);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < ITERATIONS; i++) {
+            lex(buffer, 0, QuteLexer.RESTARTABLE_STATE);
+        }
+        long time = Math.max(1, System.currentTimeMillis() - start);
+        LOGGER.info("Qute lexer: " + LINES + " lines, " + tokenCount + " tokens in " + (time / ITERATIONS)
+                + "ms (" + ((long) template.length() * ITERATIONS * 1000 / time / 1024) + " KB/s, " + ITERATIONS + " iterations)");
+    }
+
+    @Test
+    public void testRestartAtRestartableState() {
+        String template = createTemplate();
+        List<Token> tokens = lex(template, 0, QuteLexer.RESTARTABLE_STATE);
+
+        int restartCount = 0;
+        for (int i = 0; i < tokens.size(); i += 97) {
+            Token token = tokens.get(i);
+            if (token.state != QuteLexer.RESTARTABLE_STATE) {
+                continue;
+            }
+            // Restart the lexer at the token and compare with the tokens of the full lexing
+            List<Token> restarted = lex(template, token.start, token.state);
+            assertEquals(tokens.subList(i, tokens.size()), restarted);
+            restartCount++;
+        }
+        assertTrue(restartCount > 0);
+    }
+
+    @Test
+    public void testSubLexerStates() {
+        String text = "<p>{item.name}</p>{#let name='foo'}{name}{/let}";
+        List<Token> tokens = lex(text, 0, QuteLexer.RESTARTABLE_STATE);
+
+        // <p>
+        assertEquals(QuteLexer.RESTARTABLE_STATE, tokens.get(0).state);
+        // {
+        assertEquals(QuteTokenType.QUTE_START_EXPRESSION, tokens.get(1).type);
+        assertEquals(QuteLexer.RESTARTABLE_STATE, tokens.get(1).state);
+        // item
+        assertEquals(QuteLexer.EXPRESSION_CONTEXT, QuteLexer.getContext(tokens.get(2).state));
+
+        for (Token token : tokens) {
+            if (token.start > text.indexOf("{#let") && token.end <= text.indexOf("}{name}")) {
+                // Tokens of the start tag are never restartable
+                assertNotEquals(QuteLexer.RESTARTABLE_STATE, token.state);
+            }
+        }
+    }
+
+    private static String createTemplate() {
+        StringBuilder template = new StringBuilder();
+        int line = 0;
+        while (line < LINES) {
+            template.append("{@org.acme.Item item}\n");
+            template.append("<h1>{item.name} - {item.price.pretty('0.00')}</h1>\n");
+            template.append("{#for review in item.reviews}\n");
+            template.append("  <p class=\"review\">{review.title ?: 'No title'} {review.rating}</p>\n");
+            template.append("  {#if review.average > 3 && review.verified}<span>{inject:bean.format(review)}</span>{/if}\n");
+            template.append("{/for}\n");
+            template.append("{! a comment with {braces} !}\n");
+            template.append("{#let name='foo' size=item.reviews.size}{name}:{size}{/let}\n");
+            template.append("<footer>Some text without expressions</footer>\n");
+            template.append("\n");
+            line += 10;
+        }
+        return template.toString();
+    }
+
+    private static List<Token> lex(CharSequence text, int startOffset, int initialState) {
+        Lexer lexer = new QuteLexer(false);
+        lexer.start(text, startOffset, text.length(), initialState);
+        List<Token> tokens = new ArrayList<>();
+        IElementType type;
+        while ((type = lexer.getTokenType()) != null) {
+            tokens.add(new Token(type, lexer.getTokenStart(), lexer.getTokenEnd(), lexer.getState()));
+            lexer.advance();
+        }
+        return tokens;
+    }
+
+    private static class Token {
+
+        private final IElementType type;
+        private final int start;
+        private final int end;
+        private final int state;
+
+        private Token(IElementType type, int start, int end, int state) {
+            this.type = type;
+            this.start = start;
+            this.end = end;
+            this.state = state;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Token token)) {
+                return false;
+            }
+            return type == token.type && start == token.start && end == token.end && state == token.state;
+        }
+
+        @Override
+        public int hashCode() {
+            return start;
+        }
+
+        @Override
+        public String toString() {
+            return type + "[" + start + "," + end + "]@" + state;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethod;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
+import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
+import com.redhat.devtools.intellij.qute.psi.utils.PsiTypeUtils;
+import com.redhat.qute.commons.QuteJavaDefinitionParams;
+import org.eclipse.lsp4j.Location;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Tests for {@link JavaTypeMembers} and its cache in {@link ResolvedJavaTypeCache}.
+ */
+public class JavaTypeMembersTest extends QuteMavenModuleImportingTestCase {
+
+	private static final String OVERLOADS = "package org.acme.qute;\n" + //
+			"\n" + //
+			"public class Overloads {\n" + //
+			"\n" + //
+			"	public String name;\n" + //
+			"\n" + //
+			"	public String format(String pattern) {\n" + //
+			"		return pattern;\n" + //
+			"	}\n" + //
+			"\n" + //
+			"	public String format(String pattern, int count) {\n" + //
+			"		return pattern;\n" + //
+			"	}\n" + //
+			"\n" + //
+			"	public String format(java.util.Locale locale, String value) {\n" + //
+			"		return value;\n" + //
+			"	}\n" + //
+			"}\n";
+
+	private Module module;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+		saveFile("org/acme/qute/Overloads.java", OVERLOADS, module, true);
+	}
+
+	@Test
+	public void testFindMembersBySignature() throws Exception {
+		ReadAction.run(() -> {
+			JavaTypeMembers members = getMembers();
+
+			List<PsiMember> fields = members.findMembersBySignature("name : java.lang.String");
+			Assert.assertEquals(1, fields.size());
+			Assert.assertTrue(fields.get(0) instanceof PsiField);
+
+			List<PsiMember> methods = members.findMembersBySignature("format(pattern : java.lang.String, count : int) : java.lang.String");
+			Assert.assertEquals(1, methods.size());
+			Assert.assertEquals(2, ((PsiMethod) methods.get(0)).getParameterList().getParametersCount());
+
+			Assert.assertTrue(members.findMembersBySignature("format() : java.lang.String").isEmpty());
+		});
+	}
+
+	@Test
+	public void testFindOverloadedMethods() throws Exception {
+		ReadAction.run(() -> {
+			JavaTypeMembers members = getMembers();
+
+			// Overloads are returned in declaration order
+			Assert.assertEquals(List.of("pattern", "pattern,count", "locale,value"), members.findMethods("format").stream()
+					.map(JavaTypeMembersTest::getParameterNames)
+					.collect(Collectors.toList()));
+			Assert.assertTrue(members.findMethods("unknown").isEmpty());
+
+			// Without parameter name, the first overload is returned
+			Assert.assertEquals("pattern", getParameterNames(members.findMethod("format")));
+			// The overload which declares the parameter is returned
+			Assert.assertEquals("pattern,count", getParameterNames(members.findMethod("format", "count")));
+			Assert.assertEquals("locale,value", getParameterNames(members.findMethod("format", "locale")));
+			// No overload declares the parameter, the first overload is returned
+			Assert.assertEquals("pattern", getParameterNames(members.findMethod("format", "unknown")));
+			Assert.assertNull(members.findMethod("unknown", "pattern"));
+		});
+	}
+
+	@Test
+	public void testDefinitionOfOverloadedMethodParameter() throws Exception {
+		QuteJavaDefinitionParams params = new QuteJavaDefinitionParams("org.acme.qute.Overloads",
+				QuteMavenProjectName.qute_quickstart);
+		params.setSourceMethod("format");
+		params.setSourceParameter("locale");
+		Location location = ReadAction.compute(() -> QuteSupportForTemplate.getInstance().getJavaDefinition(params,
+				getJDTUtils(), new EmptyProgressIndicator()));
+		Assert.assertNotNull(location);
+		// public String format(java.util.Locale locale, String value) {
+		Assert.assertEquals(14, location.getRange().getStart().getLine());
+	}
+
+	@Test
+	public void testMembersAreUpdatedWhenTypeChanges() throws Exception {
+		JavaTypeMembers members = ReadAction.compute(this::getMembers);
+		// Same Java type, not changed: the members are cached
+		Assert.assertSame(members, ReadAction.compute(this::getMembers));
+
+		// Remove the overload with the locale
+		saveFile("org/acme/qute/Overloads.java", OVERLOADS.replace("java.util.Locale locale", "int count"), module, true);
+		ReadAction.run(() -> {
+			JavaTypeMembers updatedMembers = getMembers();
+			Assert.assertNotSame(members, updatedMembers);
+			Assert.assertEquals("pattern", getParameterNames(updatedMembers.findMethod("format", "locale")));
+			Assert.assertEquals(1, updatedMembers.findMembersBySignature("format(count : int, value : java.lang.String) : java.lang.String").size());
+		});
+	}
+
+	private JavaTypeMembers getMembers() {
+		PsiClass type = PsiTypeUtils.findType(module, "org.acme.qute.Overloads");
+		Assert.assertNotNull(type);
+		return ResolvedJavaTypeCache.getInstance(getProject()).getMembers(type, module);
+	}
+
+	private static String getParameterNames(PsiMethod method) {
+		Assert.assertNotNull(method);
+		return List.of(method.getParameterList().getParameters()).stream()
+				.map(parameter -> parameter.getName())
+				.collect(Collectors.joining(","));
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.template;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.internal.template.JavaTypesSearch;
+import com.redhat.qute.commons.JavaTypeInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test {@link JavaTypesSearch} with a project which has all Quarkus extensions in its classpath.
+ */
+public class JavaTypesSearchAllQuarkusExtensionsTest extends MavenModuleImportingTestCase {
+
+	private static final int MAX_RESULTS = 100;
+
+	@Test
+	public void testLimitedSearchWithAllQuarkusExtensions() throws Exception {
+		Module module = createMavenModule(new File("projects/quarkus/projects/maven/all-quarkus-extensions"));
+		IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+
+		for (String pattern : List.of("o", "Str", "Config")) {
+			JavaTypesSearch allSearch = new JavaTypesSearch(pattern, module);
+			List<String> all = search(allSearch);
+			Assert.assertFalse(allSearch.isIncomplete());
+			Assert.assertTrue("Search '" + pattern + "' should match more than " + MAX_RESULTS + " Java types",
+					all.size() > MAX_RESULTS);
+
+			// The limited search returns the best ranked Java types of the full search, in the same order
+			JavaTypesSearch limitedSearch = new JavaTypesSearch(pattern, module, MAX_RESULTS);
+			List<String> best = search(limitedSearch);
+			Assert.assertTrue(limitedSearch.isIncomplete());
+			Assert.assertEquals(all.subList(0, MAX_RESULTS), best);
+		}
+
+		// The exact match is ranked first
+		List<String> best = search(new JavaTypesSearch("String", module, 10));
+		Assert.assertEquals("java.lang.String", best.get(0));
+	}
+
+	private static List<String> search(JavaTypesSearch search) {
+		return ReadAction.compute(() -> search.search(new EmptyProgressIndicator()).stream()
+				.map(JavaTypeInfo::getSignature)
+				.collect(Collectors.toList()));
+	}
+
+}
@@ -11,11 +11,20 @@
  *******************************************************************************/
 package com.redhat.devtools.intellij.qute.psi.template;
 
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
 import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
+import com.redhat.devtools.intellij.qute.psi.internal.template.datamodel.DataModelProjectCache;
+import com.redhat.qute.commons.QuteProjectScope;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
@@ -26,7 +35,9 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
 import static com.redhat.devtools.intellij.qute.psi.QuteAssert.*;
 
 /**
@@ -37,6 +48,18 @@ import static com.redhat.devtools.intellij.qute.psi.QuteAssert.*;
  */
 public class TemplateGetDataModelProjectTest extends QuteMavenModuleImportingTestCase {
 
+    private static final String TEMPLATES = "package org.acme.qute;\n" + //
+            "\n" + //
+            "import io.quarkus.qute.CheckedTemplate;\n" + //
+            "import io.quarkus.qute.TemplateInstance;\n" + //
+            "\n" + //
+            "@CheckedTemplate\n" + //
+            "public class Templates {\n" + //
+            "\n" + //
+            "    public static native TemplateInstance hello2(String name);\n" + //
+            "    public static native TemplateInstance hello3(String name);\n" + //
+            "}\n";
+
     @Test
     public void testQuteQuickStart() throws Exception {
 
@@ -62,6 +85,131 @@ public class TemplateGetDataModelProjectTest extends QuteMavenModuleImportingTes
         testValueResolversFromTemplateGlobal(resolvers);
     }
 
+    @Test
+    public void testIncrementalDataModel() throws Exception {
+
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+
+        QuteDataModelProjectParams params = new QuteDataModelProjectParams(QuteMavenProjectName.qute_quickstart);
+        DataModelProject<DataModelTemplate<DataModelParameter>> project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        Assert.assertNotNull(project);
+        int templatesCount = project.getTemplates().size();
+        int resolversCount = project.getValueResolvers().size();
+        Assert.assertNull(project.findDataModelTemplate("src/main/resources/templates/hello4"));
+
+        // The data model is reused
+        project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        testTemplates(project);
+        Assert.assertEquals(templatesCount, project.getTemplates().size());
+        Assert.assertEquals(resolversCount, project.getValueResolvers().size());
+
+        // Add the hello4 template in Templates, only the data model of this class is collected again
+        String templatesURL = updateTemplates(module, TEMPLATES.replace("    public static native TemplateInstance hello3(String name);\n",
+                "    public static native TemplateInstance hello3(String name);\n" + //
+                        "    public static native TemplateInstance hello4(String name);\n"));
+        project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        Assert.assertEquals(Set.of(templatesURL), getLastCollectedSources(module));
+        testTemplates(project);
+        Assert.assertEquals(templatesCount + 1, project.getTemplates().size());
+        Assert.assertEquals(resolversCount, project.getValueResolvers().size());
+        DataModelTemplate<DataModelParameter> hello4Template = project
+                .findDataModelTemplate("src/main/resources/templates/hello4");
+        Assert.assertNotNull(hello4Template);
+        Assert.assertEquals("org.acme.qute.Templates", hello4Template.getSourceType());
+
+        // Remove the hello4 template, only the data model of Templates is collected again
+        Assert.assertEquals(templatesURL, updateTemplates(module, TEMPLATES));
+        project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        Assert.assertEquals(Set.of(templatesURL), getLastCollectedSources(module));
+        testTemplates(project);
+        Assert.assertEquals(templatesCount, project.getTemplates().size());
+        Assert.assertEquals(resolversCount, project.getValueResolvers().size());
+        Assert.assertNull(project.findDataModelTemplate("src/main/resources/templates/hello4"));
+    }
+
+    @Test
+    public void testIncrementalDataModelWithDataMethodInvocationInOtherFile() throws Exception {
+
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+
+        QuteDataModelProjectParams params = new QuteDataModelProjectParams(QuteMavenProjectName.qute_quickstart);
+        DataModelProject<DataModelTemplate<DataModelParameter>> project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        Assert.assertNotNull(project);
+        Assert.assertEquals(1, project.findDataModelTemplate("src/main/resources/templates/ItemResource/items").getParameters().size());
+        String itemResourceURL = getSourceFile("org.acme.qute.ItemResource", module).getUrl();
+
+        // Add a Java file which calls data() for the items template declared in ItemResource
+        String itemDataResourceURL = updateSource(module, "org/acme/qute/ItemDataResource.java", "org.acme.qute.ItemDataResource",
+                "package org.acme.qute;\n" + //
+                        "\n" + //
+                        "import io.quarkus.qute.TemplateInstance;\n" + //
+                        "\n" + //
+                        "public class ItemDataResource {\n" + //
+                        "\n" + //
+                        "    public TemplateInstance get() {\n" + //
+                        "        return ItemResource.Templates.items(null).data(\"count\", 10);\n" + //
+                        "    }\n" + //
+                        "}\n");
+        project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        Assert.assertEquals(Set.of(itemResourceURL), getLastCollectedSources(module));
+        DataModelTemplate<DataModelParameter> items = project
+                .findDataModelTemplate("src/main/resources/templates/ItemResource/items");
+        Assert.assertEquals(2, items.getParameters().size());
+        assertParameter("count", "int", true, items.getParameters(), 1);
+
+        // Remove the data() call, the items template of ItemResource is collected again
+        Assert.assertEquals(itemDataResourceURL, updateSource(module, "org/acme/qute/ItemDataResource.java", "org.acme.qute.ItemDataResource",
+                "package org.acme.qute;\n" + //
+                        "\n" + //
+                        "public class ItemDataResource {\n" + //
+                        "}\n"));
+        project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, getJDTUtils(), new EmptyProgressIndicator());
+        Assert.assertEquals(Set.of(itemResourceURL), getLastCollectedSources(module));
+        testTemplates(project);
+    }
+
+    private String updateSource(Module module, String path, String className, String content) throws Exception {
+        saveFile(path, content, module, true);
+        VirtualFile file = getSourceFile(className, module);
+        // Notify the change without waiting for the debounced notification of the classpath resource changed manager
+        DataModelProjectCache.getInstance(getProject()).sourceFilesChanged(Set.of(Pair.create(file, module)));
+        return file.getUrl();
+    }
+
+    private VirtualFile getSourceFile(String className, Module module) {
+        return ReadAction.compute(() -> {
+            PsiClass type = JavaPsiFacade.getInstance(getProject()).findClass(className,
+                    GlobalSearchScope.moduleScope(module));
+            Assert.assertNotNull(type);
+            return type.getContainingFile().getVirtualFile();
+        });
+    }
+
+    private String updateTemplates(Module module, String content) throws Exception {
+        saveFile("org/acme/qute/Templates.java", content, module, true);
+        VirtualFile file = ReadAction.compute(() -> {
+            PsiClass templates = JavaPsiFacade.getInstance(getProject()).findClass("org.acme.qute.Templates",
+                    GlobalSearchScope.moduleScope(module));
+            Assert.assertNotNull(templates);
+            return templates.getContainingFile().getVirtualFile();
+        });
+        // Notify the change without waiting for the debounced notification of the classpath resource changed manager
+        DataModelProjectCache.getInstance(getProject()).sourceFilesChanged(Set.of(Pair.create(file, module)));
+        return file.getUrl();
+    }
+
+    private Set<String> getLastCollectedSources(Module module) {
+        return DataModelProjectCache.getInstance(getProject()).getLastCollectedSources(module,
+                QuteProjectScope.SOURCES_AND_DEPENDENCIES);
+    }
+
     private static void testTemplates(DataModelProject<DataModelTemplate<DataModelParameter>> project) {
         List<DataModelTemplate<DataModelParameter>> templates = project.getTemplates();
         Assert.assertNotNull(templates);
@@ -15,12 +15,14 @@ import java.io.File;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
 import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
+import com.redhat.devtools.intellij.qute.psi.internal.template.JavaTypesSearch;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -28,6 +30,8 @@ import com.redhat.qute.commons.JavaTypeInfo;
 import com.redhat.qute.commons.JavaTypeKind;
 import com.redhat.qute.commons.QuteJavaTypesParams;
 
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
 /**
  * Tests for
  * {@link QuteSupportForTemplate#getJavaTypes(QuteJavaTypesParams, com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils, com.intellij.openapi.progress.ProgressIndicator)}
@@ -104,6 +108,57 @@ public class TemplateGetJavaTypeTest extends QuteMavenModuleImportingTestCase {
 				t("org.acme.qute.cyclic.ClassC", JavaTypeKind.Class));
 	}
 
+	@Test
+	public void testMaxResults() throws Exception {
+		// The best match is returned first: exact name, declared in the module
+		List<JavaTypeInfo> actual = ReadAction.compute(() -> new JavaTypesSearch("Item", module, 1)
+				.search(new EmptyProgressIndicator()));
+		assertJavaTypes(actual, 1, //
+				t("org.acme.qute.Item", JavaTypeKind.Class));
+
+		actual = ReadAction.compute(() -> new JavaTypesSearch("java.", module, 1)
+				.search(new EmptyProgressIndicator()));
+		Assert.assertEquals(1, actual.size());
+	}
+
+	@Test
+	public void testRanking() throws Exception {
+		// Exact match first, then the shortest names
+		JavaTypesSearch search = new JavaTypesSearch("ItemTemplates", module);
+		List<String> actual = ReadAction.compute(() -> getSignatures(search.search(new EmptyProgressIndicator())));
+		Assert.assertFalse(search.isIncomplete());
+		Assert.assertEquals(List.of("org.acme.qute.ItemTemplates", //
+				"org.acme.qute.ItemTemplatesCustomBasePath", //
+				"org.acme.qute.ItemTemplatesIgnoreFragments"), actual);
+
+		// The limited search returns the best ranked Java types and is marked as incomplete
+		JavaTypesSearch limitedSearch = new JavaTypesSearch("ItemTemplates", module, 2);
+		actual = ReadAction.compute(() -> getSignatures(limitedSearch.search(new EmptyProgressIndicator())));
+		Assert.assertTrue(limitedSearch.isIncomplete());
+		Assert.assertEquals(List.of("org.acme.qute.ItemTemplates", //
+				"org.acme.qute.ItemTemplatesCustomBasePath"), actual);
+	}
+
+	@Test
+	public void testRankingBySimpleName() throws Exception {
+		// The simple class name is shorter but the qualified name is longer than the other matches
+		saveFile("org/acme/qute/very/deep/sub/pkg/ItemTemplatesX.java", "package org.acme.qute.very.deep.sub.pkg;\n" + //
+				"\n" + //
+				"public class ItemTemplatesX {\n" + //
+				"}\n", module, true);
+
+		JavaTypesSearch search = new JavaTypesSearch("ItemTemplates", module);
+		List<String> actual = ReadAction.compute(() -> getSignatures(search.search(new EmptyProgressIndicator())));
+		Assert.assertEquals(List.of("org.acme.qute.ItemTemplates", //
+				"org.acme.qute.very.deep.sub.pkg.ItemTemplatesX", //
+				"org.acme.qute.ItemTemplatesCustomBasePath", //
+				"org.acme.qute.ItemTemplatesIgnoreFragments"), actual);
+	}
+
+	private static List<String> getSignatures(List<JavaTypeInfo> javaTypes) {
+		return javaTypes.stream().map(JavaTypeInfo::getSignature).collect(Collectors.toList());
+	}
+
 	public static JavaTypeInfo t(String typeName, JavaTypeKind kind) {
 		JavaTypeInfo javaType = new JavaTypeInfo();
 		javaType.setSignature(typeName);
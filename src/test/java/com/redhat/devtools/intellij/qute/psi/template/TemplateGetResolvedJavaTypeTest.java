@@ -21,6 +21,8 @@ import com.intellij.testFramework.IndexingTestUtil;
 import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
 import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
+import com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype.ResolvedJavaTypeCache;
+import com.redhat.devtools.intellij.qute.psi.template.QuteResolvedJavaTypesParams;
 import com.redhat.qute.commons.JavaTypeKind;
 import org.junit.Assert;
 import org.junit.Ignore;
@@ -502,6 +504,64 @@ public class TemplateGetResolvedJavaTypeTest extends QuteMavenModuleImportingTes
 		Assert.assertNull(syntheticMethod);
 	}
 
+	@Test
+	public void testcache() throws Exception {
+		ResolvedJavaTypeCache cache = ResolvedJavaTypeCache.getInstance(getTestFixture().getProject());
+
+		// Binary type
+		QuteResolvedJavaTypeParams params = new QuteResolvedJavaTypeParams("java.lang.String",
+				QuteMavenProjectName.qute_quickstart);
+		ResolvedJavaTypeInfo result = QuteSupportForTemplate.getInstance().getResolvedJavaType(params, getJDTUtils(),
+				new EmptyProgressIndicator());
+		long hitCount = cache.getHitCount();
+		long missCount = cache.getMissCount();
+		ResolvedJavaTypeInfo cachedResult = QuteSupportForTemplate.getInstance().getResolvedJavaType(params, getJDTUtils(),
+				new EmptyProgressIndicator());
+		Assert.assertSame(result, cachedResult);
+		Assert.assertEquals(hitCount + 1, cache.getHitCount());
+		Assert.assertEquals(missCount, cache.getMissCount());
+
+		// Source type
+		params = new QuteResolvedJavaTypeParams("org.acme.qute.Item", QuteMavenProjectName.qute_quickstart);
+		result = QuteSupportForTemplate.getInstance().getResolvedJavaType(params, getJDTUtils(),
+				new EmptyProgressIndicator());
+		cachedResult = QuteSupportForTemplate.getInstance().getResolvedJavaType(params, getJDTUtils(),
+				new EmptyProgressIndicator());
+		Assert.assertSame(result, cachedResult);
+		Assert.assertEquals(hitCount + 2, cache.getHitCount());
+		Assert.assertEquals(missCount + 1, cache.getMissCount());
+
+		// The libraries have changed
+		cache.librariesChanged();
+		cachedResult = QuteSupportForTemplate.getInstance().getResolvedJavaType(params, getJDTUtils(),
+				new EmptyProgressIndicator());
+		Assert.assertNotSame(result, cachedResult);
+		Assert.assertEquals(result.getSignature(), cachedResult.getSignature());
+		Assert.assertEquals(missCount + 2, cache.getMissCount());
+	}
+
+	@Test
+	public void testresolvedJavaTypes() throws Exception {
+		QuteResolvedJavaTypesParams params = new QuteResolvedJavaTypesParams(
+				List.of("org.acme.qute.Item", "java.lang.String", "org.acme.qute.Unknown"),
+				QuteMavenProjectName.qute_quickstart);
+		List<ResolvedJavaTypeInfo> result = QuteSupportForTemplate.getInstance().getResolvedJavaTypes(params,
+				getJDTUtils(), new EmptyProgressIndicator());
+		Assert.assertNotNull(result);
+		Assert.assertEquals(2, result.size());
+		Assert.assertEquals("org.acme.qute.Item", result.get(0).getSignature());
+		Assert.assertEquals("java.lang.String", result.get(1).getSignature());
+
+		// With super types
+		params.setIncludeSuperTypes(true);
+		result = QuteSupportForTemplate.getInstance().getResolvedJavaTypes(params, getJDTUtils(),
+				new EmptyProgressIndicator());
+		Assert.assertEquals("org.acme.qute.Item", result.get(0).getSignature());
+		Assert.assertEquals("java.lang.String", result.get(1).getSignature());
+		Assert.assertTrue(result.stream().anyMatch(type -> "java.lang.CharSequence".equals(type.getSignature())));
+		Assert.assertEquals(1, result.stream().filter(type -> "java.lang.Object".equals(type.getSignature())).count());
+	}
+
 	@Test
 	public void testgeneric() throws Exception {
 
@@ -15,6 +15,7 @@ import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
 import org.eclipse.lsp4mp.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
@@ -62,6 +63,45 @@ public class MavenQuarkusConfigRootTest extends QuarkusMavenModuleImportingTestC
                         CONFIG_PHASE_BUILD_TIME, null));
     }
 
+    public void testLazyPropertyDocumentation() throws Exception {
+        Module module = loadMavenProject(QuarkusMavenProjectName.hibernate_orm_resteasy, true);
+        // The description is collected by default
+        Optional<ItemMetadata> eagerDialect = findDialect(module);
+        Assert.assertTrue(eagerDialect.isPresent());
+        Assert.assertNotNull(eagerDialect.get().getDescription());
+
+        UserDefinedMicroProfileSettings settings = UserDefinedMicroProfileSettings.getInstance(getProject());
+        settings.setLazyPropertyDocumentationEnabled(true);
+        try {
+            // The properties cached with documentation are not reused
+            Optional<ItemMetadata> dialect = findDialect(module);
+            Assert.assertTrue(dialect.isPresent());
+            // The description is not collected
+            Assert.assertNull(dialect.get().getDescription());
+
+            // The description is resolved on demand
+            String documentation = PropertiesManager.getInstance().getPropertyDocumentation(module,
+                    dialect.get().getSourceType(), dialect.get().getSourceField(), dialect.get().getSourceMethod(),
+                    DocumentFormat.PlainText, PsiUtilsLSImpl.getInstance(getProject()));
+            Assert.assertNotNull(documentation);
+            Assert.assertTrue(documentation.startsWith("Class name of the Hibernate ORM dialect."));
+        } finally {
+            settings.setLazyPropertyDocumentationEnabled(false);
+        }
+
+        // The properties cached without documentation are not reused
+        Optional<ItemMetadata> dialect = findDialect(module);
+        Assert.assertTrue(dialect.isPresent());
+        Assert.assertEquals(eagerDialect.get().getDescription(), dialect.get().getDescription());
+    }
+
+    private Optional<ItemMetadata> findDialect(Module module) {
+        MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(module, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, PsiUtilsLSImpl.getInstance(getProject()), DocumentFormat.PlainText, new EmptyProgressIndicator());
+        return info.getProperties().stream()
+                .filter(property -> "quarkus.hibernate-orm.dialect".equals(property.getName()))
+                .findFirst();
+    }
+
     public void testAllQuarkusExtensions() throws Exception {
         Module module = loadMavenProject(QuarkusMavenProjectName.all_quarkus_extensions, true);
         MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(module, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, PsiUtilsLSImpl.getInstance(getProject()), DocumentFormat.PlainText, new EmptyProgressIndicator());
@@ -0,0 +1,91 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.psi.quarkus.config;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.quarkus.psi.internal.providers.QuarkusConfigSourceProvider;
+import com.redhat.microprofile.psi.quarkus.QuarkusMavenModuleImportingTestCase;
+import com.redhat.microprofile.psi.quarkus.QuarkusMavenProjectName;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Test for the resolution of the properties of a Quarkus project with several config sources
+ * (application.properties, application-${profile}.properties, application.yaml).
+ */
+public class QuarkusConfigPropertiesResolutionTest extends QuarkusMavenModuleImportingTestCase {
+
+	private static final int PROPERTIES_COUNT = 2000;
+
+	private static final int LOOKUPS_COUNT = 100000;
+
+	@Test
+	public void testPropertiesResolution() throws Exception {
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.config_hover);
+
+		StringBuilder properties = new StringBuilder("app.prefix = hello\n");
+		StringBuilder fooProperties = new StringBuilder();
+		StringBuilder yaml = new StringBuilder("app:\n");
+		for (int i = 0; i < PROPERTIES_COUNT; i++) {
+			properties.append("app.property").append(i).append(" = ${app.prefix}-").append(i).append('\n');
+			properties.append("%dev.app.property").append(i).append(" = dev-").append(i).append('\n');
+			fooProperties.append("app.property").append(i).append(" = foo-").append(i).append('\n');
+			if (i % 2 == 0) {
+				yaml.append("  property").append(i).append(": yaml-").append(i).append('\n');
+			}
+		}
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, properties.toString(), javaProject);
+		saveFile("application-foo.properties", fooProperties.toString(), javaProject);
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_YAML_FILE, yaml.toString(), javaProject);
+
+		PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(getProject())
+				.getMicroProfileProject(javaProject);
+
+		ReadAction.run(() -> {
+			// application.yaml has a bigger ordinal than application.properties
+			assertEquals("yaml-0", mpProject.getProperty("app.property0"));
+			// the expression of application.properties is expanded
+			assertEquals("hello-1", mpProject.getProperty("app.property1"));
+			assertEquals("dev-1", mpProject.getProperty("%dev.app.property1"));
+			assertEquals("foo-1", mpProject.getProperty("%foo.app.property1"));
+			assertNull(mpProject.getProperty("app.unknown"));
+			assertEquals("default", mpProject.getProperty("app.unknown", "default"));
+
+			List<MicroProfileConfigPropertyInformation> infos = mpProject.getPropertyInformations("app.property1");
+			assertEquals(List.of("%dev.app.property1=dev-1", "%foo.app.property1=foo-1", "app.property1=hello-1"),
+					infos.stream().map(info -> info.getPropertyNameWithProfile() + "=" + info.getValue())
+							.collect(Collectors.toList()));
+
+			for (int i = 0; i < LOOKUPS_COUNT; i++) {
+				int index = i % PROPERTIES_COUNT;
+				String expected = index % 2 == 0 ? "yaml-" + index : "hello-" + index;
+				assertEquals(expected, mpProject.getProperty("app.property" + index));
+				assertEquals(3, mpProject.getPropertyInformations("app.property" + index).size());
+			}
+		});
+
+		// Update a config source
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, "app.prefix = bye\napp.property1 = ${app.prefix}-1", javaProject);
+		ReadAction.run(() -> {
+			assertEquals("bye-1", mpProject.getProperty("app.property1"));
+			assertEquals("yaml-0", mpProject.getProperty("app.property0"));
+			assertNull(mpProject.getProperty("%dev.app.property1"));
+		});
+	}
+
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.psi.quarkus.jaxrs;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsIndex;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import com.redhat.microprofile.psi.quarkus.QuarkusMavenModuleImportingTestCase;
+import com.redhat.microprofile.psi.quarkus.QuarkusMavenProjectName;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.deleteFile;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Tests for {@link JaxRsIndex}.
+ */
+public class JaxRsIndexTest extends QuarkusMavenModuleImportingTestCase {
+
+	private static final String NEW_RESOURCE = "package org.acme.config;\n" + //
+			"\n" + //
+			"import javax.ws.rs.GET;\n" + //
+			"import javax.ws.rs.Path;\n" + //
+			"\n" + //
+			"@Path(\"/new\")\n" + //
+			"public class NewResource {\n" + //
+			"\n" + //
+			"    @GET\n" + //
+			"    public String hello() {\n" + //
+			"        return \"hello\";\n" + //
+			"    }\n" + //
+			"}\n";
+
+	@Test
+	public void testInitialScan() throws Exception {
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.config_quickstart);
+
+		assertEquals(List.of("/greeting", "/greeting/constructor", "/greeting/hello", "/greeting/hello4", "/greeting/method"),
+				getAllPaths(javaProject));
+	}
+
+	@Test
+	public void testSavedFile() throws Exception {
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.config_quickstart);
+		assertFalse(getAllPaths(javaProject).contains("/new"));
+
+		// A new JAX-RS resource is created
+		saveFile("org/acme/config/NewResource.java", NEW_RESOURCE, javaProject, true);
+		sourceFileChanged("org/acme/config/NewResource.java", javaProject);
+		assertEquals(List.of("/greeting", "/greeting/constructor", "/greeting/hello", "/greeting/hello4", "/greeting/method", "/new"),
+				getAllPaths(javaProject));
+
+		// The JAX-RS method is updated
+		saveFile("org/acme/config/NewResource.java", NEW_RESOURCE.replace("@Path(\"/new\")", "@Path(\"/updated\")"), javaProject, true);
+		sourceFileChanged("org/acme/config/NewResource.java", javaProject);
+		assertEquals(List.of("/greeting", "/greeting/constructor", "/greeting/hello", "/greeting/hello4", "/greeting/method", "/updated"),
+				getAllPaths(javaProject));
+
+		// The Java file doesn't declare JAX-RS methods anymore
+		saveFile("org/acme/config/NewResource.java", NEW_RESOURCE.replace("    @GET\n", ""), javaProject, true);
+		sourceFileChanged("org/acme/config/NewResource.java", javaProject);
+		assertEquals(List.of("/greeting", "/greeting/constructor", "/greeting/hello", "/greeting/hello4", "/greeting/method"),
+				getAllPaths(javaProject));
+	}
+
+	@Test
+	public void testDeletedFile() throws Exception {
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.config_quickstart);
+		assertTrue(getAllPaths(javaProject).contains("/greeting/method"));
+
+		VirtualFile file = findSourceFile("org/acme/config/GreetingMethodResource.java", javaProject);
+		deleteFile("org/acme/config/GreetingMethodResource.java", javaProject);
+		JaxRsIndex.getInstance(getProject()).sourceFilesChanged(Set.of(Pair.pair(file, javaProject)));
+		assertEquals(List.of("/greeting", "/greeting/constructor", "/greeting/hello", "/greeting/hello4"),
+				getAllPaths(javaProject));
+	}
+
+	@Test
+	public void testApplicationPath() throws Exception {
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.config_quickstart);
+		JaxRsIndex index = JaxRsIndex.getInstance(getProject());
+		assertNull(ReadAction.compute(() -> index.getApplicationPath(javaProject)));
+
+		// A Java file which doesn't declare @ApplicationPath changes
+		saveFile("org/acme/config/NewResource.java", NEW_RESOURCE, javaProject, true);
+		sourceFileChanged("org/acme/config/NewResource.java", javaProject);
+		assertNull(ReadAction.compute(() -> index.getApplicationPath(javaProject)));
+
+		// A Java file declares @ApplicationPath
+		String application = "package org.acme.config;\n" + //
+				"\n" + //
+				"import javax.ws.rs.ApplicationPath;\n" + //
+				"import javax.ws.rs.core.Application;\n" + //
+				"\n" + //
+				"@ApplicationPath(\"/api\")\n" + //
+				"public class MyApplication extends Application {\n" + //
+				"}\n";
+		saveFile("org/acme/config/MyApplication.java", application, javaProject, true);
+		sourceFileChanged("org/acme/config/MyApplication.java", javaProject);
+		assertEquals("/api", ReadAction.compute(() -> index.getApplicationPath(javaProject)));
+
+		// The Java file which declares @ApplicationPath is updated
+		saveFile("org/acme/config/MyApplication.java", application.replace("/api", "/v2"), javaProject, true);
+		sourceFileChanged("org/acme/config/MyApplication.java", javaProject);
+		assertEquals("/v2", ReadAction.compute(() -> index.getApplicationPath(javaProject)));
+
+		// The Java file doesn't declare @ApplicationPath anymore
+		saveFile("org/acme/config/MyApplication.java", application.replace("@ApplicationPath(\"/api\")\n", ""), javaProject, true);
+		sourceFileChanged("org/acme/config/MyApplication.java", javaProject);
+		assertNull(ReadAction.compute(() -> index.getApplicationPath(javaProject)));
+	}
+
+	@Test
+	public void testReactiveRoute() throws Exception {
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.quarkus_route);
+
+		// The reactive routes are not returned by ReactiveRouteJaxRsInfoProvider#getAllJaxRsClasses
+		assertEquals(List.of(), getAllPaths(javaProject));
+
+		// The update of a reactive route uses the same rule as the scan
+		String content = new String(findSourceFile("org/acme/reactive/routes/SimpleRoutes.java", javaProject).contentsToByteArray());
+		saveFile("org/acme/reactive/routes/SimpleRoutes.java", content.replace("\"ping\"", "\"pong\""), javaProject, true);
+		sourceFileChanged("org/acme/reactive/routes/SimpleRoutes.java", javaProject);
+		assertEquals(List.of(), getAllPaths(javaProject));
+	}
+
+	private List<String> getAllPaths(Module javaProject) {
+		List<JaxRsMethodInfo> methodInfos = ReadAction.compute(() -> JaxRsIndex.getInstance(getProject())
+				.getAllJaxRsMethodInfo(new JaxRsContext(javaProject), PsiUtilsLSImpl.getInstance(getProject()), new EmptyProgressIndicator()));
+		return methodInfos.stream()
+				.map(methodInfo -> URI.create(methodInfo.getUrl()).getPath())
+				.sorted()
+				.collect(Collectors.toList());
+	}
+
+	private void sourceFileChanged(String name, Module javaProject) {
+		// Notify the change without waiting for the debounced notification of the classpath resource changed manager
+		JaxRsIndex.getInstance(getProject()).sourceFilesChanged(Set.of(Pair.pair(findSourceFile(name, javaProject), javaProject)));
+	}
+
+	private static VirtualFile findSourceFile(String name, Module javaProject) {
+		for (VirtualFile folder : ModuleRootManager.getInstance(javaProject).getSourceRoots(false)) {
+			VirtualFile file = folder.findFileByRelativePath(name);
+			if (file != null) {
+				return file;
+			}
+		}
+		fail("Cannot find " + name);
+		return null;
+	}
+}